@@ -30,6 +30,8 @@ import org.jboss.weld.bootstrap.events.AbstractContainerEvent;
 import org.jboss.weld.environment.se.beans.ParametersFactory;
 import org.jboss.weld.environment.se.contexts.ThreadContext;
 import org.jboss.weld.environment.se.contexts.activators.ActivateThreadScopeInterceptor;
+import org.jboss.weld.environment.se.threading.CallableDecorator;
+import org.jboss.weld.environment.se.threading.ExecutorServiceDecorator;
 import org.jboss.weld.environment.se.threading.RunnableDecorator;
 import org.jboss.weld.util.annotated.VetoedSuppressedAnnotatedType;
 
@@ -49,6 +51,8 @@ public class WeldSEBeanRegistrant implements Extension {
         }
         event.addAnnotatedType(VetoedSuppressedAnnotatedType.from(ParametersFactory.class, manager), ParametersFactory.class.getName());
         event.addAnnotatedType(VetoedSuppressedAnnotatedType.from(RunnableDecorator.class, manager), RunnableDecorator.class.getName());
+        event.addAnnotatedType(VetoedSuppressedAnnotatedType.from(CallableDecorator.class, manager), CallableDecorator.class.getName());
+        event.addAnnotatedType(VetoedSuppressedAnnotatedType.from(ExecutorServiceDecorator.class, manager), ExecutorServiceDecorator.class.getName());
         event.addAnnotatedType(VetoedSuppressedAnnotatedType.from(ActivateThreadScopeInterceptor.class, manager),
                 ActivateThreadScopeInterceptor.class.getName());
     }
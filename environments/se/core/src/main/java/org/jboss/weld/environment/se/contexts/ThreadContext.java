@@ -18,14 +18,20 @@
 package org.jboss.weld.environment.se.contexts;
 
 import java.lang.annotation.Annotation;
+import java.util.concurrent.Callable;
 
 import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
 import org.jboss.weld.contexts.AbstractUnboundContext;
+import org.jboss.weld.contexts.beanstore.BeanStore;
 import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
 
 /**
  * The thread context. Works with @ThreadScoped beans, maintaining a separate
  * context for each thread.
+ * <p>
+ * The bean store is only created once a bean store is needed within the activated context, i.e. tasks which do not use any &#064;ThreadScoped bean
+ * do not allocate a bean store.
+ * </p>
  *
  * @author Nicklas Karlsson
  * @author Peter Royle
@@ -45,10 +51,71 @@ public class ThreadContext extends AbstractUnboundContext {
         return ThreadScoped.class;
     }
 
+    /**
+     * Runs the given task within the thread context. If the context is already active on the current thread, the task is executed within the active
+     * context. Otherwise, the context is activated before and destroyed after the task is executed.
+     *
+     * @param task
+     */
+    public void run(Runnable task) {
+        if (isActive()) {
+            task.run();
+            return;
+        }
+        try {
+            activate();
+            task.run();
+        } finally {
+            invalidate();
+            deactivate();
+        }
+    }
+
+    /**
+     * Calls the given task within the thread context. If the context is already active on the current thread, the task is executed within the active
+     * context. Otherwise, the context is activated before and destroyed after the task is executed.
+     *
+     * @param task
+     * @return the result of the task
+     * @throws Exception
+     */
+    public <V> V call(Callable<V> task) throws Exception {
+        if (isActive()) {
+            return task.call();
+        }
+        try {
+            activate();
+            return task.call();
+        } finally {
+            invalidate();
+            deactivate();
+        }
+    }
+
     @Override
     public void activate() {
         super.activate();
-        setBeanStore(new HashMapBeanStore());
+        if (super.getBeanStore() != null) {
+            // the bean store of the previous activation is not reused
+            setBeanStore(null);
+        }
+    }
+
+    @Override
+    protected BeanStore getBeanStore() {
+        BeanStore beanStore = super.getBeanStore();
+        if (beanStore == null && isActive()) {
+            beanStore = new HashMapBeanStore();
+            setBeanStore(beanStore);
+        }
+        return beanStore;
+    }
+
+    @Override
+    protected void destroy() {
+        if (super.getBeanStore() != null) {
+            super.destroy();
+        }
     }
 
 }
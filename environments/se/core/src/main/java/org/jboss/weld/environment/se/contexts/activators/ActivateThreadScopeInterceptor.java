@@ -46,18 +46,7 @@ public class ActivateThreadScopeInterceptor {
 
     @AroundInvoke
     Object intercept(InvocationContext invocationContext) throws Exception {
-
-        if (!threadContext.isActive()) {
-            try {
-                threadContext.activate();
-                return invocationContext.proceed();
-            } finally {
-                threadContext.invalidate();
-                threadContext.deactivate();
-            }
-        } else {
-            return invocationContext.proceed();
-        }
+        return threadContext.call(invocationContext::proceed);
     }
 
 }
@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.threading;
+
+import java.util.concurrent.Callable;
+
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.environment.se.WeldSEBeanRegistrant;
+import org.jboss.weld.environment.se.contexts.ThreadContext;
+
+/**
+ * Decorator for all beans which implements Callable. It intercepts the call
+ * to the call() method to set up the ThreadContext so that instances of
+ * &#064;ThreadScoped beans can be correctly resolved.
+ *
+ * @param <V> the result type
+ * @see RunnableDecorator
+ */
+@Decorator
+public class CallableDecorator<V> implements Callable<V> {
+
+    @Inject
+    @Delegate
+    Callable<V> callable;
+
+    private final ThreadContext threadContext;
+
+    @Inject
+    public CallableDecorator(WeldSEBeanRegistrant extension) {
+        this.threadContext = extension.getThreadContext();
+    }
+
+    /**
+     * Set up the ThreadContext and delegate.
+     */
+    @Override
+    public V call() throws Exception {
+        return threadContext.call(callable);
+    }
+
+}
@@ -44,23 +44,13 @@ public class RunnableDecorator implements Runnable {
         this.threadContext = extension.getThreadContext();
     }
 
-
-
     /**
-     * Set up the ThreadContext and delegate.
+     * Set up the ThreadContext and delegate. If the ThreadContext is already active, e.g. if the runnable is executed synchronously by another task,
+     * the active ThreadContext is used.
      */
     @Override
     public void run() {
-        try {
-            threadContext.activate();
-            // run the original thread
-            runnable.run();
-        } finally {
-            threadContext.invalidate();
-            threadContext.deactivate();
-        }
-
+        threadContext.run(runnable);
     }
 
-
 }
@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.beans.threading.executor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.impl.BeansXml;
+import org.jboss.weld.environment.se.test.beans.threading.Counter;
+import org.jboss.weld.environment.se.test.beans.threading.ThreadCounter;
+import org.jboss.weld.environment.se.threading.CallableDecorator;
+import org.jboss.weld.environment.se.threading.ExecutorServiceDecorator;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for the CallableDecorator and the ExecutorServiceDecorator.
+ */
+@RunWith(Arquillian.class)
+public class ThreadContextDecoratorsTest {
+
+    private static final int TASKS = 10;
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class)
+                .addAsManifestResource(new BeansXml().decorators(CallableDecorator.class, ExecutorServiceDecorator.class), "beans.xml")
+                .addClasses(Counter.class, ThreadCounter.class).addPackage(ThreadContextDecoratorsTest.class.getPackage());
+    }
+
+    @Test
+    public void testCallableDecorator(CountingTask task) throws Exception {
+        // the thread context is destroyed after each call
+        assertEquals(Integer.valueOf(1), task.call());
+        assertEquals(Integer.valueOf(1), task.call());
+    }
+
+    @Test
+    public void testExecutorServiceDecorator(TaskExecutor executor, ThreadCounter counter) throws Exception {
+        assertEquals(Integer.valueOf(1), executor.submit(() -> counter.increment()).get());
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(() -> counter.increment());
+        }
+        for (Future<Integer> result : executor.invokeAll(tasks)) {
+            assertEquals(Integer.valueOf(1), result.get());
+        }
+    }
+
+}
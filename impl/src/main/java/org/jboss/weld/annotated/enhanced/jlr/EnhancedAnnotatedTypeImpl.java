@@ -48,6 +48,7 @@ import org.jboss.weld.annotated.slim.backed.BackedAnnotatedType;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.interceptor.util.InterceptionTypeRegistry;
 import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.collections.ListMultimap;
 import org.jboss.weld.util.collections.Multimap;
@@ -90,31 +91,10 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
     // Class attributes
     private final EnhancedAnnotatedType<? super T> superclass;
 
-    // The set of abstracted fields
-    private final Set<EnhancedAnnotatedField<?, ? super T>> fields;
-    // The map from annotation type to abstracted field with annotation
-    private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ?>> annotatedFields;
-
-    // The set of abstracted fields
-    private final Set<EnhancedAnnotatedField<?, ? super T>> declaredFields;
-    // The map from annotation type to abstracted field with annotation
-    private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ? super T>> declaredAnnotatedFields;
-
-    // The set of abstracted methods
-    private final Set<EnhancedAnnotatedMethod<?, ? super T>> methods;
-    // The map from annotation type to abstracted method with annotation
-    private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> annotatedMethods;
-    // Methods that are overridden by other methods
-    private Set<EnhancedAnnotatedMethod<?, ? super T>> overriddenMethods;
-
-    private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> annotatedMethodsByAnnotatedParameters;
-
-    // The set of abstracted methods
-    private final Set<EnhancedAnnotatedMethod<?, ? super T>> declaredMethods;
-    // The map from annotation type to abstracted method with annotation
-    private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> declaredAnnotatedMethods;
-    // The map from annotation type to method with a parameter with annotation
-    private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> declaredMethodsByAnnotatedParameters;
+    // Fields and methods are only processed once asked for - e.g. a superclass is often only needed for its declared methods and an interface for its
+    // default methods
+    private final LazyValueHolder<EnhancedFields> fields;
+    private final LazyValueHolder<EnhancedMethods> methods;
 
     // The set of abstracted constructors
     private final Set<EnhancedAnnotatedConstructor<T>> constructors;
@@ -128,6 +108,8 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
 
     private final SlimAnnotatedType<T> slim;
 
+    private final ClassTransformer classTransformer;
+
 
     public static <T> EnhancedAnnotatedType<T> of(SlimAnnotatedType<T> annotatedType, ClassTransformer classTransformer) {
         if (annotatedType instanceof BackedAnnotatedType<?>) {
@@ -137,10 +119,10 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
         }
     }
 
-    @SuppressWarnings("unchecked")
     protected EnhancedAnnotatedTypeImpl(SlimAnnotatedType<T> annotatedType, Map<Class<? extends Annotation>, Annotation> annotationMap, Map<Class<? extends Annotation>, Annotation> declaredAnnotationMap, ClassTransformer classTransformer) {
         super(annotatedType, annotationMap, declaredAnnotationMap, classTransformer);
         this.slim = annotatedType;
+        this.classTransformer = classTransformer;
         discovered = annotatedType instanceof BackedAnnotatedType<?>;
 
         if (discovered) {
@@ -154,17 +136,36 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
             this.superclass = classTransformer.getEnhancedAnnotatedType(Object.class, AnnotatedTypeIdentifier.NULL_BDA_ID);
         }
 
+        // Assign constructor information - needed to find out whether the type is a managed bean
+        this.constructors = new HashSet<EnhancedAnnotatedConstructor<T>>();
+
+        this.declaredConstructorsBySignature = new HashMap<ConstructorSignature, EnhancedAnnotatedConstructor<?>>();
+        for (AnnotatedConstructor<T> constructor : annotatedType.getConstructors()) {
+            EnhancedAnnotatedConstructor<T> weldConstructor = EnhancedAnnotatedConstructorImpl.of(constructor, this, classTransformer);
+            this.constructors.add(weldConstructor);
+            this.declaredConstructorsBySignature.put(weldConstructor.getSignature(), weldConstructor);
+        }
+
+        SetMultimap<Class<? extends Annotation>, Annotation> declaredMetaAnnotationMap = SetMultimap.newSetMultimap();
+        processMetaAnnotations(declaredMetaAnnotationMap, declaredAnnotationMap.values(), classTransformer, true);
+        this.declaredMetaAnnotationMap = Multimaps.unmodifiableMultimap(declaredMetaAnnotationMap);
+
+        this.fields = LazyValueHolder.forSupplier(this::initFields);
+        this.methods = LazyValueHolder.forSupplier(this::initMethods);
+    }
+
+    private EnhancedFields initFields() {
         // Assign class field information
         Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ? super T>> declaredAnnotatedFields = new ListMultimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ? super T>>();
-        Set<EnhancedAnnotatedField<?, ? super T>> fieldsTemp = null;
+        Set<EnhancedAnnotatedField<?, ? super T>> fieldsTemp = Collections.emptySet();
         ArrayList<EnhancedAnnotatedField<?, ? super T>> declaredFieldsTemp = new ArrayList<EnhancedAnnotatedField<?, ? super T>>();
+        Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ?>> annotatedFields = null;
 
-        Class<T> javaClass = annotatedType.getJavaClass();
+        Class<T> javaClass = slim.getJavaClass();
 
         if (discovered) {
-            this.annotatedFields = null;
             if (javaClass != Object.class) {
-                for (AnnotatedField<? super T> field : annotatedType.getFields()) {
+                for (AnnotatedField<? super T> field : slim.getFields()) {
                     if (field.getJavaMember().getDeclaringClass().equals(javaClass)) {
                         EnhancedAnnotatedField<?, ? super T> annotatedField = EnhancedAnnotatedFieldImpl.of(field, this, classTransformer);
                         declaredFieldsTemp.add(annotatedField);
@@ -178,11 +179,10 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
                     fieldsTemp = Sets.union(fieldsTemp, Reflections.<Set<EnhancedAnnotatedField<?, ? super T>>>cast(superclass.getFields()));
                 }
             }
-            this.declaredFields = new HashSet<EnhancedAnnotatedField<?, ? super T>>(declaredFieldsTemp);
         } else {
-            Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ?>> annotatedFields = new ListMultimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ?>>();
+            annotatedFields = new ListMultimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ?>>();
             fieldsTemp = new HashSet<EnhancedAnnotatedField<?, ? super T>>();
-            for (AnnotatedField<? super T> annotatedField : annotatedType.getFields()) {
+            for (AnnotatedField<? super T> annotatedField : slim.getFields()) {
                 EnhancedAnnotatedField<?, ? super T> weldField = EnhancedAnnotatedFieldImpl.of(annotatedField, this, classTransformer);
                 fieldsTemp.add(weldField);
                 if (annotatedField.getDeclaringType().getJavaClass().equals(javaClass)) {
@@ -195,31 +195,27 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
                     }
                 }
             }
-            this.annotatedFields = Multimaps.unmodifiableMultimap(annotatedFields);
-            this.declaredFields = new HashSet<EnhancedAnnotatedField<?, ? super T>>(declaredFieldsTemp);
-        }
-        this.fields = fieldsTemp;
-        this.declaredAnnotatedFields = Multimaps.unmodifiableMultimap(declaredAnnotatedFields);
-
-        // Assign constructor information
-        this.constructors = new HashSet<EnhancedAnnotatedConstructor<T>>();
-
-        this.declaredConstructorsBySignature = new HashMap<ConstructorSignature, EnhancedAnnotatedConstructor<?>>();
-        for (AnnotatedConstructor<T> constructor : annotatedType.getConstructors()) {
-            EnhancedAnnotatedConstructor<T> weldConstructor = EnhancedAnnotatedConstructorImpl.of(constructor, this, classTransformer);
-            this.constructors.add(weldConstructor);
-            this.declaredConstructorsBySignature.put(weldConstructor.getSignature(), weldConstructor);
+            annotatedFields = Multimaps.unmodifiableMultimap(annotatedFields);
         }
+        return new EnhancedFields(fieldsTemp, new HashSet<EnhancedAnnotatedField<?, ? super T>>(declaredFieldsTemp), annotatedFields,
+                Multimaps.unmodifiableMultimap(declaredAnnotatedFields));
+    }
 
+    @SuppressWarnings("unchecked")
+    private EnhancedMethods initMethods() {
         // Assign method information
         Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> declaredAnnotatedMethods = new ListMultimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>>();
         Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> declaredMethodsByAnnotatedParameters = new ListMultimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>>();
 
         Set<EnhancedAnnotatedMethod<?, ? super T>> methodsTemp = new HashSet<EnhancedAnnotatedMethod<?,? super T>>();
         ArrayList<EnhancedAnnotatedMethod<?, ? super T>> declaredMethodsTemp = new ArrayList<EnhancedAnnotatedMethod<?, ? super T>>();
+        Set<EnhancedAnnotatedMethod<?, ? super T>> declaredMethods;
+
+        Class<T> javaClass = slim.getJavaClass();
+
         if (discovered) {
             if (!(javaClass.equals(Object.class))) {
-                for (AnnotatedMethod<? super T> method : annotatedType.getMethods()) {
+                for (AnnotatedMethod<? super T> method : slim.getMethods()) {
                     if (method.getJavaMember().getDeclaringClass().equals(javaClass)) {
                         EnhancedAnnotatedMethod<?, ? super T> weldMethod = EnhancedAnnotatedMethodImpl.of(method, this, classTransformer);
                         declaredMethodsTemp.add(weldMethod);
@@ -253,9 +249,9 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
                 }
 
             }
-            this.declaredMethods = new HashSet<>(declaredMethodsTemp);
+            declaredMethods = new HashSet<>(declaredMethodsTemp);
         } else {
-            for (AnnotatedMethod<? super T> method : annotatedType.getMethods()) {
+            for (AnnotatedMethod<? super T> method : slim.getMethods()) {
                 EnhancedAnnotatedMethod<?, ? super T> enhancedMethod = EnhancedAnnotatedMethodImpl.of(method, this, classTransformer);
                 methodsTemp.add(enhancedMethod);
                 if (method.getJavaMember().getDeclaringClass().equals(javaClass)) {
@@ -274,22 +270,17 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
                     }
                 }
             }
-            this.declaredMethods = ImmutableSet.copyOf(declaredMethodsTemp);
+            declaredMethods = ImmutableSet.copyOf(declaredMethodsTemp);
         }
-        this.declaredAnnotatedMethods = Multimaps.unmodifiableMultimap(declaredAnnotatedMethods);
-        this.declaredMethodsByAnnotatedParameters = Multimaps.unmodifiableMultimap(declaredMethodsByAnnotatedParameters);
 
-        SetMultimap<Class<? extends Annotation>, Annotation> declaredMetaAnnotationMap = SetMultimap.newSetMultimap();
-        processMetaAnnotations(declaredMetaAnnotationMap, declaredAnnotationMap.values(), classTransformer, true);
-        this.declaredMetaAnnotationMap = Multimaps.unmodifiableMultimap(declaredMetaAnnotationMap);
-        this.overriddenMethods = getOverriddenMethods(this, methodsTemp);
+        Set<EnhancedAnnotatedMethod<?, ? super T>> overriddenMethods = getOverriddenMethods(this, methodsTemp);
 
         // WELD-1548 remove all overriden methods except for those which are overriden by a bridge method
         methodsTemp.removeAll(getOverriddenMethods(this, methodsTemp, true));
 
-        this.methods = methodsTemp;
-        this.annotatedMethods = buildAnnotatedMethodMultimap(this.methods);
-        this.annotatedMethodsByAnnotatedParameters = buildAnnotatedParameterMethodMultimap(this.methods);
+        return new EnhancedMethods(methodsTemp, declaredMethods, overriddenMethods, buildAnnotatedMethodMultimap(methodsTemp),
+                buildAnnotatedParameterMethodMultimap(methodsTemp), Multimaps.unmodifiableMultimap(declaredAnnotatedMethods),
+                Multimaps.unmodifiableMultimap(declaredMethodsByAnnotatedParameters));
     }
 
     protected Set<EnhancedAnnotatedMethod<?, ? super T>> getOverriddenMethods(EnhancedAnnotatedType<T> annotatedType,
@@ -386,17 +377,17 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
      */
     @Override
     public Collection<EnhancedAnnotatedField<?, ? super T>> getEnhancedFields() {
-        return Collections.unmodifiableCollection(fields);
+        return Collections.unmodifiableCollection(fields.get().fields);
     }
 
     @Override
     public Collection<EnhancedAnnotatedField<?, ? super T>> getDeclaredEnhancedFields() {
-        return Collections.unmodifiableCollection(declaredFields);
+        return Collections.unmodifiableCollection(fields.get().declaredFields);
     }
 
     @Override
     public <F> EnhancedAnnotatedField<F, ?> getDeclaredEnhancedField(String fieldName) {
-        for (EnhancedAnnotatedField<?, ?> field : declaredFields) {
+        for (EnhancedAnnotatedField<?, ?> field : fields.get().declaredFields) {
             if (field.getName().equals(fieldName)) {
                 return cast(field);
             }
@@ -406,7 +397,7 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
 
     @Override
     public Collection<EnhancedAnnotatedField<?, ? super T>> getDeclaredEnhancedFields(Class<? extends Annotation> annotationType) {
-        return declaredAnnotatedFields.get(annotationType);
+        return fields.get().declaredAnnotatedFields.get(annotationType);
     }
 
     @Override
@@ -424,16 +415,17 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
      */
     @Override
     public Collection<EnhancedAnnotatedField<?, ?>> getEnhancedFields(Class<? extends Annotation> annotationType) {
-        if (annotatedFields == null) {
+        EnhancedFields fields = this.fields.get();
+        if (fields.annotatedFields == null) {
             // Build collection from class hierarchy
-            ArrayList<EnhancedAnnotatedField<?, ?>> aggregatedFields = new ArrayList<EnhancedAnnotatedField<?, ?>>(this.declaredAnnotatedFields.get(annotationType));
+            ArrayList<EnhancedAnnotatedField<?, ?>> aggregatedFields = new ArrayList<EnhancedAnnotatedField<?, ?>>(fields.declaredAnnotatedFields.get(annotationType));
             if ((superclass != null) && (superclass.getJavaClass() != Object.class)) {
                 aggregatedFields.addAll(superclass.getEnhancedFields(annotationType));
             }
             return Collections.unmodifiableCollection(aggregatedFields);
         } else {
             // Return results collected directly from AnnotatedType
-            return annotatedFields.get(annotationType);
+            return fields.annotatedFields.get(annotationType);
         }
     }
 
@@ -479,12 +471,12 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
      */
     @Override
     public Collection<EnhancedAnnotatedMethod<?, ? super T>> getEnhancedMethods(Class<? extends Annotation> annotationType) {
-        return Collections.unmodifiableCollection(annotatedMethods.get(annotationType));
+        return Collections.unmodifiableCollection(methods.get().annotatedMethods.get(annotationType));
     }
 
     @Override
     public Collection<EnhancedAnnotatedMethod<?, ? super T>> getDeclaredEnhancedMethods(Class<? extends Annotation> annotationType) {
-        return Collections.unmodifiableCollection(declaredAnnotatedMethods.get(annotationType));
+        return Collections.unmodifiableCollection(methods.get().declaredAnnotatedMethods.get(annotationType));
     }
 
     @Override
@@ -519,22 +511,22 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
 
     @Override
     public Collection<EnhancedAnnotatedMethod<?, ? super T>> getDeclaredEnhancedMethodsWithAnnotatedParameters(Class<? extends Annotation> annotationType) {
-        return Collections.unmodifiableCollection(declaredMethodsByAnnotatedParameters.get(annotationType));
+        return Collections.unmodifiableCollection(methods.get().declaredMethodsByAnnotatedParameters.get(annotationType));
     }
 
     @Override
     public Collection<EnhancedAnnotatedMethod<?, ? super T>> getEnhancedMethods() {
-        return methods;
+        return methods.get().methods;
     }
 
     @Override
     public Collection<EnhancedAnnotatedMethod<?, ? super T>> getDeclaredEnhancedMethods() {
-        return Collections.unmodifiableSet(declaredMethods);
+        return Collections.unmodifiableSet(methods.get().declaredMethods);
     }
 
     @Override
     public <M> EnhancedAnnotatedMethod<M, ?> getDeclaredEnhancedMethod(MethodSignature signature) {
-        for (EnhancedAnnotatedMethod<?, ? super T> method : declaredMethods) {
+        for (EnhancedAnnotatedMethod<?, ? super T> method : methods.get().declaredMethods) {
             if (method.getSignature().equals(signature)) {
                 return cast(method);
             }
@@ -656,12 +648,13 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
 
     @Override
     public Set<AnnotatedField<? super T>> getFields() {
-        return cast(fields);
+        return cast(fields.get().fields);
     }
 
     @Override
     public Set<AnnotatedMethod<? super T>> getMethods() {
-        return cast(Sets.union(methods, overriddenMethods));
+        EnhancedMethods methods = this.methods.get();
+        return cast(Sets.union(methods.methods, methods.overriddenMethods));
     }
 
     @Override
@@ -682,7 +675,7 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
 
     @Override
     public Collection<EnhancedAnnotatedMethod<?, ? super T>> getEnhancedMethodsWithAnnotatedParameters(Class<? extends Annotation> annotationType) {
-        return annotatedMethodsByAnnotatedParameters.get(annotationType);
+        return methods.get().annotatedMethodsByAnnotatedParameters.get(annotationType);
     }
 
     @Override
@@ -704,4 +697,52 @@ public class EnhancedAnnotatedTypeImpl<T> extends AbstractEnhancedAnnotated<T, C
         EnhancedAnnotatedTypeImpl<?> that = cast(obj);
         return slim.equals(that.slim);
     }
+
+    private final class EnhancedFields {
+
+        private final Set<EnhancedAnnotatedField<?, ? super T>> fields;
+        private final Set<EnhancedAnnotatedField<?, ? super T>> declaredFields;
+        // The map from annotation type to abstracted field with annotation, only used for types which are not discovered
+        private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ?>> annotatedFields;
+        private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ? super T>> declaredAnnotatedFields;
+
+        private EnhancedFields(Set<EnhancedAnnotatedField<?, ? super T>> fields, Set<EnhancedAnnotatedField<?, ? super T>> declaredFields,
+                Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ?>> annotatedFields,
+                Multimap<Class<? extends Annotation>, EnhancedAnnotatedField<?, ? super T>> declaredAnnotatedFields) {
+            this.fields = fields;
+            this.declaredFields = declaredFields;
+            this.annotatedFields = annotatedFields;
+            this.declaredAnnotatedFields = declaredAnnotatedFields;
+        }
+
+    }
+
+    private final class EnhancedMethods {
+
+        private final Set<EnhancedAnnotatedMethod<?, ? super T>> methods;
+        private final Set<EnhancedAnnotatedMethod<?, ? super T>> declaredMethods;
+        // Methods that are overridden by other methods
+        private final Set<EnhancedAnnotatedMethod<?, ? super T>> overriddenMethods;
+        private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> annotatedMethods;
+        private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> annotatedMethodsByAnnotatedParameters;
+        private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> declaredAnnotatedMethods;
+        private final Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> declaredMethodsByAnnotatedParameters;
+
+        private EnhancedMethods(Set<EnhancedAnnotatedMethod<?, ? super T>> methods, Set<EnhancedAnnotatedMethod<?, ? super T>> declaredMethods,
+                Set<EnhancedAnnotatedMethod<?, ? super T>> overriddenMethods,
+                Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> annotatedMethods,
+                Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> annotatedMethodsByAnnotatedParameters,
+                Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> declaredAnnotatedMethods,
+                Multimap<Class<? extends Annotation>, EnhancedAnnotatedMethod<?, ? super T>> declaredMethodsByAnnotatedParameters) {
+            this.methods = methods;
+            this.declaredMethods = declaredMethods;
+            this.overriddenMethods = overriddenMethods;
+            this.annotatedMethods = annotatedMethods;
+            this.annotatedMethodsByAnnotatedParameters = annotatedMethodsByAnnotatedParameters;
+            this.declaredAnnotatedMethods = declaredAnnotatedMethods;
+            this.declaredMethodsByAnnotatedParameters = declaredMethodsByAnnotatedParameters;
+        }
+
+    }
+
 }
@@ -24,6 +24,7 @@ import org.jboss.weld.exceptions.InvalidObjectException;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.resources.ReflectionCache;
 import org.jboss.weld.resources.SharedObjectCache;
+import org.jboss.weld.resources.spi.ResourceLoadingException;
 import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Types;
 import org.jboss.weld.util.collections.ImmutableSet;
@@ -44,7 +45,16 @@ public class BackedAnnotatedType<X> extends BackedAnnotated implements SlimAnnot
 
     public static <X> BackedAnnotatedType<X> of(Class<X> javaClass, Type baseType, SharedObjectCache sharedObjectCache, ReflectionCache reflectionCache,
             String contextId, String bdaId, String suffix) {
-        return new BackedAnnotatedType<X>(javaClass, baseType, sharedObjectCache, reflectionCache, contextId, bdaId, suffix);
+        return of(javaClass, baseType, sharedObjectCache, reflectionCache, contextId, bdaId, suffix, true);
+    }
+
+    /**
+     * Constructors are always read eagerly. If <code>eagerMembers</code> is false, fields and methods are only read once they are actually needed. This is
+     * useful if a class index already tells that the type is not a managed bean candidate, i.e. the fields and methods are unlikely to be ever needed.
+     */
+    public static <X> BackedAnnotatedType<X> of(Class<X> javaClass, Type baseType, SharedObjectCache sharedObjectCache, ReflectionCache reflectionCache,
+            String contextId, String bdaId, String suffix, boolean eagerMembers) {
+        return new BackedAnnotatedType<X>(javaClass, baseType, sharedObjectCache, reflectionCache, contextId, bdaId, suffix, eagerMembers);
     }
 
     private final Class<X> javaClass;
@@ -54,9 +64,11 @@ public class BackedAnnotatedType<X> extends BackedAnnotated implements SlimAnnot
     private final SharedObjectCache sharedObjectCache;
     private final ReflectionCache reflectionCache;
     private final AnnotatedTypeIdentifier identifier;
+    // set if the fields or methods cannot be read, e.g. because of a missing dependency
+    private volatile ResourceLoadingException memberLoadingFailure;
 
     private BackedAnnotatedType(Class<X> rawType, Type baseType, SharedObjectCache sharedObjectCache, ReflectionCache reflectionCache, String contextId,
-            String bdaId, String suffix) {
+            String bdaId, String suffix, boolean eagerMembers) {
         super(baseType, sharedObjectCache);
         this.javaClass = rawType;
         this.sharedObjectCache = sharedObjectCache;
@@ -65,6 +77,13 @@ public class BackedAnnotatedType<X> extends BackedAnnotated implements SlimAnnot
         this.fields = new BackedAnnotatedFields();
         this.methods = new BackedAnnotatedMethods();
         this.identifier = AnnotatedTypeIdentifier.forBackedAnnotatedType(contextId, rawType, baseType, bdaId, suffix);
+        // Initialize eagerly since we want to discover CNFE at bootstrap
+        // After bootstrap, these holders are reset to conserve memory
+        this.constructors.get();
+        if (eagerMembers) {
+            this.fields.get();
+            this.methods.get();
+        }
     }
 
     @Override
@@ -93,6 +112,16 @@ public class BackedAnnotatedType<X> extends BackedAnnotated implements SlimAnnot
         return fields.get();
     }
 
+    /**
+     * Fields and methods which are read lazily may fail to load after the type was created, e.g. if a field type is not on the classpath. Such a type
+     * should be treated as a type with a missing dependency.
+     *
+     * @return the exception thrown when reading the fields or methods, or <code>null</code> if there was no such failure
+     */
+    public ResourceLoadingException getMemberLoadingFailure() {
+        return memberLoadingFailure;
+    }
+
     public <T extends Annotation> T getAnnotation(Class<T> annotationType) {
         for (Annotation annotation : getAnnotations()) {
             if (annotation.annotationType().equals(annotationType)) {
@@ -152,15 +181,7 @@ public class BackedAnnotatedType<X> extends BackedAnnotated implements SlimAnnot
 
     // Lazy initialization
 
-    // Initialize eagerly since we want to discover CNFE at bootstrap
-    // After bootstrap, these holders are reset to conserve memory
-    private abstract class EagerlyInitializedLazyValueHolder<T> extends LazyValueHolder<T> {
-        public EagerlyInitializedLazyValueHolder() {
-            this.get();
-        }
-    }
-
-    private class BackedAnnotatedConstructors extends EagerlyInitializedLazyValueHolder<Set<AnnotatedConstructor<X>>> {
+    private class BackedAnnotatedConstructors extends LazyValueHolder<Set<AnnotatedConstructor<X>>> {
         @Override
         protected Set<AnnotatedConstructor<X>> computeValue() {
             Constructor<?>[] declaredConstructors = SecurityActions.getDeclaredConstructors(javaClass);
@@ -173,9 +194,23 @@ public class BackedAnnotatedType<X> extends BackedAnnotated implements SlimAnnot
         }
     }
 
-    private class BackedAnnotatedFields extends EagerlyInitializedLazyValueHolder<Set<AnnotatedField<? super X>>> {
+    private ResourceLoadingException memberLoadingFailure(Throwable cause) {
+        ResourceLoadingException failure = new ResourceLoadingException("Error while loading members of class " + javaClass.getName(), cause);
+        this.memberLoadingFailure = failure;
+        return failure;
+    }
+
+    private class BackedAnnotatedFields extends LazyValueHolder<Set<AnnotatedField<? super X>>> {
         @Override
         protected Set<AnnotatedField<? super X>> computeValue() {
+            try {
+                return readFields();
+            } catch (LinkageError | TypeNotPresentException e) {
+                throw memberLoadingFailure(e);
+            }
+        }
+
+        private Set<AnnotatedField<? super X>> readFields() {
             ImmutableSet.Builder<AnnotatedField<? super X>> fields = ImmutableSet.builder();
             Class<? super X> clazz = javaClass;
             while (clazz != Object.class && clazz != null) {
@@ -188,9 +223,17 @@ public class BackedAnnotatedType<X> extends BackedAnnotated implements SlimAnnot
         }
     }
 
-    private class BackedAnnotatedMethods extends EagerlyInitializedLazyValueHolder<Set<AnnotatedMethod<? super X>>> {
+    private class BackedAnnotatedMethods extends LazyValueHolder<Set<AnnotatedMethod<? super X>>> {
         @Override
         protected Set<AnnotatedMethod<? super X>> computeValue() {
+            try {
+                return readMethods();
+            } catch (LinkageError | TypeNotPresentException e) {
+                throw memberLoadingFailure(e);
+            }
+        }
+
+        private Set<AnnotatedMethod<? super X>> readMethods() {
             ImmutableSet.Builder<AnnotatedMethod<? super X>> methods = ImmutableSet.builder();
             Class<? super X> clazz = javaClass;
             while (clazz != Object.class && clazz != null) {
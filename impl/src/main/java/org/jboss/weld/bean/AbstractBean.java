@@ -237,6 +237,7 @@ public abstract class AbstractBean<T, S> extends RIBean<T> {
      */
     public void setProducer(Producer<T> producer) {
         this.producer = producer;
+        setDependentInstanceTrackingRequired(null);
     }
 
     public boolean isIgnoreFinalMethods() {
@@ -19,6 +19,7 @@ package org.jboss.weld.bean;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanAttributes;
 
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.util.bean.ForwardingBeanAttributes;
 import org.jboss.weld.util.reflection.Reflections;
@@ -36,6 +37,8 @@ public abstract class CommonBean<T> extends ForwardingBeanAttributes<T> implemen
 
     private final BeanIdentifier identifier;
 
+    private volatile int beanStoreIndex = BeanStoreIndex.NO_INDEX;
+
     protected CommonBean(BeanAttributes<T> attributes, BeanIdentifier identifier) {
         this.attributes = attributes;
         this.identifier = identifier;
@@ -97,6 +100,23 @@ public abstract class CommonBean<T> extends ForwardingBeanAttributes<T> implemen
         return identifier;
     }
 
+    /**
+     *
+     * @return the index assigned by {@link BeanStoreIndex} or {@link BeanStoreIndex#NO_INDEX} if no index was assigned yet
+     */
+    public int getBeanStoreIndex() {
+        return beanStoreIndex;
+    }
+
+    /**
+     * This method should only be called by {@link BeanStoreIndex}.
+     *
+     * @param beanStoreIndex
+     */
+    public void setBeanStoreIndex(int beanStoreIndex) {
+        this.beanStoreIndex = beanStoreIndex;
+    }
+
     @Override
     public String toString() {
         return getId();
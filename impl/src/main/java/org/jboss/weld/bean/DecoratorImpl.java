@@ -74,7 +74,7 @@ public class DecoratorImpl<T> extends ManagedBean<T> implements WeldDecorator<T>
         Set<Type> decoratedTypes = new HashSet<Type>(getEnhancedAnnotated().getInterfaceClosure());
         decoratedTypes.retainAll(getTypes());
         decoratedTypes.remove(Serializable.class);
-        this.decoratedTypes = SharedObjectCache.instance(beanManager).getSharedSet(decoratedTypes);
+        this.decoratedTypes = SharedObjectCache.instance(beanManager).getSharedTypeClosure(decoratedTypes);
         this.decoratedMethods = new DecoratedMethods(beanManager, this);
     }
 
@@ -40,6 +40,8 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
     private boolean initialized;
     private volatile Set<QualifierInstance> qualifiers;
     private ContextualInstanceStrategy<T> contextualInstanceStrategy;
+    // null if not computed yet
+    private volatile Boolean dependentInstanceTrackingRequired;
 
     protected RIBean(BeanAttributes<T> attributes, BeanIdentifier identifier, BeanManagerImpl beanManager) {
         super(attributes, identifier);
@@ -116,6 +118,26 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
         return contextualInstanceStrategy;
     }
 
+    /**
+     *
+     * @return <code>null</code> if not computed yet, <code>false</code> if a dependent instance of this bean without dependent instances of its own does
+     *         not need to be destroyed, <code>true</code> otherwise
+     * @see org.jboss.weld.contexts.unbound.DependentContextImpl
+     */
+    public Boolean getDependentInstanceTrackingRequired() {
+        return dependentInstanceTrackingRequired;
+    }
+
+    /**
+     * This method should only be called by {@link org.jboss.weld.contexts.unbound.DependentContextImpl}, or with <code>null</code> when the computed value
+     * is no longer valid.
+     *
+     * @param dependentInstanceTrackingRequired
+     */
+    public void setDependentInstanceTrackingRequired(Boolean dependentInstanceTrackingRequired) {
+        this.dependentInstanceTrackingRequired = dependentInstanceTrackingRequired;
+    }
+
     @Override
     public void setAttributes(BeanAttributes<T> attributes) {
         super.setAttributes(attributes);
@@ -71,7 +71,7 @@ public class BeanAttributesFactory {
     }
 
     public static <T> BeanAttributes<T> forNewManagedBean(EnhancedAnnotatedType<T> weldClass, BeanManagerImpl manager) {
-        return forNewBean(SharedObjectCache.instance(manager).getSharedSet(Beans.getTypes(weldClass)), weldClass.getJavaClass());
+        return forNewBean(SharedObjectCache.instance(manager).getSharedTypeClosure(Beans.getTypes(weldClass)), weldClass.getJavaClass());
     }
 
     public static class BeanAttributesBuilder<T> {
@@ -97,7 +97,7 @@ public class BeanAttributesFactory {
         }
 
         public BeanAttributesBuilder(EnhancedAnnotated<T, ?> annotated, BeanManagerImpl manager) {
-            this(annotated, SharedObjectCache.instance(manager).getSharedSet(Beans.getTypes(annotated)), manager);
+            this(annotated, SharedObjectCache.instance(manager).getSharedTypeClosure(Beans.getTypes(annotated)), manager);
         }
 
         protected <S> void initStereotypes(EnhancedAnnotated<T, S> annotated, BeanManagerImpl manager) {
@@ -31,6 +31,7 @@ import jakarta.enterprise.inject.spi.BeanManager;
 
 import org.jboss.weld.logging.MetadataLogger;
 import org.jboss.weld.util.Bindings;
+import org.jboss.weld.util.collections.ImmutableSet;
 
 /**
  * Creates {@link BeanAttributes} based on BeanAttributes provided by an extension. This class handles creating a safe copy as
@@ -52,7 +53,7 @@ public class ExternalBeanAttributesFactory {
     public static <T> BeanAttributes<T> of(BeanAttributes<T> source, BeanManager manager) {
         validateBeanAttributes(source, manager);
         BeanAttributes<T> attributes = new ImmutableBeanAttributes<T>(defensiveCopy(source.getStereotypes()), source.isAlternative(), source.getName(),
-                defensiveCopy(source.getQualifiers()), defensiveCopy(source.getTypes()), source.getScope());
+                defensiveCopy(source.getQualifiers()), ImmutableSet.compactCopyOf(source.getTypes()), source.getScope());
         return attributes;
     }
 
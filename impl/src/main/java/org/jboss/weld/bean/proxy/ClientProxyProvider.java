@@ -258,4 +258,16 @@ public class ClientProxyProvider {
         this.requestedTypeClosureProxyPool.clear();
     }
 
+    /**
+     * Removes the client proxies of the given beans from the pool.
+     *
+     * @param beans
+     */
+    public void removeAll(Set<Bean<?>> beans) {
+        for (Bean<?> bean : beans) {
+            this.beanTypeClosureProxyPool.invalidate(bean);
+        }
+        this.requestedTypeClosureProxyPool.invalidateIf(holder -> beans.contains(holder.bean));
+    }
+
 }
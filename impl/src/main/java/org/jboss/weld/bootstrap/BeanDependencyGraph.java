@@ -0,0 +1,218 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * The dependencies between beans, as resolved during validation. Every validated injection point is recorded as an edge from the bean declaring the
+ * injection point (if any) to the bean the injection point resolves to. Delegate injection points are not recorded.
+ *
+ * <p>
+ * The graph is only built if needed, i.e. if unused beans should be removed or if {@link #retainAfterBoot()} was called before the deployment is validated.
+ * Unless retained, the graph is released at the end of the container initialization. A retained graph allows tools to find the dependencies and dependents
+ * of a bean without resolving all the injection points of the deployment again.
+ * </p>
+ *
+ * @see Validator
+ */
+public class BeanDependencyGraph implements Service {
+
+    private final ConcurrentMap<Bean<?>, Node> nodes;
+
+    private volatile boolean enabled;
+
+    private volatile boolean retained;
+
+    private volatile boolean complete;
+
+    public BeanDependencyGraph(boolean enabled) {
+        this.nodes = new ConcurrentHashMap<>();
+        this.enabled = enabled;
+    }
+
+    /**
+     * The graph is built and kept after the container is initialized. This method must be called before the deployment is validated, e.g. in a
+     * {@link jakarta.enterprise.inject.spi.BeforeBeanDiscovery} observer.
+     */
+    public void retainAfterBoot() {
+        this.enabled = true;
+        this.retained = true;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the graph is built, <code>false</code> otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if all the bean deployments were validated successfully, <code>false</code> otherwise
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     *
+     * @param bean
+     * @return <code>true</code> if at least one injection point resolves to the given bean, <code>false</code> otherwise
+     */
+    public boolean isResolved(Bean<?> bean) {
+        Node node = nodes.get(bean);
+        return node != null && node.hasDependents();
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the edges of the injection points which resolve to the given bean
+     */
+    public List<Edge> getDependents(Bean<?> bean) {
+        Node node = nodes.get(bean);
+        return node != null ? node.getDependents() : Collections.emptyList();
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the edges of the injection points declared by the given bean
+     */
+    public List<Edge> getDependencies(Bean<?> bean) {
+        Node node = nodes.get(bean);
+        return node != null ? node.getDependencies() : Collections.emptyList();
+    }
+
+    void add(Bean<?> dependent, InjectionPoint injectionPoint, Bean<?> dependency) {
+        if (!enabled) {
+            return;
+        }
+        Edge edge = new Edge(dependent, injectionPoint, dependency);
+        getNode(dependency).addDependent(edge);
+        if (dependent != null) {
+            getNode(dependent).addDependency(edge);
+        }
+    }
+
+    void validated() {
+        complete = true;
+    }
+
+    /**
+     * Releases the graph unless it should be retained.
+     */
+    void releaseAfterBoot() {
+        if (!retained) {
+            clear();
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        clear();
+    }
+
+    private void clear() {
+        nodes.clear();
+        complete = false;
+    }
+
+    private Node getNode(Bean<?> bean) {
+        return nodes.computeIfAbsent(bean, b -> new Node());
+    }
+
+    /**
+     * An injection point resolved to a bean.
+     */
+    public static final class Edge {
+
+        private final Bean<?> dependent;
+
+        private final InjectionPoint injectionPoint;
+
+        private final Bean<?> dependency;
+
+        private Edge(Bean<?> dependent, InjectionPoint injectionPoint, Bean<?> dependency) {
+            this.dependent = dependent;
+            this.injectionPoint = injectionPoint;
+            this.dependency = dependency;
+        }
+
+        /**
+         *
+         * @return the bean declaring the injection point or <code>null</code> for injection points of non-contextual instances
+         */
+        public Bean<?> getDependent() {
+            return dependent;
+        }
+
+        public InjectionPoint getInjectionPoint() {
+            return injectionPoint;
+        }
+
+        public Bean<?> getDependency() {
+            return dependency;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Edge [%s -> %s]", injectionPoint, dependency);
+        }
+
+    }
+
+    private static final class Node {
+
+        private final List<Edge> dependents = new ArrayList<>();
+
+        private final List<Edge> dependencies = new ArrayList<>();
+
+        synchronized void addDependent(Edge edge) {
+            dependents.add(edge);
+        }
+
+        synchronized void addDependency(Edge edge) {
+            dependencies.add(edge);
+        }
+
+        synchronized boolean hasDependents() {
+            return !dependents.isEmpty();
+        }
+
+        synchronized List<Edge> getDependents() {
+            return new ArrayList<>(dependents);
+        }
+
+        synchronized List<Edge> getDependencies() {
+            return new ArrayList<>(dependencies);
+        }
+
+    }
+
+}
@@ -37,6 +37,7 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
 import org.jboss.weld.annotated.slim.SlimAnnotatedTypeContext;
 import org.jboss.weld.annotated.slim.SlimAnnotatedTypeStore;
+import org.jboss.weld.annotated.slim.backed.BackedAnnotatedType;
 import org.jboss.weld.bean.AbstractBean;
 import org.jboss.weld.bean.AbstractClassBean;
 import org.jboss.weld.bean.RIBean;
@@ -47,6 +48,7 @@ import org.jboss.weld.logging.BootstrapLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.resources.spi.ClassFileServices;
 import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoadingException;
 import org.jboss.weld.util.AnnotatedTypes;
 import org.jboss.weld.util.AnnotationApiAbstraction;
 import org.jboss.weld.util.Beans;
@@ -66,6 +68,7 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
     private final GlobalEnablementBuilder globalEnablementBuilder;
     private final AnnotationApiAbstraction annotationApi;
     private final ClassFileServices classFileServices;
+    private final MissingDependenciesRegistry missingDependenciesRegistry;
 
     public BeanDeployer(BeanManagerImpl manager, ServiceRegistry services) {
         this(manager, services, BeanDeployerEnvironmentFactory.newEnvironment(manager));
@@ -78,6 +81,7 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         this.globalEnablementBuilder = manager.getServices().get(GlobalEnablementBuilder.class);
         this.annotationApi = manager.getServices().get(AnnotationApiAbstraction.class);
         this.classFileServices = manager.getServices().get(ClassFileServices.class);
+        this.missingDependenciesRegistry = manager.getServices().get(MissingDependenciesRegistry.class);
     }
 
     /**
@@ -163,7 +167,23 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
 
         for (SlimAnnotatedTypeContext<?> annotatedTypeContext : getEnvironment().getAnnotatedTypes()) {
             SlimAnnotatedType<?> annotatedType = annotatedTypeContext.getAnnotatedType();
-            final ProcessAnnotatedTypeImpl<?> event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
+            ProcessAnnotatedTypeImpl<?> event;
+            try {
+                event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
+            } catch (RuntimeException e) {
+                if (getMemberLoadingFailure(annotatedType) == null) {
+                    throw e;
+                }
+                // an observer failed because the lazily read members of the type cannot be loaded
+                event = null;
+            }
+            ResourceLoadingException memberLoadingFailure = getMemberLoadingFailure(annotatedType);
+            if (memberLoadingFailure != null) {
+                // the same as if the members were read when the type was loaded
+                missingDependenciesRegistry.handleResourceLoadingException(annotatedType.getJavaClass().getName(), memberLoadingFailure);
+                classesToBeRemoved.add(annotatedTypeContext);
+                continue;
+            }
 
             // process the result
             if (event != null) {
@@ -186,6 +206,10 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         getEnvironment().addAnnotatedTypes(classesToBeAdded);
     }
 
+    private static ResourceLoadingException getMemberLoadingFailure(SlimAnnotatedType<?> annotatedType) {
+        return annotatedType instanceof BackedAnnotatedType ? ((BackedAnnotatedType<?>) annotatedType).getMemberLoadingFailure() : null;
+    }
+
     public void registerAnnotatedTypes() {
         for (SlimAnnotatedTypeContext<?> ctx : getEnvironment().getAnnotatedTypes()) {
             annotatedTypeStore.put(ctx.getAnnotatedType());
@@ -51,6 +51,7 @@ import org.jboss.weld.bean.builtin.ExtensionBean;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.injection.attributes.WeldInjectionPointAttributes;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.AssignabilityCache;
 import org.jboss.weld.resolution.ResolvableBuilder;
 import org.jboss.weld.resolution.TypeSafeDisposerResolver;
 import org.jboss.weld.util.AnnotatedTypes;
@@ -118,7 +119,8 @@ public class BeanDeployerEnvironment {
         this.resolvedDisposalBeans = resolvedDisposalBeans;
         this.decorators = decorators;
         this.interceptors = interceptors;
-        this.disposalMethodResolver = new TypeSafeDisposerResolver(allDisposalBeans, manager.getServices().get(WeldConfiguration.class));
+        this.disposalMethodResolver = new TypeSafeDisposerResolver(allDisposalBeans, manager.getServices().get(WeldConfiguration.class),
+                manager.getServices().get(AssignabilityCache.class));
         this.newBeanTypes = newBeanTypes;
         this.manager = manager;
     }
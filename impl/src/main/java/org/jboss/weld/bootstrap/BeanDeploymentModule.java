@@ -35,6 +35,7 @@ import org.jboss.weld.event.EventMetadataImpl;
 import org.jboss.weld.event.ObserverNotifier;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.AssignabilityCache;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
 import org.jboss.weld.util.collections.Iterables;
 
@@ -62,7 +63,7 @@ public final class BeanDeploymentModule {
         // create module-local observer notifier
         Iterable<ObserverMethod<?>> observers = flatMap(managers, BeanManagerImpl::getObservers);
         final TypeSafeObserverResolver resolver = new TypeSafeObserverResolver(services.get(MetaAnnotationStore.class), observers,
-                services.get(WeldConfiguration.class));
+                services.get(WeldConfiguration.class), services.get(AssignabilityCache.class));
         this.notifier = DefaultObserverNotifierFactory.INSTANCE.create(contextId, resolver, services, false);
     }
 
@@ -21,7 +21,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.enterprise.inject.spi.Bean;
@@ -49,8 +48,8 @@ public class ConcurrentValidator extends Validator {
 
     private final ExecutorServices executor;
 
-    public ConcurrentValidator(Set<PlugableValidator> plugableValidators, ExecutorServices executor, ConcurrentMap<Bean<?>, Boolean> resolvedInjectionPoints) {
-        super(plugableValidators, resolvedInjectionPoints);
+    public ConcurrentValidator(Set<PlugableValidator> plugableValidators, ExecutorServices executor, BeanDependencyGraph dependencyGraph) {
+        super(plugableValidators, dependencyGraph);
         this.executor = executor;
     }
 
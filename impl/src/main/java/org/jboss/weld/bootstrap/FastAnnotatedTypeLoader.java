@@ -90,7 +90,9 @@ class FastAnnotatedTypeLoader extends AnnotatedTypeLoader {
                 observerMethods = resolver.resolveProcessAnnotatedTypeObservers(classFileServices, className);
                 if (!observerMethods.isEmpty()) {
                     // there are PAT observers for this class, register the class now
-                    return createContext(className, classFileInfo, observerMethods, bdaId);
+                    // fields and methods of a type which does not fulfill managed bean requirements are only read if an observer asks for them
+                    return createContext(className, classFileInfo, observerMethods, bdaId,
+                            Beans.isTypeManagedBeanOrDecoratorOrInterceptor(classFileInfo, checkTypeModifiers));
                 }
             }
 
@@ -100,7 +102,7 @@ class FastAnnotatedTypeLoader extends AnnotatedTypeLoader {
 
             // lastly, check if this class fulfills CDI managed bean requirements - if it does, add the class
             if (Beans.isTypeManagedBeanOrDecoratorOrInterceptor(classFileInfo, checkTypeModifiers)) {
-                return createContext(className, classFileInfo, observerMethods, bdaId);
+                return createContext(className, classFileInfo, observerMethods, bdaId, true);
             }
             return null;
         } catch (ClassFileInfoException e) {
@@ -110,18 +112,18 @@ class FastAnnotatedTypeLoader extends AnnotatedTypeLoader {
     }
 
     private <T> SlimAnnotatedTypeContext<T> createContext(String className, ClassFileInfo classFileInfo,
-            Set<ContainerLifecycleEventObserverMethod<?>> observerMethods, String bdaId) {
-        final SlimAnnotatedType<T> type = loadSlimAnnotatedType(this.<T> loadClass(className), bdaId);
+            Set<ContainerLifecycleEventObserverMethod<?>> observerMethods, String bdaId, boolean eagerMembers) {
+        final SlimAnnotatedType<T> type = loadSlimAnnotatedType(this.<T> loadClass(className), bdaId, eagerMembers);
         if (type != null) {
-            return SlimAnnotatedTypeContext.of(type, classFileInfo, observerMethods);
+            return SlimAnnotatedTypeContext.of(type, classFileInfo, resolver.checkObservedTypes(observerMethods, type));
         }
         return null;
     }
 
-    private <T> SlimAnnotatedType<T> loadSlimAnnotatedType(Class<T> clazz, String bdaId) {
+    private <T> SlimAnnotatedType<T> loadSlimAnnotatedType(Class<T> clazz, String bdaId, boolean eagerMembers) {
         if (clazz != null) {
             try {
-                return classTransformer.getBackedAnnotatedType(clazz, bdaId);
+                return eagerMembers ? classTransformer.getBackedAnnotatedType(clazz, bdaId) : classTransformer.getBackedAnnotatedTypeWithLazyMembers(clazz, bdaId);
             } catch (ResourceLoadingException e) {
                 missingDependenciesRegistry.handleResourceLoadingException(clazz.getName(), e);
             }
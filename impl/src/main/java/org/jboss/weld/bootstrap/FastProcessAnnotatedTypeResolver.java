@@ -21,6 +21,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -31,8 +32,14 @@ import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
 
+import org.jboss.weld.annotated.slim.SlimAnnotatedType;
 import org.jboss.weld.bootstrap.api.helpers.AbstractBootstrapService;
+import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeEventResolvable;
 import org.jboss.weld.event.ContainerLifecycleEventObserverMethod;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.resolution.AssignabilityCache;
+import org.jboss.weld.resolution.AssignabilityRules;
+import org.jboss.weld.resolution.EventTypeAssignabilityRules;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
 import org.jboss.weld.resources.spi.ClassFileInfo;
 import org.jboss.weld.resources.spi.ClassFileServices;
@@ -44,9 +51,10 @@ import org.jboss.weld.util.reflection.Reflections;
  * especially large deployments.
  *
  * Although this resolver covers most of the possible PAT observer method types, there are several cases when {@link ClassFileInfo} used by this resolver is not
- * sufficient to perform observer method resolution correctly. If such observer method is present in the deployment, the constructor of this class throws
- * {@link UnsupportedObserverMethodException}. This exception is expected to be caught by the deployer and observer method resolution using the default
- * {@link TypeSafeObserverResolver} is performed instead.
+ * sufficient to perform observer method resolution correctly, e.g. if a bound of the observed type is a parameterized type. Such an observer method does not
+ * prevent other observer methods from being resolved by this resolver. Instead, it is resolved using the raw types of the bounds and
+ * {@link #checkObservedTypes(Set, SlimAnnotatedType)} performs the exact check (using the same rules as {@link TypeSafeObserverResolver}) once the class is
+ * loaded.
  *
  * @author Jozef Hartinger
  *
@@ -108,12 +116,35 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
         }
     }
 
+    private static class AnyTypePredicate implements Predicate<ClassFileInfo> {
+
+        private static final AnyTypePredicate INSTANCE = new AnyTypePredicate();
+
+        @Override
+        public boolean test(ClassFileInfo input) {
+            return true;
+        }
+    }
+
     private final Set<ContainerLifecycleEventObserverMethod<?>> catchAllObservers;
     private final Map<ContainerLifecycleEventObserverMethod<?>, Predicate<ClassFileInfo>> observers;
+    // observer methods whose observed type cannot be fully evaluated using ClassFileInfo
+    private final Set<ContainerLifecycleEventObserverMethod<?>> typeCheckedObservers;
+    private final AssignabilityRules rules;
 
-    public FastProcessAnnotatedTypeResolver(Iterable<ObserverMethod<?>> observers) throws UnsupportedObserverMethodException {
+    public FastProcessAnnotatedTypeResolver(Iterable<ObserverMethod<?>> observers) {
+        this(observers, EventTypeAssignabilityRules.instance());
+    }
+
+    public FastProcessAnnotatedTypeResolver(Iterable<ObserverMethod<?>> observers, AssignabilityCache assignabilityCache) {
+        this(observers, assignabilityCache.wrap(EventTypeAssignabilityRules.instance()));
+    }
+
+    private FastProcessAnnotatedTypeResolver(Iterable<ObserverMethod<?>> observers, AssignabilityRules rules) {
+        this.rules = rules;
         this.catchAllObservers = new HashSet<>();
         this.observers = new LinkedHashMap<ContainerLifecycleEventObserverMethod<?>, Predicate<ClassFileInfo>>();
+        this.typeCheckedObservers = new HashSet<>();
         for (ObserverMethod<?> o : observers) {
             if (o instanceof ContainerLifecycleEventObserverMethod<?>) {
                 final Set<Annotation> qualifiers = o.getObservedQualifiers();
@@ -125,13 +156,13 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
         }
     }
 
-    private void process(ContainerLifecycleEventObserverMethod<?> observer, Type observedType) throws UnsupportedObserverMethodException {
+    private void process(ContainerLifecycleEventObserverMethod<?> observer, Type observedType) {
         if (Object.class.equals(observedType)) {
             // void observe(Object event)
-            catchAllObservers.add(observer);
+            addCatchAllObserver(observer);
         } else if (ProcessAnnotatedType.class.equals(observedType)) {
             // void observe(ProcessAnnotatedType event)
-            catchAllObservers.add(observer);
+            addCatchAllObserver(observer);
         } else if (observedType instanceof ParameterizedType) {
             ParameterizedType type = (ParameterizedType) observedType;
             if (ProcessAnnotatedType.class.equals(type.getRawType())) {
@@ -149,13 +180,11 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
                 } else if (typeParameter instanceof WildcardType) {
                     // void observe(ProcessAnnotatedType<?> event)
                     WildcardType wildCard = (WildcardType) typeParameter;
-                    checkBounds(observer, wildCard.getUpperBounds());
-                    this.observers.put(observer, CompositePredicate.assignable(Types.getRawTypes(wildCard.getUpperBounds())));
+                    this.observers.put(observer, boundsPredicate(observer, wildCard.getUpperBounds()));
                 } else if (typeParameter instanceof TypeVariable<?>) {
                     // <T> void observe(ProcessAnnotatedType<T> event)
                     TypeVariable<?> variable = (TypeVariable<?>) typeParameter;
-                    checkBounds(observer, variable.getBounds());
-                    this.observers.put(observer, CompositePredicate.assignable(Types.getRawTypes(variable.getBounds())));
+                    this.observers.put(observer, boundsPredicate(observer, variable.getBounds()));
                 }
             }
         } else if (observedType instanceof TypeVariable<?>) {
@@ -163,17 +192,40 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
         }
     }
 
-    private void checkBounds(ContainerLifecycleEventObserverMethod<?> observer, Type[] bounds) throws UnsupportedObserverMethodException {
+    private void addCatchAllObserver(ContainerLifecycleEventObserverMethod<?> observer) {
+        if (observer.getRequiredAnnotations().isEmpty()) {
+            catchAllObservers.add(observer);
+        } else {
+            // void observe(@WithAnnotations(Foo.class) ProcessAnnotatedType event) - only the annotations need to be checked
+            this.observers.put(observer, AnyTypePredicate.INSTANCE);
+        }
+    }
+
+    private Predicate<ClassFileInfo> boundsPredicate(ContainerLifecycleEventObserverMethod<?> observer, Type[] bounds) {
         for (Type type : bounds) {
             if (!(type instanceof Class<?>)) {
-                throw new UnsupportedObserverMethodException(observer);
+                // the raw types of the bounds are used for resolution, the exact check is performed once the class is loaded
+                addTypeCheckedObserver(observer);
+                break;
+            }
+        }
+        Class<?>[] rawBounds = Types.getRawTypes(bounds);
+        for (Class<?> rawBound : rawBounds) {
+            if (rawBound == null) {
+                return AnyTypePredicate.INSTANCE;
             }
         }
+        return CompositePredicate.assignable(rawBounds);
+    }
+
+    private void addTypeCheckedObserver(ContainerLifecycleEventObserverMethod<?> observer) {
+        BootstrapLogger.LOG.fastResolverTypeCheckRequired(observer);
+        typeCheckedObservers.add(observer);
     }
 
-    private void defaultRules(ContainerLifecycleEventObserverMethod<?> observer, Type observedType) throws UnsupportedObserverMethodException {
+    private void defaultRules(ContainerLifecycleEventObserverMethod<?> observer, Type observedType) {
         if (ProcessAnnotatedType.class.equals(observedType)) {
-            catchAllObservers.add(observer);
+            addCatchAllObserver(observer);
         } else if (observedType instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) observedType;
             if (ProcessAnnotatedType.class.equals(parameterizedType.getRawType())) {
@@ -181,14 +233,16 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
                 if (argument instanceof Class<?>) {
                     this.observers.put(observer, new ExactTypePredicate(Reflections.getRawType(argument)));
                 } else {
-                    throw new UnsupportedObserverMethodException(observer);
+                    // e.g. <T extends ProcessAnnotatedType<? extends Foo>> void observe(T event)
+                    this.observers.put(observer, AnyTypePredicate.INSTANCE);
+                    addTypeCheckedObserver(observer);
                 }
             }
         } else if (observedType instanceof TypeVariable) {
             final TypeVariable<?> typeVariable = (TypeVariable<?>) observedType;
             if (Reflections.isUnboundedTypeVariable(observedType)) {
                 // <T> void observe(T event)
-                catchAllObservers.add(observer);
+                addCatchAllObserver(observer);
             } else {
                 if (typeVariable.getBounds().length == 1) { // here we expect that a PAT impl only implements the PAT interface
                     defaultRules(observer, typeVariable.getBounds()[0]);
@@ -218,6 +272,24 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
         return result;
     }
 
+    /**
+     * Removes the observer methods whose observed type could not be fully evaluated using {@link ClassFileInfo} and which do not observe the
+     * {@link ProcessAnnotatedType} event for the specified (already loaded) type.
+     *
+     * @param resolvedObservers the set of observer methods resolved by {@link #resolveProcessAnnotatedTypeObservers(ClassFileServices, String)}
+     * @param type the loaded type
+     * @return the set of resolved ProcessAnnotatedType observer methods
+     */
+    public Set<ContainerLifecycleEventObserverMethod<?>> checkObservedTypes(Set<ContainerLifecycleEventObserverMethod<?>> resolvedObservers,
+            SlimAnnotatedType<?> type) {
+        if (typeCheckedObservers.isEmpty() || Collections.disjoint(typeCheckedObservers, resolvedObservers)) {
+            return resolvedObservers;
+        }
+        final Set<Type> eventTypes = ProcessAnnotatedTypeEventResolvable.forProcessAnnotatedType(type, null).getTypes();
+        resolvedObservers.removeIf(observer -> typeCheckedObservers.contains(observer) && !rules.matches(observer.getObservedType(), eventTypes));
+        return resolvedObservers;
+    }
+
     private boolean containsRequiredAnnotation(ClassFileInfo classInfo, ContainerLifecycleEventObserverMethod<?> observer) {
         if (observer.getRequiredAnnotations().isEmpty()) {
             return true;
@@ -234,5 +306,6 @@ public class FastProcessAnnotatedTypeResolver extends AbstractBootstrapService {
     public void cleanupAfterBoot() {
         catchAllObservers.clear();
         observers.clear();
+        typeCheckedObservers.clear();
     }
 }
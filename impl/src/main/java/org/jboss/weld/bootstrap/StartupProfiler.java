@@ -0,0 +1,370 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.bootstrap.api.BootstrapService;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Collects bootstrap performance data - wall time, CPU time and allocated bytes for each bootstrap phase (see {@link Tracker}) and for each extension
+ * observer method notified of a container lifecycle event. The data are written as a JSON report once the container is initialized.
+ *
+ * <p>
+ * Note that CPU time and allocated bytes are measured for the current thread only, i.e. the work performed by other threads (e.g. the threads of
+ * {@link ConcurrentBeanDeployer}) is not included in the phase values. On the other hand, extension observer notifications are always measured in the
+ * thread which delivers the event. If the JVM does not support CPU time or allocation measurement, <code>-1</code> is reported.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#STARTUP_REPORT
+ */
+public class StartupProfiler implements BootstrapService {
+
+    private static final String REPORT_FILE_NAME_PREFIX = "weld-startup-report-";
+
+    private static final String REPORT_FILE_NAME_SUFFIX = ".json";
+
+    private static final String INDENT = "  ";
+
+    private final String contextId;
+
+    private final Path reportDirectory;
+
+    private final List<Operation> operations;
+
+    private final List<Operation> stack;
+
+    private final Map<ObserverMethod<?>, ObserverStats> observers;
+
+    private final ThreadMXBean threadMXBean;
+
+    private final boolean cpuTimeSupported;
+
+    private final Method allocatedBytesMethod;
+
+    private volatile boolean active;
+
+    public StartupProfiler(String contextId, String reportDirectory) {
+        this.contextId = contextId;
+        this.reportDirectory = Paths.get(reportDirectory);
+        this.operations = new ArrayList<>();
+        this.stack = new ArrayList<>();
+        this.observers = new ConcurrentHashMap<>();
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        this.allocatedBytesMethod = findAllocatedBytesMethod(threadMXBean);
+        this.active = true;
+    }
+
+    /**
+     * @return <code>true</code> if the profiler is still collecting data, i.e. the report was not written yet
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Takes a snapshot of the current thread's counters. The returned value should be passed to {@link #observerNotified(ObserverMethod, Sample)} once
+     * the notification is finished.
+     *
+     * @return a new sample
+     */
+    public Sample sample() {
+        return new Sample(System.nanoTime(), getCurrentThreadCpuTime(), getCurrentThreadAllocatedBytes());
+    }
+
+    /**
+     * Records an extension observer notification which started at the time the given sample was taken.
+     *
+     * @param observer
+     * @param start
+     */
+    public void observerNotified(ObserverMethod<?> observer, Sample start) {
+        observers.computeIfAbsent(observer, ObserverStats::new).add(start, sample());
+    }
+
+    void startOperation(String name) {
+        Operation operation = new Operation(name, sample());
+        if (stack.isEmpty()) {
+            operations.add(operation);
+        } else {
+            stack.get(stack.size() - 1).children.add(operation);
+        }
+        stack.add(operation);
+    }
+
+    void endOperation() {
+        if (!stack.isEmpty()) {
+            stack.remove(stack.size() - 1).end(sample());
+        }
+    }
+
+    void endAllOperations() {
+        while (!stack.isEmpty()) {
+            endOperation();
+        }
+    }
+
+    /**
+     * Writes the report and stops collecting data.
+     */
+    void writeReport() {
+        active = false;
+        Path file = reportDirectory.resolve(REPORT_FILE_NAME_PREFIX + contextId.replaceAll("[^a-zA-Z0-9._-]", "_") + REPORT_FILE_NAME_SUFFIX);
+        try {
+            Files.createDirectories(reportDirectory);
+            Files.write(file, toJson().getBytes(StandardCharsets.UTF_8));
+            BootstrapLogger.LOG.startupReportWritten(file.toAbsolutePath());
+        } catch (IOException | SecurityException e) {
+            BootstrapLogger.LOG.unableToWriteStartupReport(file.toAbsolutePath(), e);
+        }
+        observers.clear();
+        operations.clear();
+    }
+
+    String toJson() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\n  \"contextId\": ");
+        appendString(builder, contextId);
+        builder.append(",\n  \"cpuTimeSupported\": ").append(cpuTimeSupported);
+        builder.append(",\n  \"allocatedBytesSupported\": ").append(allocatedBytesMethod != null);
+        builder.append(",\n  \"phases\": ");
+        appendOperations(builder, operations, INDENT);
+        builder.append(",\n  \"extensionObservers\": [");
+        List<ObserverStats> sortedObservers = new ArrayList<>(observers.values());
+        sortedObservers.sort(Comparator.comparingLong((ObserverStats stats) -> stats.wallTime.sum()).reversed());
+        for (int i = 0; i < sortedObservers.size(); i++) {
+            ObserverStats stats = sortedObservers.get(i);
+            appendSeparator(builder, i, INDENT + INDENT);
+            builder.append("{\"extension\": ");
+            appendString(builder, stats.observer.getBeanClass().getName());
+            builder.append(", \"observer\": ");
+            appendString(builder, stats.observer.toString());
+            builder.append(", \"observedType\": ");
+            appendString(builder, stats.observer.getObservedType().getTypeName());
+            builder.append(", \"notifications\": ").append(stats.notifications.sum());
+            appendMeasurements(builder, stats.wallTime.sum(), stats.cpuTime.sum(), stats.allocatedBytes.sum());
+            builder.append('}');
+        }
+        appendEnd(builder, sortedObservers, INDENT);
+        builder.append("\n}\n");
+        return builder.toString();
+    }
+
+    private void appendOperations(StringBuilder builder, List<Operation> operations, String indent) {
+        builder.append('[');
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            appendSeparator(builder, i, indent + INDENT);
+            builder.append("{\"name\": ");
+            appendString(builder, operation.name);
+            appendMeasurements(builder, operation.wallTime, operation.cpuTime, operation.allocatedBytes);
+            builder.append(", \"children\": ");
+            appendOperations(builder, operation.children, indent + INDENT);
+            builder.append('}');
+        }
+        appendEnd(builder, operations, indent);
+    }
+
+    private void appendMeasurements(StringBuilder builder, long wallTime, long cpuTime, long allocatedBytes) {
+        builder.append(", \"wallTimeNs\": ").append(wallTime);
+        builder.append(", \"cpuTimeNs\": ").append(cpuTimeSupported ? cpuTime : -1);
+        builder.append(", \"allocatedBytes\": ").append(allocatedBytesMethod != null ? allocatedBytes : -1);
+    }
+
+    private static void appendSeparator(StringBuilder builder, int index, String indent) {
+        if (index > 0) {
+            builder.append(',');
+        }
+        builder.append('\n').append(indent);
+    }
+
+    private static void appendEnd(StringBuilder builder, List<?> elements, String indent) {
+        if (!elements.isEmpty()) {
+            builder.append('\n').append(indent);
+        }
+        builder.append(']');
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < ' ') {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+    private long getCurrentThreadCpuTime() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0L;
+    }
+
+    private long getCurrentThreadAllocatedBytes() {
+        if (allocatedBytesMethod == null) {
+            return 0L;
+        }
+        try {
+            return (Long) allocatedBytesMethod.invoke(threadMXBean, Thread.currentThread().getId());
+        } catch (ReflectiveOperationException e) {
+            return 0L;
+        }
+    }
+
+    private static Method findAllocatedBytesMethod(ThreadMXBean threadMXBean) {
+        // com.sun.management.ThreadMXBean is not available on all JVMs
+        try {
+            Class<?> extendedThreadMXBean = Class.forName("com.sun.management.ThreadMXBean");
+            if (extendedThreadMXBean.isInstance(threadMXBean)) {
+                Method isSupported = extendedThreadMXBean.getMethod("isThreadAllocatedMemorySupported");
+                Method isEnabled = extendedThreadMXBean.getMethod("isThreadAllocatedMemoryEnabled");
+                if ((Boolean) isSupported.invoke(threadMXBean) && (Boolean) isEnabled.invoke(threadMXBean)) {
+                    return extendedThreadMXBean.getMethod("getThreadAllocatedBytes", long.class);
+                }
+            }
+        } catch (ReflectiveOperationException | LinkageError | SecurityException ignored) {
+        }
+        return null;
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        // the report is written at the very end of the bootstrap, see writeReport()
+    }
+
+    @Override
+    public void cleanup() {
+        active = false;
+        observers.clear();
+        operations.clear();
+        stack.clear();
+    }
+
+    /**
+     * A snapshot of the current thread's counters.
+     */
+    public static final class Sample {
+
+        private final long wallTime;
+
+        private final long cpuTime;
+
+        private final long allocatedBytes;
+
+        private Sample(long wallTime, long cpuTime, long allocatedBytes) {
+            this.wallTime = wallTime;
+            this.cpuTime = cpuTime;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+    }
+
+    private static class Operation {
+
+        private final String name;
+
+        private final Sample start;
+
+        private final List<Operation> children;
+
+        private long wallTime;
+
+        private long cpuTime;
+
+        private long allocatedBytes;
+
+        Operation(String name, Sample start) {
+            this.name = name;
+            this.start = start;
+            this.children = new ArrayList<>();
+        }
+
+        void end(Sample end) {
+            this.wallTime = end.wallTime - start.wallTime;
+            this.cpuTime = end.cpuTime - start.cpuTime;
+            this.allocatedBytes = end.allocatedBytes - start.allocatedBytes;
+        }
+
+    }
+
+    private static class ObserverStats {
+
+        private final ObserverMethod<?> observer;
+
+        private final LongAdder notifications;
+
+        private final LongAdder wallTime;
+
+        private final LongAdder cpuTime;
+
+        private final LongAdder allocatedBytes;
+
+        ObserverStats(ObserverMethod<?> observer) {
+            this.observer = observer;
+            this.notifications = new LongAdder();
+            this.wallTime = new LongAdder();
+            this.cpuTime = new LongAdder();
+            this.allocatedBytes = new LongAdder();
+        }
+
+        void add(Sample start, Sample end) {
+            notifications.increment();
+            wallTime.add(end.wallTime - start.wallTime);
+            cpuTime.add(end.cpuTime - start.cpuTime);
+            allocatedBytes.add(end.allocatedBytes - start.allocatedBytes);
+        }
+
+    }
+
+}
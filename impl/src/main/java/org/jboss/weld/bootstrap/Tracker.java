@@ -36,6 +36,17 @@ interface Tracker extends AutoCloseable {
     String OP_ATD = "AfterTypeDiscovery";
     String OP_ABD = "AfterBeanDiscovery";
     String OP_ADV = "AfterDeploymentValidation";
+    String OP_CREATE_CLASSES = "createClasses";
+    String OP_CREATE_TYPES = "createTypes";
+    String OP_CREATE_BEANS = "createBeans";
+    String OP_REGISTER_BEANS = "registerBeans";
+    String OP_VALIDATE_DEPLOYMENT = "validateDeployment";
+    String OP_VALIDATE_DECORATORS = "decorators";
+    String OP_VALIDATE_INTERCEPTORS = "interceptors";
+    String OP_VALIDATE_BEANS_AND_INJECTION_POINTS = "beansAndInjectionPoints";
+    String OP_VALIDATE_ENABLEMENT = "enablement";
+    String OP_VALIDATE_DISPOSERS_AND_OBSERVERS = "disposersAndObservers";
+    String OP_VALIDATE_NAMES = "beanNames";
 
     /**
      * Starts an operation - push.
@@ -43,6 +43,19 @@ final class Trackers {
         return BootstrapLogger.TRACKER_LOG.isDebugEnabled() ? new LoggingTracker() : NOOP_INSTANCE;
     }
 
+    /**
+     *
+     * @param profiler may be null
+     * @return a tracker which also feeds the given profiler
+     */
+    static Tracker create(StartupProfiler profiler) {
+        return profiler != null ? new ProfilingTracker(create(), profiler) : create();
+    }
+
+    static Tracker noop() {
+        return NOOP_INSTANCE;
+    }
+
     private static class NoopTracker implements Tracker {
 
         @Override
@@ -65,6 +78,44 @@ final class Trackers {
 
     }
 
+    private static class ProfilingTracker implements Tracker {
+
+        private final Tracker delegate;
+
+        private final StartupProfiler profiler;
+
+        ProfilingTracker(Tracker delegate, StartupProfiler profiler) {
+            this.delegate = delegate;
+            this.profiler = profiler;
+        }
+
+        @Override
+        public Tracker start(String operation) {
+            delegate.start(operation);
+            profiler.startOperation(operation);
+            return this;
+        }
+
+        @Override
+        public Tracker end() {
+            profiler.endOperation();
+            delegate.end();
+            return this;
+        }
+
+        @Override
+        public void split(String info) {
+            delegate.split(info);
+        }
+
+        @Override
+        public void close() {
+            profiler.endAllOperations();
+            delegate.close();
+        }
+
+    }
+
     private static class LoggingTracker implements Tracker {
 
         private final List<Operation> operations;
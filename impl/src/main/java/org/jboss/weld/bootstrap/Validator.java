@@ -30,12 +30,16 @@ import java.lang.reflect.WildcardType;
 import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.context.NormalScope;
@@ -83,7 +87,7 @@ import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.AbstractDecorableBuiltInBean;
 import org.jboss.weld.bean.builtin.ee.EEResourceProducerField;
 import org.jboss.weld.bean.interceptor.CdiInterceptorFactory;
-import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.api.BootstrapService;
 import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.bootstrap.spi.Metadata;
 import org.jboss.weld.exceptions.AmbiguousResolutionException;
@@ -112,6 +116,8 @@ import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.Decorators;
 import org.jboss.weld.util.InjectionPoints;
 import org.jboss.weld.util.Proxies;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.Multimap;
 import org.jboss.weld.util.collections.SetMultimap;
 import org.jboss.weld.util.collections.WeldCollections;
@@ -127,15 +133,23 @@ import org.jboss.weld.util.reflection.Reflections;
  * @author Stuart Douglas
  * @author Ales Justin
  */
-public class Validator implements Service {
+public class Validator implements BootstrapService {
 
     private final Set<PlugableValidator> plugableValidators;
 
-    private final Map<Bean<?>, Boolean> resolvedInjectionPoints;
+    private final BeanDependencyGraph dependencyGraph;
 
-    public Validator(Set<PlugableValidator> plugableValidators, Map<Bean<?>, Boolean> resolvedInjectionPoints) {
+    // Many injection points share the same type and resolve to the same bean - the proxyability check is only performed once per such pair
+    private final ComputingCache<ProxyabilityCheck, Boolean> proxyableInjectionPointTypes;
+
+    // Pseudo-scoped beans known not to participate in any circular dependency, per bean manager
+    private final ConcurrentMap<BeanManagerImpl, Set<Bean<?>>> pseudoScopedBeansWithoutCycles;
+
+    public Validator(Set<PlugableValidator> plugableValidators, BeanDependencyGraph dependencyGraph) {
         this.plugableValidators = plugableValidators;
-        this.resolvedInjectionPoints = resolvedInjectionPoints;
+        this.dependencyGraph = dependencyGraph;
+        this.proxyableInjectionPointTypes = ComputingCacheBuilder.newBuilder().build(ProxyabilityCheck::isProxyable);
+        this.pseudoScopedBeansWithoutCycles = new ConcurrentHashMap<>();
     }
 
     protected void validateGeneralBean(Bean<?> bean, BeanManagerImpl beanManager) {
@@ -393,11 +407,10 @@ public class Validator implements Service {
         // Account for the case this is disabled decorator
         if (!resolvedBeans.isEmpty()) {
             Bean<?> resolvedBean = (Bean<?>) resolvedBeans.iterator().next();
-            if (beanManager.isNormalScope(resolvedBean.getScope())) {
+            if (beanManager.isNormalScope(resolvedBean.getScope())
+                    && !proxyableInjectionPointTypes.getValue(new ProxyabilityCheck(ij.getType(), resolvedBean, beanManager))) {
                 UnproxyableResolutionException ue = Proxies.getUnproxyableTypeException(ij.getType(), resolvedBean, beanManager.getServices(), false);
-                if (ue != null) {
-                    throw ValidatorLogger.LOG.injectionPointHasNonProxyableDependencies(ij, Formats.formatAsStackTraceElement(ij), ue);
-                }
+                throw ValidatorLogger.LOG.injectionPointHasNonProxyableDependencies(ij, Formats.formatAsStackTraceElement(ij), ue);
             }
             if (bean != null && Beans.isPassivatingScope(bean, beanManager)) {
                 validateInjectionPointPassivationCapable(ij, resolvedBean, beanManager);
@@ -408,9 +421,9 @@ public class Validator implements Service {
             validator.validateInjectionPointForDeploymentProblems(ij, bean, beanManager);
         }
 
-        if (resolvedInjectionPoints != null) {
+        if (!resolvedBeans.isEmpty()) {
             // Store result to identify unused beans
-            resolvedInjectionPoints.put(resolvedBeans.iterator().next(), Boolean.TRUE);
+            dependencyGraph.add(bean, ij, resolvedBeans.iterator().next());
         }
     }
 
@@ -482,17 +495,35 @@ public class Validator implements Service {
     }
 
     public void validateDeployment(BeanManagerImpl manager, BeanDeployment deployment) {
+        validateDeployment(manager, deployment, Trackers.noop());
+    }
+
+    /**
+     * Validates the given deployment, each validation phase is reported to the given tracker.
+     *
+     * @param manager
+     * @param deployment
+     * @param tracker
+     */
+    void validateDeployment(BeanManagerImpl manager, BeanDeployment deployment, Tracker tracker) {
+        tracker.start(Tracker.OP_VALIDATE_DECORATORS);
         validateDecorators(manager.getDecorators(), manager);
+        tracker.end().start(Tracker.OP_VALIDATE_INTERCEPTORS);
         validateInterceptors(manager.getInterceptors(), manager);
+        tracker.end().start(Tracker.OP_VALIDATE_BEANS_AND_INJECTION_POINTS);
         validateBeans(manager.getBeans(), manager);
+        tracker.end().start(Tracker.OP_VALIDATE_ENABLEMENT);
         validateEnabledDecoratorClasses(manager, deployment);
         validateEnabledInterceptorClasses(manager, deployment);
         validateEnabledAlternativeStereotypes(manager, deployment);
         validateEnabledAlternativeClasses(manager, deployment);
         validateSpecialization(manager);
+        tracker.end().start(Tracker.OP_VALIDATE_DISPOSERS_AND_OBSERVERS);
         validateDisposalMethods(deployment.getBeanDeployer().getEnvironment());
         validateObserverMethods(deployment.getBeanDeployer().getEnvironment().getObservers(), manager);
+        tracker.end().start(Tracker.OP_VALIDATE_NAMES);
         validateBeanNames(manager);
+        tracker.end();
     }
 
     public void validateSpecialization(BeanManagerImpl manager) {
@@ -920,12 +951,15 @@ public class Validator implements Service {
     /**
      * Checks to make sure that pseudo scoped beans (i.e. @Dependent scoped beans) have no circular dependencies.
      */
-    private static void validatePseudoScopedBean(Bean<?> bean, BeanManagerImpl beanManager) {
+    private void validatePseudoScopedBean(Bean<?> bean, BeanManagerImpl beanManager) {
         if (bean.getInjectionPoints().isEmpty()) {
             // Skip validation if there are no injection points (e.g. for classes which are not intended to be used as beans)
             return;
         }
-        reallyValidatePseudoScopedBean(bean, beanManager, new LinkedHashSet<Object>(), new HashSet<Bean<?>>());
+        // A bean is only added to the set of validated beans once its whole dependency subtree was traversed without finding a cycle,
+        // therefore the set can be safely shared by all beans validated within the same bean manager
+        Set<Bean<?>> validatedBeans = pseudoScopedBeansWithoutCycles.computeIfAbsent(beanManager, (key) -> Collections.newSetFromMap(new ConcurrentHashMap<>()));
+        reallyValidatePseudoScopedBean(bean, beanManager, new LinkedHashSet<Object>(), validatedBeans);
     }
 
     /**
@@ -993,19 +1027,72 @@ public class Validator implements Service {
         }
     }
 
+    /**
+     * Clears the results of the checks shared by multiple injection points and beans. Must be called whenever the set of beans may have changed.
+     */
+    void clearValidationCaches() {
+        proxyableInjectionPointTypes.clear();
+        pseudoScopedBeansWithoutCycles.clear();
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        clearValidationCaches();
+    }
+
     @Override
     public void cleanup() {
+        clearValidationCaches();
     }
 
     // This covers beans, producers, disposers and observers injection points
     public boolean isResolved(Bean<?> bean) {
-        return resolvedInjectionPoints != null ? resolvedInjectionPoints.containsKey(bean) : false;
+        return dependencyGraph.isResolved(bean);
     }
 
     public void clearResolved() {
-        if (resolvedInjectionPoints != null) {
-            resolvedInjectionPoints.clear();
+        dependencyGraph.releaseAfterBoot();
+    }
+
+    private static class ProxyabilityCheck {
+
+        private final Type type;
+
+        private final Bean<?> bean;
+
+        private final BeanManagerImpl beanManager;
+
+        private final int hashCode;
+
+        ProxyabilityCheck(Type type, Bean<?> bean, BeanManagerImpl beanManager) {
+            this.type = type;
+            this.bean = bean;
+            this.beanManager = beanManager;
+            // bean manager is intentionally not part of the identity - the result only depends on global services
+            this.hashCode = Objects.hash(type, bean);
+        }
+
+        Boolean isProxyable() {
+            return Proxies.getUnproxyableTypeException(type, bean, beanManager.getServices(), false) == null;
         }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof ProxyabilityCheck) {
+                ProxyabilityCheck that = (ProxyabilityCheck) obj;
+                return type.equals(that.type) && bean.equals(that.bean);
+            }
+            return false;
+        }
+
     }
 
 }
@@ -21,11 +21,11 @@ import static org.jboss.weld.config.ConfigurationKey.ROLLING_UPGRADES_ID_DELIMIT
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.ConversationScoped;
@@ -56,6 +56,7 @@ import org.jboss.weld.bean.builtin.ContextBean;
 import org.jboss.weld.bean.proxy.ProtectionDomainCache;
 import org.jboss.weld.bean.proxy.ProxyInstantiator;
 import org.jboss.weld.bean.proxy.util.SimpleProxyServices;
+import org.jboss.weld.bootstrap.api.BootstrapService;
 import org.jboss.weld.bootstrap.api.Environment;
 import org.jboss.weld.bootstrap.api.Service;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
@@ -86,6 +87,7 @@ import org.jboss.weld.context.bound.BoundLiteral;
 import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
 import org.jboss.weld.contexts.bound.BoundConversationContextImpl;
 import org.jboss.weld.contexts.bound.BoundRequestContextImpl;
 import org.jboss.weld.contexts.bound.BoundSessionContextImpl;
@@ -110,6 +112,7 @@ import org.jboss.weld.metadata.TypeStore;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.module.ObserverNotifierFactory;
 import org.jboss.weld.module.WeldModules;
+import org.jboss.weld.resolution.AssignabilityCache;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.resources.DefaultResourceLoader;
 import org.jboss.weld.resources.MemberTransformer;
@@ -158,7 +161,7 @@ public class WeldStartup {
     private DeploymentVisitor deploymentVisitor;
     private final ServiceRegistry initialServices = new SimpleServiceRegistry();
     private String contextId;
-    private final Tracker tracker = Trackers.create();
+    private Tracker tracker = Trackers.create();
 
 
     public WeldStartup() {
@@ -168,8 +171,6 @@ public class WeldStartup {
         if (deployment == null) {
             throw BootstrapLogger.LOG.deploymentRequired();
         }
-        tracker.start(Tracker.OP_BOOTSTRAP);
-        tracker.start(Tracker.OP_START_CONTAINER);
         checkApiVersion();
 
         final ServiceRegistry registry = deployment.getServices();
@@ -184,6 +185,8 @@ public class WeldStartup {
 
         WeldConfiguration configuration = new WeldConfiguration(registry, deployment);
         registry.add(WeldConfiguration.class, configuration);
+        // Validate the constructor invocation strategy at boot rather than on the first bean instantiation
+        configuration.getConstructorInvocationStrategy();
 
         String finalContextId = BeanDeployments.getFinalId(contextId,
             registry.get(WeldConfiguration.class).getStringProperty(ROLLING_UPGRADES_ID_DELIMITER));
@@ -191,6 +194,15 @@ public class WeldStartup {
         this.deployment = deployment;
         this.environment = environment;
 
+        String startupReportDirectory = configuration.getStringProperty(ConfigurationKey.STARTUP_REPORT);
+        if (!startupReportDirectory.isEmpty()) {
+            StartupProfiler profiler = new StartupProfiler(finalContextId, startupReportDirectory);
+            registry.add(StartupProfiler.class, profiler);
+            this.tracker = Trackers.create(profiler);
+        }
+        tracker.start(Tracker.OP_BOOTSTRAP);
+        tracker.start(Tracker.OP_START_CONTAINER);
+
         if (this.extensions == null) {
             setExtensions(deployment.getExtensions());
         }
@@ -303,10 +315,12 @@ public class WeldStartup {
         }
 
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
+        services.add(BeanStoreIndex.class, new BeanStoreIndex());
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
         services.add(CurrentEventMetadata.class, new CurrentEventMetadata());
         services.add(SpecializationAndEnablementRegistry.class, new SpecializationAndEnablementRegistry());
         services.add(MissingDependenciesRegistry.class, new MissingDependenciesRegistry());
+        services.add(AssignabilityCache.class, new AssignabilityCache(configuration.getLongProperty(ConfigurationKey.RESOLUTION_ASSIGNABILITY_CACHE_SIZE)));
 
         /*
          * Setup ExecutorServices
@@ -338,13 +352,13 @@ public class WeldStartup {
         /*
          * Setup Validator
          */
+        BeanDependencyGraph dependencyGraph = new BeanDependencyGraph(UnusedBeans.isEnabled(configuration));
+        services.add(BeanDependencyGraph.class, dependencyGraph);
         Validator validator;
         if (configuration.getBooleanProperty(ConfigurationKey.CONCURRENT_DEPLOYMENT) && services.contains(ExecutorServices.class)) {
-            validator = new ConcurrentValidator(modules.getPluggableValidators(), executor,
-                    UnusedBeans.isEnabled(configuration) ? new ConcurrentHashMap<>() : null);
+            validator = new ConcurrentValidator(modules.getPluggableValidators(), executor, dependencyGraph);
         } else {
-            validator = new Validator(modules.getPluggableValidators(),
-                    UnusedBeans.isEnabled(configuration) ? new HashMap<>() : null);
+            validator = new Validator(modules.getPluggableValidators(), dependencyGraph);
         }
         services.add(Validator.class, validator);
 
@@ -370,13 +384,7 @@ public class WeldStartup {
         ClassFileServices classFileServices = services.get(ClassFileServices.class);
         if (classFileServices != null) {
             final GlobalObserverNotifierService observers = services.get(GlobalObserverNotifierService.class);
-            try {
-                final FastProcessAnnotatedTypeResolver resolver = new FastProcessAnnotatedTypeResolver(observers.getAllObserverMethods());
-                services.add(FastProcessAnnotatedTypeResolver.class, resolver);
-            } catch (UnsupportedObserverMethodException e) {
-                BootstrapLogger.LOG.notUsingFastResolver(e.getObserver());
-                return;
-            }
+            services.add(FastProcessAnnotatedTypeResolver.class, new FastProcessAnnotatedTypeResolver(observers.getAllObserverMethods(), services.get(AssignabilityCache.class)));
         }
     }
 
@@ -409,7 +417,9 @@ public class WeldStartup {
 
         // for each physical BDA transform its classes into AnnotatedType instances
         for (BeanDeployment beanDeployment : physicalBeanDeploymentArchives) {
+            tracker.start(Tracker.OP_CREATE_CLASSES).start(beanDeployment.getBeanDeploymentArchive().getId());
             beanDeployment.createClasses();
+            tracker.end().end();
         }
 
         // Re-Read the deployment structure, bdaMapping will be the physical
@@ -418,7 +428,9 @@ public class WeldStartup {
         deploymentVisitor.visit();
 
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            tracker.start(Tracker.OP_CREATE_TYPES).start(beanDeployment.getBeanDeploymentArchive().getId());
             beanDeployment.createTypes();
+            tracker.end().end();
         }
 
         tracker.start(Tracker.OP_ATD);
@@ -435,7 +447,9 @@ public class WeldStartup {
     public void deployBeans() {
         tracker.start(Tracker.OP_DEPLOY_BEANS);
         for (BeanDeployment deployment : getBeanDeployments()) {
+            tracker.start(Tracker.OP_CREATE_BEANS).start(deployment.getBeanDeploymentArchive().getId());
             deployment.createBeans(environment);
+            tracker.end().end();
         }
         // we must use separate loops, otherwise cyclic specialization would not work
         for (BeanDeployment deployment : getBeanDeployments()) {
@@ -450,7 +464,9 @@ public class WeldStartup {
             beanDeployment.deploySpecialized(environment);
         }
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            tracker.start(Tracker.OP_REGISTER_BEANS).start(beanDeployment.getBeanDeploymentArchive().getId());
             beanDeployment.deployBeans(environment);
+            tracker.end().end();
         }
 
         getContainer().setState(ContainerState.DISCOVERED);
@@ -489,17 +505,23 @@ public class WeldStartup {
     public void validateBeans() {
         BootstrapLogger.LOG.validatingBeans();
         tracker.start(Tracker.OP_VALIDATE_BEANS);
+        final Validator validator = deployment.getServices().get(Validator.class);
+        // Extensions may have registered beans since the validator was last used
+        validator.clearValidationCaches();
         try {
             for (BeanDeployment beanDeployment : getBeanDeployments()) {
                 BeanManagerImpl beanManager = beanDeployment.getBeanManager();
                 beanManager.getBeanResolver().clear();
-                deployment.getServices().get(Validator.class).validateDeployment(beanManager, beanDeployment);
+                tracker.start(Tracker.OP_VALIDATE_DEPLOYMENT).start(beanDeployment.getBeanDeploymentArchive().getId());
+                validator.validateDeployment(beanManager, beanDeployment, tracker);
                 beanManager.getServices().get(InjectionTargetService.class).validate();
+                tracker.end().end();
             }
         } catch (Exception e) {
             validationFailed(e);
             throw e;
         }
+        deploymentManager.getServices().get(BeanDependencyGraph.class).validated();
         getContainer().setState(ContainerState.VALIDATED);
         tracker.start(Tracker.OP_ADV);
         AfterDeploymentValidationImpl.fire(deploymentManager);
@@ -528,6 +550,8 @@ public class WeldStartup {
         // clear the TypeSafeResolvers, so data that is only used at startup
         // is not kept around using up memory
         flushCaches();
+        final boolean removeUnusedBeans = isRemoveUnusedBeansEnabled();
+        final int beansBeforeCleanup = removeUnusedBeans ? countBeans() : 0;
         deploymentManager.getServices().cleanupAfterBoot();
         deploymentManager.cleanupAfterBoot();
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
@@ -561,6 +585,10 @@ public class WeldStartup {
             beanDeployment.getBeanDeployer().cleanup();
         }
 
+        if (removeUnusedBeans) {
+            BootstrapLogger.LOG.unusedBeansRemoved(beansBeforeCleanup - countBeans(), beansBeforeCleanup);
+        }
+
         // Perform additional cleanup if removing unused beans
         if (UnusedBeans.isEnabled(deploymentManager.getServices().get(WeldConfiguration.class))) {
             deploymentManager.getBeanResolver().clear();
@@ -569,6 +597,17 @@ public class WeldStartup {
             }
             deploymentManager.getServices().get(Validator.class).clearResolved();
             deploymentManager.getServices().get(ClassTransformer.class).cleanupAfterBoot();
+            // Looking for unused beans reads the annotations of members and resolves Instance injection points again
+            ReflectionCache reflectionCache = deploymentManager.getServices().get(ReflectionCache.class);
+            if (reflectionCache instanceof BootstrapService) {
+                ((BootstrapService) reflectionCache).cleanupAfterBoot();
+            }
+            deploymentManager.getServices().get(AssignabilityCache.class).cleanup();
+        }
+
+        // Release the remaining bootstrap-only metadata if the reduced footprint mode is enabled
+        if (deploymentManager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.REDUCED_FOOTPRINT)) {
+            releaseBootstrapMetadata();
         }
 
         getContainer().setState(ContainerState.INITIALIZED);
@@ -584,6 +623,38 @@ public class WeldStartup {
             }
         }
         tracker.close();
+
+        final StartupProfiler profiler = deploymentManager.getServices().get(StartupProfiler.class);
+        if (profiler != null) {
+            profiler.writeReport();
+        }
+    }
+
+    private boolean isRemoveUnusedBeansEnabled() {
+        WeldConfiguration configuration = deploymentManager.getServices().get(WeldConfiguration.class);
+        return UnusedBeans.isEnabled(configuration) && configuration.getBooleanProperty(ConfigurationKey.ALLOW_OPTIMIZED_CLEANUP);
+    }
+
+    /**
+     *
+     * @return the number of distinct beans, e.g. an extension bean is registered in every bean manager
+     */
+    int countBeans() {
+        Set<Bean<?>> beans = Collections.newSetFromMap(new IdentityHashMap<>());
+        beans.addAll(deploymentManager.getBeans());
+        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            beans.addAll(beanDeployment.getBeanManager().getBeans());
+        }
+        return beans.size();
+    }
+
+    private void releaseBootstrapMetadata() {
+        final ServiceRegistry services = deploymentManager.getServices();
+        services.get(Validator.class).clearResolved();
+        // ClassTransformer, MemberTransformer and SharedObjectCache were already cleaned up together with the other services
+        services.get(MetaAnnotationStore.class).clearAnnotationData();
+        // The resolver caches may be populated again by the cleanup of beans (e.g. unused beans detection)
+        flushCaches();
     }
 
     private void flushCaches() {
@@ -18,7 +18,9 @@ package org.jboss.weld.bootstrap;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -51,9 +53,16 @@ public class WeldUnusedMetadataExtension implements Extension {
 
     private Set<InjectionPoint> instanceInjectionPoints;
 
+    // The collected injection points are only resolved once per bean manager
+    private final Map<BeanManagerImpl, Set<Bean<?>>> componentResolvedBeans;
+
+    private final Map<BeanManagerImpl, Set<Bean<?>>> instanceResolvedBeans;
+
     WeldUnusedMetadataExtension() {
         this.componentInjectionPoints = new HashSet<>();
         this.instanceInjectionPoints = new HashSet<>();
+        this.componentResolvedBeans = new HashMap<>();
+        this.instanceResolvedBeans = new HashMap<>();
     }
 
     void processInjectionPoints(@Observes ProcessInjectionPoint<?, ?> event) {
@@ -68,36 +77,43 @@ public class WeldUnusedMetadataExtension implements Extension {
     void clear(@Observes @Initialized(ApplicationScoped.class) Object obj) {
         componentInjectionPoints.clear();
         instanceInjectionPoints.clear();
+        componentResolvedBeans.clear();
+        instanceResolvedBeans.clear();
     }
 
     public boolean isInjectedByEEComponent(Bean<?> bean, BeanManagerImpl beanManager) {
         if (componentInjectionPoints.isEmpty()) {
             return false;
         }
-        for (InjectionPoint injectionPoint : componentInjectionPoints) {
-            if (beanManager.getBeanResolver().resolve(new ResolvableBuilder(injectionPoint, beanManager).create(), false).contains(bean)) {
-                return true;
-            }
-        }
-        return false;
+        return componentResolvedBeans.computeIfAbsent(beanManager, this::resolveComponentInjectionPoints).contains(bean);
     }
 
     public boolean isInstanceResolvedBean(Bean<?> bean, BeanManagerImpl beanManager) {
         if (instanceInjectionPoints.isEmpty()) {
             return false;
         }
+        return instanceResolvedBeans.computeIfAbsent(beanManager, this::resolveInstanceInjectionPoints).contains(bean);
+    }
+
+    private Set<Bean<?>> resolveComponentInjectionPoints(BeanManagerImpl beanManager) {
+        Set<Bean<?>> beans = new HashSet<>();
+        for (InjectionPoint injectionPoint : componentInjectionPoints) {
+            beans.addAll(beanManager.getBeanResolver().resolve(new ResolvableBuilder(injectionPoint, beanManager).create(), false));
+        }
+        return beans;
+    }
+
+    private Set<Bean<?>> resolveInstanceInjectionPoints(BeanManagerImpl beanManager) {
+        Set<Bean<?>> beans = new HashSet<>();
         for (InjectionPoint injectionPoint : instanceInjectionPoints) {
             Type facadeType = getFacadeType(injectionPoint);
             if (facadeType != null) {
                 Resolvable resolvable = new ResolvableBuilder(facadeType, beanManager).addQualifiers(injectionPoint.getQualifiers())
                         .setDeclaringBean(injectionPoint.getBean()).create();
-                if (beanManager.getBeanResolver().resolve(resolvable, false).contains(bean)) {
-                    return true;
-                }
+                beans.addAll(beanManager.getBeanResolver().resolve(resolvable, false));
             }
-
         }
-        return false;
+        return beans;
     }
 
     private Type getFacadeType(InjectionPoint injectionPoint) {
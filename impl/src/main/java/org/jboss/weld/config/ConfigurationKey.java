@@ -103,6 +103,14 @@ public enum ConfigurationKey {
     @Description("Weld caches already resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans, decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a common default value.")
     RESOLUTION_CACHE_SIZE("org.jboss.weld.resolution.cacheSize", 0x10000L),
 
+    /**
+     * Weld memoizes the results of assignability checks of generic types, i.e. whether a required type matches a bean type or whether an observed type
+     * matches an event type. The memo is shared by all the type safe resolvers and its maximum size is bounded. If set to zero, the results are not
+     * memoized.
+     */
+    @Description("Weld memoizes the results of assignability checks of generic types, i.e. whether a required type matches a bean type or whether an observed type matches an event type. The memo is shared by all the type safe resolvers and its maximum size is bounded. If set to zero, the results are not memoized.")
+    RESOLUTION_ASSIGNABILITY_CACHE_SIZE("org.jboss.weld.resolution.assignabilityCacheSize", 0x10000L),
+
     /**
      * For debug purposes, it's possible to dump the generated bytecode of proxies and subclasses.
      */
@@ -116,6 +124,14 @@ public enum ConfigurationKey {
     @Description("Weld supports a non-standard workaround to be able to create client proxies for Java types that cannot be proxied by the container, using non-portable JVM APIs.")
     RELAXED_CONSTRUCTION("org.jboss.weld.construction.relaxed", false),
 
+    /**
+     * The way bean constructors are invoked. Possible values are: METHOD_HANDLE, REFLECTION.
+     *
+     * @see org.jboss.weld.injection.ConstructorInvocationStrategy
+     */
+    @Description("The way bean constructors are invoked. Possible values are: <ul><li><code>METHOD_HANDLE</code> - A direct method handle is created once per constructor and used to create all the instances.</li><li><code>REFLECTION</code> - <code>Constructor.newInstance()</code> is used to create each instance.</li></ul>")
+    CONSTRUCTOR_INVOCATION("org.jboss.weld.construction.invocation", "METHOD_HANDLE"),
+
     /**
      * Allows {@link ProxyInstantiator} to be selected explicitly. This is only intended for testing purposes and should never be set by an application.
      */
@@ -329,6 +345,29 @@ public enum ConfigurationKey {
     @Description("If set to true then when a contextual reference for a @SessionScoped or @ConversationScoped bean is obtained from a context backed by an HTTP session the instance is set again using HttpSession.setAttribute(). This allows to trigger session replication in some application servers.")
     RESET_HTTP_SESSION_ATTR_ON_BEAN_ACCESS("org.jboss.weld.context.resetHttpSessionAttributeOnBeanAccess", false),
 
+    /**
+     * If a non-empty string, a machine-readable (JSON) startup report is written after the container is initialized. The value represents a path of the
+     * directory where to write the report. The report contains wall time, CPU time and allocated bytes per bootstrap phase and bean archive, and per extension
+     * observer method notified of a container lifecycle event.
+     */
+    @Description("If a non-empty string, a machine-readable (JSON) startup report is written after the container is initialized. The value represents a path of the directory where to write the report.")
+    STARTUP_REPORT("org.jboss.weld.bootstrap.startupReport", ""),
+
+    /**
+     * If set to <code>true</code>, Weld releases all the metadata which is only needed during bean definition (e.g. annotation models, cached qualifier
+     * instances and the injection point resolution results) once the container is initialized. The metadata needed at runtime are recomputed lazily.
+     */
+    @Description("If set to true, Weld releases all the metadata which is only needed during bean definition once the container is initialized. The metadata needed at runtime are recomputed lazily.")
+    REDUCED_FOOTPRINT("org.jboss.weld.bootstrap.reducedFootprint", false),
+
+    /**
+     * If set to <code>true</code>, a transactional observer method is only notified once of equal events with the same qualifiers fired within the same
+     * transaction. This only applies if the deferred notifications of all the events fired within a transaction are accumulated in a single JTA
+     * synchronization, i.e. if the <code>TransactionSynchronizationRegistry</code> is available.
+     */
+    @Description("If set to true, a transactional observer method is only notified once of equal events with the same qualifiers fired within the same transaction.")
+    TRANSACTIONAL_OBSERVERS_COALESCE_EVENTS("org.jboss.weld.event.transactional.coalesceEvents", false),
+
     ;
 
     /**
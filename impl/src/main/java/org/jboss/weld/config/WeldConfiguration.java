@@ -37,6 +37,7 @@ import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.Deployment;
 import org.jboss.weld.configuration.spi.ExternalConfiguration;
 import org.jboss.weld.exceptions.IllegalStateException;
+import org.jboss.weld.injection.ConstructorInvocationStrategy;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.logging.ConfigurationLogger;
 import org.jboss.weld.resources.WeldClassLoaderResourceLoader;
@@ -112,6 +113,8 @@ public class WeldConfiguration implements Service {
 
     private final Pattern proxyIgnoreFinalMethodsPattern;
 
+    private volatile ConstructorInvocationStrategy constructorInvocationStrategy;
+
     /**
      *
      * @param services
@@ -188,6 +191,22 @@ public class WeldConfiguration implements Service {
         return proxyIgnoreFinalMethodsPattern != null ? proxyIgnoreFinalMethodsPattern.matcher(className).matches() : false;
     }
 
+    /**
+     *
+     * @return the strategy used to invoke bean constructors
+     * @throws org.jboss.weld.exceptions.DeploymentException If the configured value is not valid
+     * @see ConfigurationKey#CONSTRUCTOR_INVOCATION
+     */
+    public ConstructorInvocationStrategy getConstructorInvocationStrategy() {
+        ConstructorInvocationStrategy strategy = constructorInvocationStrategy;
+        if (strategy == null) {
+            // Resolved on first use - racing threads resolve the same value
+            strategy = ConstructorInvocationStrategy.of(this);
+            constructorInvocationStrategy = strategy;
+        }
+        return strategy;
+    }
+
     @Override
     public void cleanup() {
         if (properties != null) {
@@ -26,15 +26,13 @@ import org.jboss.weld.bean.WrappedContextual;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.contexts.beanstore.BeanStore;
-import org.jboss.weld.contexts.beanstore.LockedBean;
+import org.jboss.weld.contexts.beanstore.BeanStoreIndex;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
 import org.jboss.weld.logging.ContextLogger;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
 import org.jboss.weld.util.Beans;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-
 /**
  * Base for the Context implementations. Delegates calls to the abstract
  * getBeanStore and getActive to allow for different implementations (storage
@@ -49,6 +47,8 @@ public abstract class AbstractContext implements AlterableContext {
 
     private final ServiceRegistry serviceRegistry;
 
+    private final BeanStoreIndex beanStoreIndex;
+
     /**
      * Constructor
      *
@@ -56,6 +56,7 @@ public abstract class AbstractContext implements AlterableContext {
     public AbstractContext(String contextId, boolean multithreaded) {
         this.multithreaded = multithreaded;
         this.serviceRegistry = Container.instance(contextId).services();
+        this.beanStoreIndex = serviceRegistry.get(BeanStoreIndex.class);
     }
 
     /**
@@ -66,7 +67,6 @@ public abstract class AbstractContext implements AlterableContext {
      * @seejakarta.enterprise.context.spi.Context#get(BaseBean, boolean)
      */
     @Override
-    @SuppressFBWarnings(value = "UL_UNRELEASED_LOCK", justification = "False positive from FindBugs")
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
         if (!isActive()) {
             throw new ContextNotActiveException();
@@ -80,30 +80,21 @@ public abstract class AbstractContext implements AlterableContext {
             throw ContextLogger.LOG.contextualIsNull();
         }
         BeanIdentifier id = getId(contextual);
-        ContextualInstance<T> beanInstance = beanStore.get(id);
+        int index = getIndex(contextual);
+        ContextualInstance<T> beanInstance = beanStore.get(id, index);
         if (beanInstance != null) {
             return beanInstance.getInstance();
         } else if (creationalContext != null) {
-            LockedBean lock = null;
-            try {
-                if (multithreaded) {
-                    lock = beanStore.lock(id);
-                    beanInstance = beanStore.get(id);
-                    if (beanInstance != null) {
-                        return beanInstance.getInstance();
-                    }
-                }
-                T instance = contextual.create(creationalContext);
-                if (instance != null) {
-                    beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, serviceRegistry.get(ContextualStore.class));
-                    beanStore.put(id, beanInstance);
-                }
-                return instance;
-            } finally {
-                if (lock != null) {
-                    lock.unlock();
-                }
+            if (multithreaded) {
+                beanInstance = beanStore.getOrCreate(id, index, () -> createInstance(contextual, creationalContext));
+                return beanInstance != null ? beanInstance.getInstance() : null;
+            }
+            beanInstance = createInstance(contextual, creationalContext);
+            if (beanInstance != null) {
+                beanStore.put(id, index, beanInstance);
+                return beanInstance.getInstance();
             }
+            return null;
         } else {
             return null;
         }
@@ -128,13 +119,20 @@ public abstract class AbstractContext implements AlterableContext {
             throw ContextLogger.LOG.noBeanStoreAvailable(this);
         }
         BeanIdentifier id = getId(contextual);
-        ContextualInstance<?> beanInstance = beanStore.remove(id);
+        ContextualInstance<?> beanInstance = beanStore.remove(id, getIndex(contextual));
         if (beanInstance != null) {
             RequestScopedCache.invalidate();
             destroyContextualInstance(beanInstance);
         }
     }
 
+    private <T> ContextualInstance<T> createInstance(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        T instance = contextual.create(creationalContext);
+        return instance != null
+                ? new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, serviceRegistry.get(ContextualStore.class))
+                : null;
+    }
+
     private <T> void destroyContextualInstance(ContextualInstance<T> instance) {
         instance.getContextual().destroy(instance.getInstance(), instance.getCreationalContext());
         ContextLogger.LOG.contextualInstanceRemoved(instance, this);
@@ -185,6 +183,22 @@ public abstract class AbstractContext implements AlterableContext {
         return Beans.getIdentifier(contextual, serviceRegistry);
     }
 
+    /**
+     *
+     * @param contextual
+     * @return the index used to look up an instance of the given contextual in a bean store, or {@link BeanStoreIndex#NO_INDEX}
+     * @see BeanStore#get(BeanIdentifier, int)
+     */
+    protected int getIndex(Contextual<?> contextual) {
+        if (beanStoreIndex == null) {
+            return BeanStoreIndex.NO_INDEX;
+        }
+        if (contextual instanceof WrappedContextual<?>) {
+            contextual = ((WrappedContextual<?>) contextual).delegate();
+        }
+        return beanStoreIndex.getIndex(contextual);
+    }
+
     protected ServiceRegistry getServiceRegistry() {
         return serviceRegistry;
     }
@@ -46,6 +46,7 @@ import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.contexts.beanstore.BoundBeanStore;
 import org.jboss.weld.contexts.beanstore.ConversationNamingScheme;
 import org.jboss.weld.contexts.beanstore.NamingScheme;
+import org.jboss.weld.contexts.conversation.ConversationExpiryIndex;
 import org.jboss.weld.contexts.conversation.ConversationIdGenerator;
 import org.jboss.weld.contexts.conversation.ConversationImpl;
 import org.jboss.weld.event.FastEvent;
@@ -68,6 +69,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     public static final String CONVERSATIONS_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".conversations";
     public static final String DESTRUCTION_QUEUE_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".destructionQueue";
     private static final String CURRENT_CONVERSATION_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".currentConversation";
+    private static final String EXPIRY_INDEX_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".expiryIndex";
 
     private static final String PARAMETER_NAME = "cid";
 
@@ -176,6 +178,10 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         if (conversationMap != null && (resetHttpSessionAttributeOnBeanAccess || getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, false) == null)) {
             setSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, conversationMap, false);
         }
+        Object expiryIndex = getRequestAttribute(request, EXPIRY_INDEX_ATTRIBUTE_NAME);
+        if (expiryIndex != null && getSessionAttribute(request, EXPIRY_INDEX_ATTRIBUTE_NAME, false) == null) {
+            setSessionAttribute(request, EXPIRY_INDEX_ATTRIBUTE_NAME, expiryIndex, false);
+        }
     }
 
     public void sessionCreated() {
@@ -267,7 +273,12 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 } else {
                     // Update the conversation timestamp
                     getCurrentConversation().touch();
-                    if (!getBeanStore().isAttached()) {
+                    if (getBeanStore().isAttached()) {
+                        if (!getCurrentConversation().isTransient()) {
+                            // Only needed if the timeout was shortened during the request
+                            scheduleExpiry(getCurrentConversation());
+                        }
+                    } else {
                         /*
                          * This was a transient conversation at the beginning of the request, so we need to update the CID it uses, and attach it. We also add
                          * it to the conversations the session knows about.
@@ -279,7 +290,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                                 .getId());
 
                         getBeanStore().attach();
-                        getConversationMap().put(getCurrentConversation().getId(), getCurrentConversation());
+                        putConversation(getCurrentConversation());
                     }
                 }
             } finally {
@@ -303,13 +314,13 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         Map<String, ManagedConversation> toClear = new HashMap<>();
         S session = getSessionFromRequest(getRequest(), false);
         // while synced, extract a map of conversations that we'll need to clean up, already removing them from map
+        // only the conversations ended since the last clean up are considered
         synchronized (conversations) {
-            Iterator<Entry<String, ManagedConversation>> entryIterator = conversations.entrySet().iterator();
-            while (entryIterator.hasNext()) {
-                Entry<String, ManagedConversation> entry = entryIterator.next();
-                if (entry.getValue().isTransient()) {
-                    toClear.put(entry.getKey(), entry.getValue());
-                    entryIterator.remove();
+            for (String id : getExpiryIndex(conversations).drainEnded()) {
+                ManagedConversation conversation = conversations.get(id);
+                if (conversation != null && conversation.isTransient()) {
+                    toClear.put(id, conversation);
+                    conversations.remove(id);
                 }
             }
         }
@@ -325,7 +336,22 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     }
 
     public void conversationPromotedToLongRunning(ConversationImpl conversation) {
-        getConversationMap().put(conversation.getId(), conversation);
+        putConversation(conversation);
+    }
+
+    private void putConversation(ManagedConversation conversation) {
+        Map<String, ManagedConversation> conversations = getConversationMap();
+        synchronized (conversations) {
+            conversations.put(conversation.getId(), conversation);
+            getExpiryIndex(conversations).schedule(conversation.getId(), conversation);
+        }
+    }
+
+    private void scheduleExpiry(ManagedConversation conversation) {
+        Map<String, ManagedConversation> conversations = getConversationMap();
+        synchronized (conversations) {
+            getExpiryIndex(conversations).schedule(conversation.getId(), conversation);
+        }
     }
 
     @Override
@@ -333,9 +359,14 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         ManagedConversation currentConversation = getCurrentConversation();
         Map<String, ManagedConversation> conversations = getConversationMap();
         synchronized (conversations) {
-            for (Entry<String, ManagedConversation> stringManagedConversationEntry : conversations.entrySet()) {
-                ManagedConversation conversation = stringManagedConversationEntry.getValue();
-                if (!currentConversation.equals(conversation) && !conversation.isTransient() && isExpired(conversation)) {
+            ConversationExpiryIndex expiryIndex = getExpiryIndex(conversations);
+            // only the conversations whose deadline was reached are considered
+            for (String id : expiryIndex.pollExpired(System.currentTimeMillis())) {
+                ManagedConversation conversation = conversations.get(id);
+                if (currentConversation.equals(conversation)) {
+                    // the current conversation is touched at the end of the request
+                    expiryIndex.schedule(id, conversation);
+                } else {
                     // Try to lock the conversation and log warning if not successful - unlocking should not be necessary
                     if (!conversation.lock(0)) {
                         ConversationLogger.LOG.endLockedConversation(conversation.getId());
@@ -472,6 +503,26 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         }
     }
 
+    /**
+     * Must be called while holding the monitor of the given conversation map.
+     */
+    private ConversationExpiryIndex getExpiryIndex(Map<String, ManagedConversation> conversations) {
+        final R request = getRequest();
+        Object expiryIndex = getRequestAttribute(request, EXPIRY_INDEX_ATTRIBUTE_NAME);
+        if (!(expiryIndex instanceof ConversationExpiryIndex)) {
+            expiryIndex = getSessionAttribute(request, EXPIRY_INDEX_ATTRIBUTE_NAME, false);
+            if (!(expiryIndex instanceof ConversationExpiryIndex)) {
+                expiryIndex = new ConversationExpiryIndex();
+                setSessionAttribute(request, EXPIRY_INDEX_ATTRIBUTE_NAME, expiryIndex, false);
+            }
+            setRequestAttribute(request, EXPIRY_INDEX_ATTRIBUTE_NAME, expiryIndex);
+        }
+        ConversationExpiryIndex index = (ConversationExpiryIndex) expiryIndex;
+        // the conversation map may have been replaced, e.g. after the session was replicated
+        index.ensureIndexed(conversations);
+        return index;
+    }
+
     private void checkIsAssociated() {
         if (!isAssociated()) {
             throw ConversationLogger.LOG.mustCallAssociateBeforeLoadingKnownConversations();
@@ -0,0 +1,259 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.weld.util.ForwardingCompletionStage;
+
+/**
+ * Executes the actions and functions of dependent stages with the contexts of a {@link ContextSnapshot} attached.
+ *
+ * @param <T>
+ * @see ContextSnapshot#propagate(CompletionStage)
+ */
+class ContextPropagatingCompletionStage<T> extends ForwardingCompletionStage<T> {
+
+    private final CompletionStage<T> delegate;
+
+    private final ContextSnapshot snapshot;
+
+    ContextPropagatingCompletionStage(CompletionStage<T> delegate, ContextSnapshot snapshot) {
+        this.delegate = delegate;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    protected CompletionStage<T> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApply(Function<? super T, ? extends U> fn) {
+        return propagate(super.thenApply(wrap(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn) {
+        return propagate(super.thenApplyAsync(wrap(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn, Executor executor) {
+        return propagate(super.thenApplyAsync(wrap(fn), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAccept(Consumer<? super T> action) {
+        return propagate(super.thenAccept(wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action) {
+        return propagate(super.thenAcceptAsync(wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action, Executor executor) {
+        return propagate(super.thenAcceptAsync(wrap(action), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRun(Runnable action) {
+        return propagate(super.thenRun(wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(Runnable action) {
+        return propagate(super.thenRunAsync(wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(Runnable action, Executor executor) {
+        return propagate(super.thenRunAsync(wrap(action), executor));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombine(CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn) {
+        return propagate(super.thenCombine(other, wrap(fn)));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn) {
+        return propagate(super.thenCombineAsync(other, wrap(fn)));
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn, Executor executor) {
+        return propagate(super.thenCombineAsync(other, wrap(fn), executor));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBoth(CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action) {
+        return propagate(super.thenAcceptBoth(other, wrap(action)));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action) {
+        return propagate(super.thenAcceptBothAsync(other, wrap(action)));
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action, Executor executor) {
+        return propagate(super.thenAcceptBothAsync(other, wrap(action), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBoth(CompletionStage<?> other, Runnable action) {
+        return propagate(super.runAfterBoth(other, wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
+        return propagate(super.runAfterBothAsync(other, wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return propagate(super.runAfterBothAsync(other, wrap(action), executor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEither(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+        return propagate(super.applyToEither(other, wrap(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+        return propagate(super.applyToEitherAsync(other, wrap(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn, Executor executor) {
+        return propagate(super.applyToEitherAsync(other, wrap(fn), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEither(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return propagate(super.acceptEither(other, wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return propagate(super.acceptEitherAsync(other, wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action, Executor executor) {
+        return propagate(super.acceptEitherAsync(other, wrap(action), executor));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEither(CompletionStage<?> other, Runnable action) {
+        return propagate(super.runAfterEither(other, wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
+        return propagate(super.runAfterEitherAsync(other, wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return propagate(super.runAfterEitherAsync(other, wrap(action), executor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
+        return propagate(super.thenCompose(wrap(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn) {
+        return propagate(super.thenComposeAsync(wrap(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn, Executor executor) {
+        return propagate(super.thenComposeAsync(wrap(fn), executor));
+    }
+
+    @Override
+    public CompletionStage<T> exceptionally(Function<Throwable, ? extends T> fn) {
+        return propagate(super.exceptionally(wrap(fn)));
+    }
+
+    @Override
+    public CompletionStage<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+        return propagate(super.whenComplete(wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action) {
+        return propagate(super.whenCompleteAsync(wrap(action)));
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action, Executor executor) {
+        return propagate(super.whenCompleteAsync(wrap(action), executor));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handle(BiFunction<? super T, Throwable, ? extends U> fn) {
+        return propagate(super.handle(wrap(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn) {
+        return propagate(super.handleAsync(wrap(fn)));
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn, Executor executor) {
+        return propagate(super.handleAsync(wrap(fn), executor));
+    }
+
+    private <C> CompletionStage<C> propagate(CompletionStage<C> completionStage) {
+        return new ContextPropagatingCompletionStage<C>(completionStage, snapshot);
+    }
+
+    private Runnable wrap(Runnable action) {
+        return () -> snapshot.run(action);
+    }
+
+    private <A> Consumer<A> wrap(Consumer<A> action) {
+        return (a) -> snapshot.run(() -> action.accept(a));
+    }
+
+    private <A, B> BiConsumer<A, B> wrap(BiConsumer<A, B> action) {
+        return (a, b) -> snapshot.run(() -> action.accept(a, b));
+    }
+
+    private <A, R> Function<A, R> wrap(Function<A, R> fn) {
+        return (a) -> snapshot.get(() -> fn.apply(a));
+    }
+
+    private <A, B, R> BiFunction<A, B, R> wrap(BiFunction<A, B, R> fn) {
+        return (a, b) -> snapshot.get(() -> fn.apply(a, b));
+    }
+
+}
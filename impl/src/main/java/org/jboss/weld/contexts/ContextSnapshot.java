@@ -0,0 +1,278 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.contexts.beanstore.BoundBeanStore;
+import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.collections.ImmutableList;
+
+/**
+ * A snapshot of the request and session contexts active on the current thread. The snapshot may be attached to another thread so that the code executed
+ * on that thread, e.g. a stage of a {@link CompletionStage} pipeline, uses the same contextual instances. The bean stores are shared, not copied.
+ *
+ * <p>
+ * The snapshot does not own the contexts - the contextual instances are destroyed once the original contexts are destroyed, e.g. at the end of the HTTP
+ * request. It is the responsibility of the application to make sure the propagated code is finished before that happens. Bean stores of unbound contexts
+ * are not thread-safe, i.e. the propagated code must not run concurrently with other code using the same contexts.
+ * </p>
+ *
+ * <pre>
+ * ContextSnapshot snapshot = ContextSnapshot.capture(beanManager);
+ * snapshot.propagate(CompletableFuture.supplyAsync(snapshot.wrap(() -&gt; service.compute()), executor)).thenAccept(result -&gt; requestScopedBean.store(result));
+ * </pre>
+ */
+public final class ContextSnapshot {
+
+    private static final List<Class<? extends Annotation>> SCOPES = ImmutableList.of(RequestScoped.class, SessionScoped.class);
+
+    private static final ContextSnapshot EMPTY = new ContextSnapshot(null, Collections.emptyList());
+
+    private final BeanManagerImpl manager;
+
+    private final List<CapturedContext> contexts;
+
+    private ContextSnapshot(BeanManagerImpl manager, List<CapturedContext> contexts) {
+        this.manager = manager;
+        this.contexts = contexts;
+    }
+
+    /**
+     * Captures the request and session contexts active on the current thread.
+     *
+     * @param beanManager
+     * @return the snapshot, never <code>null</code>
+     */
+    public static ContextSnapshot capture(BeanManager beanManager) {
+        BeanManagerImpl manager = BeanManagerProxy.unwrap(beanManager);
+        List<CapturedContext> contexts = null;
+        for (Class<? extends Annotation> scope : SCOPES) {
+            if (!manager.isContextActive(scope)) {
+                continue;
+            }
+            CapturedContext captured = capture(scope, manager.getUnwrappedContext(scope));
+            if (captured != null) {
+                if (contexts == null) {
+                    contexts = new ArrayList<>();
+                }
+                contexts.add(captured);
+            }
+        }
+        return contexts != null ? new ContextSnapshot(manager, contexts) : EMPTY;
+    }
+
+    private static CapturedContext capture(Class<? extends Annotation> scope, Context context) {
+        if (context instanceof AbstractUnboundContext) {
+            BeanStore beanStore = ((AbstractUnboundContext) context).getBeanStore();
+            return beanStore != null ? new CapturedContext(scope, (AbstractManagedContext) context, beanStore) : null;
+        }
+        if (context instanceof AbstractBoundContext) {
+            BoundBeanStore beanStore = ((AbstractBoundContext<?>) context).getBeanStore();
+            return beanStore != null ? new CapturedContext(scope, (AbstractManagedContext) context, beanStore) : null;
+        }
+        // the context is not backed by a bean store
+        return null;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if no context was captured, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return contexts.isEmpty();
+    }
+
+    /**
+     * Runs the given action with the captured contexts attached to the current thread. The previous state of the contexts is restored afterwards.
+     *
+     * @param action
+     */
+    public void run(Runnable action) {
+        if (contexts.isEmpty()) {
+            action.run();
+            return;
+        }
+        List<AttachedContext> attached = attach();
+        try {
+            action.run();
+        } finally {
+            detach(attached);
+        }
+    }
+
+    /**
+     * Obtains a result from the given supplier with the captured contexts attached to the current thread. The previous state of the contexts is restored
+     * afterwards.
+     *
+     * @param supplier
+     * @return the result of the supplier
+     */
+    public <T> T get(Supplier<T> supplier) {
+        if (contexts.isEmpty()) {
+            return supplier.get();
+        }
+        List<AttachedContext> attached = attach();
+        try {
+            return supplier.get();
+        } finally {
+            detach(attached);
+        }
+    }
+
+    /**
+     *
+     * @param action
+     * @return an action which runs the given action with the captured contexts attached
+     */
+    public Runnable wrap(Runnable action) {
+        return contexts.isEmpty() ? action : () -> run(action);
+    }
+
+    /**
+     *
+     * @param supplier
+     * @return a supplier which obtains the result of the given supplier with the captured contexts attached
+     */
+    public <T> Supplier<T> wrap(Supplier<T> supplier) {
+        return contexts.isEmpty() ? supplier : () -> get(supplier);
+    }
+
+    /**
+     * The actions and functions of dependent stages created through the returned stage are executed with the captured contexts attached, no matter which
+     * thread executes them. Dependent stages created through the returned stage propagate the contexts as well.
+     *
+     * @param stage
+     * @return a stage propagating the captured contexts
+     */
+    public <T> CompletionStage<T> propagate(CompletionStage<T> stage) {
+        return contexts.isEmpty() ? stage : new ContextPropagatingCompletionStage<>(stage, this);
+    }
+
+    private List<AttachedContext> attach() {
+        // proxies might have cached instances of the contexts which were active on this thread
+        RequestScopedCache.invalidate();
+        List<AttachedContext> attached = new ArrayList<>(contexts.size());
+        for (CapturedContext context : contexts) {
+            attached.add(context.attach(manager));
+        }
+        return attached;
+    }
+
+    private void detach(List<AttachedContext> attached) {
+        for (int i = attached.size() - 1; i >= 0; i--) {
+            attached.get(i).detach();
+        }
+        RequestScopedCache.invalidate();
+    }
+
+    private static final class CapturedContext {
+
+        private final Class<? extends Annotation> scope;
+
+        private final AbstractManagedContext context;
+
+        private final Object beanStore;
+
+        private CapturedContext(Class<? extends Annotation> scope, AbstractManagedContext context, Object beanStore) {
+            this.scope = scope;
+            this.context = context;
+            this.beanStore = beanStore;
+        }
+
+        AttachedContext attach(BeanManagerImpl manager) {
+            AbstractManagedContext suspended = null;
+            if (manager.isContextActive(scope)) {
+                // another context of the same scope may be active on this thread, e.g. a request context activated by an executor
+                Context active = manager.getUnwrappedContext(scope);
+                if (active != context && active instanceof AbstractManagedContext) {
+                    suspended = (AbstractManagedContext) active;
+                    suspended.setActive(false);
+                }
+            }
+            AttachedContext previous = new AttachedContext(context, getBeanStore(context), context.isActive(), context.isValid(), suspended);
+            setBeanStore(context, beanStore);
+            context.setActive(true);
+            return previous;
+        }
+
+    }
+
+    private static final class AttachedContext {
+
+        private final AbstractManagedContext context;
+
+        private final Object beanStore;
+
+        private final boolean active;
+
+        private final boolean valid;
+
+        private final AbstractManagedContext suspended;
+
+        private AttachedContext(AbstractManagedContext context, Object beanStore, boolean active, boolean valid, AbstractManagedContext suspended) {
+            this.context = context;
+            this.beanStore = beanStore;
+            this.active = active;
+            this.valid = valid;
+            this.suspended = suspended;
+        }
+
+        void detach() {
+            setBeanStore(context, beanStore);
+            if (active || valid) {
+                context.setActive(active);
+            } else {
+                // there was no state on this thread
+                context.removeState();
+            }
+            if (suspended != null) {
+                suspended.setActive(true);
+            }
+        }
+
+    }
+
+    private static Object getBeanStore(AbstractManagedContext context) {
+        if (context instanceof AbstractUnboundContext) {
+            return ((AbstractUnboundContext) context).getBeanStore();
+        }
+        return ((AbstractBoundContext<?>) context).getBeanStore();
+    }
+
+    private static void setBeanStore(AbstractManagedContext context, Object beanStore) {
+        if (context instanceof AbstractUnboundContext) {
+            ((AbstractUnboundContext) context).setBeanStore((BeanStore) beanStore);
+        } else {
+            ((AbstractBoundContext<?>) context).setBeanStore((BoundBeanStore) beanStore);
+        }
+    }
+
+}
@@ -54,9 +54,11 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Not needed after initial creation")
     private final transient Contextual<T> contextual;
 
-    private final List<ContextualInstance<?>> dependentInstances;
+    // allocated lazily, see getOrCreateDependentInstances()
+    private volatile List<ContextualInstance<?>> dependentInstances;
 
-    private final List<ContextualInstance<?>> parentDependentInstances;
+    // only used if there is no parent creational context, allocated lazily
+    private volatile List<ContextualInstance<?>> parentDependentInstances;
 
     private final CreationalContextImpl<?> parentCreationalContext;
 
@@ -69,16 +71,13 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private transient InterceptionContext aroundConstructInterceptionContext;
 
     public CreationalContextImpl(Contextual<T> contextual) {
-        this(contextual, null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        this(contextual, null, null);
     }
 
-    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances,
-            List<ContextualInstance<?>> parentDependentInstancesStore, CreationalContextImpl<?> parentCreationalContext) {
+    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances, CreationalContextImpl<?> parentCreationalContext) {
         this.incompleteInstances = incompleteInstances;
         this.contextual = contextual;
         // this is direct ref by intention - to track dependencies hierarchy
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = parentDependentInstancesStore;
         this.parentCreationalContext = parentCreationalContext;
         this.constructorInterceptionSuppressed = false;
     }
@@ -86,9 +85,6 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private CreationalContextImpl() {
         this.contextual = null;
         this.parentCreationalContext = null;
-        // We can't use immutable empty lists because of some rare scenarios with Instance.get()
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
     }
 
     public void push(T incompleteInstance) {
@@ -99,11 +95,11 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public <S> CreationalContextImpl<S> getCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances, dependentInstances, this);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances, this);
     }
 
     public <S> CreationalContextImpl<S> getProducerReceiverCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, null);
     }
 
     public <S> S getIncompleteInstance(Contextual<S> bean) {
@@ -115,7 +111,41 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public void addDependentInstance(ContextualInstance<?> contextualInstance) {
-        parentDependentInstances.add(contextualInstance);
+        if (parentCreationalContext != null) {
+            parentCreationalContext.getOrCreateDependentInstances().add(contextualInstance);
+        } else {
+            getOrCreateParentDependentInstances().add(contextualInstance);
+        }
+    }
+
+    /*
+     * Most creational contexts never hold a dependent instance, therefore the lists are only allocated when needed. A creational context may be shared
+     * between threads (e.g. an injected Instance), so the lists are synchronized and published safely.
+     */
+    private List<ContextualInstance<?>> getOrCreateDependentInstances() {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            synchronized (this) {
+                dependentInstances = this.dependentInstances;
+                if (dependentInstances == null) {
+                    this.dependentInstances = dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
+                }
+            }
+        }
+        return dependentInstances;
+    }
+
+    private List<ContextualInstance<?>> getOrCreateParentDependentInstances() {
+        List<ContextualInstance<?>> parentDependentInstances = this.parentDependentInstances;
+        if (parentDependentInstances == null) {
+            synchronized (this) {
+                parentDependentInstances = this.parentDependentInstances;
+                if (parentDependentInstances == null) {
+                    this.parentDependentInstances = parentDependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
+                }
+            }
+        }
+        return parentDependentInstances;
     }
 
     public void release() {
@@ -124,11 +154,14 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
     // should not be public
     public void release(Contextual<T> contextual, T instance) {
-        synchronized (dependentInstances) {
-            for (ContextualInstance<?> dependentInstance : dependentInstances) {
-                // do not destroy contextual again, since it's just being destroyed
-                if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
-                    destroy(dependentInstance);
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            synchronized (dependentInstances) {
+                for (ContextualInstance<?> dependentInstance : dependentInstances) {
+                    // do not destroy contextual again, since it's just being destroyed
+                    if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
+                        destroy(dependentInstance);
+                    }
                 }
             }
         }
@@ -154,39 +187,49 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * Returns an unmodifiable list of dependent instances.
      */
     public List<ContextualInstance<?>> getDependentInstances() {
-        return WeldCollections.immutableListView(dependentInstances);
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        return dependentInstances != null ? WeldCollections.immutableListView(dependentInstances) : Collections.<ContextualInstance<?>> emptyList();
+    }
+
+    @Override
+    public boolean hasDependentInstances() {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        return dependentInstances != null && !dependentInstances.isEmpty();
     }
 
     // Serialization
     protected Object writeReplace() throws ObjectStreamException {
-        synchronized (dependentInstances) {
-            for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
-                ContextualInstance<?> instance = iterator.next();
-                if (!(instance.getInstance() instanceof Serializable)) {
-                    /*
-                     * This non-serializable instance is a dependency of a passivation capable enclosing bean. This means that:
-                     *
-                     * 1) The dependency was injected into a transient field, constructor or initializer injection point of the enclosing bean instance
-                     * (otherwise it would not pass deployment validation) and is no longer retained by the enclosing bean instance. In that case we can safely
-                     * destroy the dependent instance now.
-                     *
-                     * 2) Same as above but the enclosing bean instance retained a reference in a field that Weld has no control of. If that is the case and the
-                     * bean class does not implement serialization properly, serialization of the bean instance is going to fail anyway so it is safe to destroy
-                     * the dependent instance now.
-                     *
-                     * 3) Same as above but the bean class implements serialization properly (writeObject) so that it is able to reconstruct the state of the
-                     * injected dependency on activation. If that's the case we would probably won't be able to destroy the dependency later on anyway since the
-                     * identity of the dependent instance would change. Destroying it now may be risky in certain circumstances.
-                     *
-                     * @see https://issues.jboss.org/browse/WELD-1076
-                     */
-                    destroy(instance);
-                    iterator.remove();
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            synchronized (dependentInstances) {
+                for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
+                    ContextualInstance<?> instance = iterator.next();
+                    if (!(instance.getInstance() instanceof Serializable)) {
+                        /*
+                         * This non-serializable instance is a dependency of a passivation capable enclosing bean. This means that:
+                         *
+                         * 1) The dependency was injected into a transient field, constructor or initializer injection point of the enclosing bean instance
+                         * (otherwise it would not pass deployment validation) and is no longer retained by the enclosing bean instance. In that case we can safely
+                         * destroy the dependent instance now.
+                         *
+                         * 2) Same as above but the enclosing bean instance retained a reference in a field that Weld has no control of. If that is the case and the
+                         * bean class does not implement serialization properly, serialization of the bean instance is going to fail anyway so it is safe to destroy
+                         * the dependent instance now.
+                         *
+                         * 3) Same as above but the bean class implements serialization properly (writeObject) so that it is able to reconstruct the state of the
+                         * injected dependency on activation. If that's the case we would probably won't be able to destroy the dependency later on anyway since the
+                         * identity of the dependent instance would change. Destroying it now may be risky in certain circumstances.
+                         *
+                         * @see https://issues.jboss.org/browse/WELD-1076
+                         */
+                        destroy(instance);
+                        iterator.remove();
+                    }
                 }
             }
         }
         // Return a serialization proxy for an "empty" instance
-        if (parentCreationalContext == null && dependentInstances.isEmpty() && (parentDependentInstances == null || parentDependentInstances.isEmpty())) {
+        if (parentCreationalContext == null && !hasDependentInstances() && (parentDependentInstances == null || parentDependentInstances.isEmpty())) {
             return SERIALIZATION_PROXY;
         }
         return this;
@@ -210,6 +253,10 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * @return true if the instance was destroyed, false otherwise
      */
     public boolean destroyDependentInstance(T instance) {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return false;
+        }
         synchronized (dependentInstances) {
             for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
                 ContextualInstance<?> contextualInstance = iterator.next();
@@ -21,12 +21,31 @@ import static org.jboss.weld.util.reflection.Reflections.cast;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
+/**
+ * A bean store backed by a {@link Map}. Contextual instances stored with an index (see {@link BeanStoreIndex}) are also kept in an array so that
+ * {@link #get(BeanIdentifier, int)} is a simple array read. The map is always authoritative, the array is only used as a fast lookup path.
+ *
+ * <p>
+ * The array slots are updated with compare-and-set so that writes are not serialized. Only growing and clearing the array are guarded by a lock. While
+ * the array is being copied, each copied slot of the old array is replaced with a marker so that a concurrent write is retried on the new array.
+ * </p>
+ */
 public abstract class AbstractMapBackedBeanStore implements BeanStore {
 
+    // marks a slot which has already been copied to a larger array
+    private static final Object MOVED = new Object();
+
+    // instances indexed by BeanStoreIndex
+    private final AtomicReference<AtomicReferenceArray<Object>> indexedInstances = new AtomicReference<>();
+
+    private final Object resizeLock = new Object();
+
     protected abstract Map<BeanIdentifier, Object> delegate();
 
     @Override
@@ -34,8 +53,25 @@ public abstract class AbstractMapBackedBeanStore implements BeanStore {
         return cast(delegate().get(id));
     }
 
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id, int index) {
+        if (index >= 0) {
+            AtomicReferenceArray<Object> instances = indexedInstances.get();
+            if (instances != null && index < instances.length()) {
+                Object instance = instances.get(index);
+                if (instance != null && instance != MOVED) {
+                    return cast(instance);
+                }
+            }
+        }
+        return get(id);
+    }
+
     public void clear() {
         delegate().clear();
+        synchronized (resizeLock) {
+            indexedInstances.set(null);
+        }
     }
 
     @Override
@@ -45,7 +81,20 @@ public abstract class AbstractMapBackedBeanStore implements BeanStore {
 
     @Override
     public <T> ContextualInstance<T> remove(BeanIdentifier id) {
-        return cast(delegate().remove(id));
+        Object instance = delegate().remove(id);
+        if (instance != null) {
+            removeIndexed(instance);
+        }
+        return cast(instance);
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id, int index) {
+        Object instance = delegate().remove(id);
+        if (instance != null && !(index >= 0 && compareAndSetIndexed(index, instance, null))) {
+            removeIndexed(instance);
+        }
+        return cast(instance);
     }
 
     @Override
@@ -69,7 +118,22 @@ public abstract class AbstractMapBackedBeanStore implements BeanStore {
 
     @Override
     public <T> void put(BeanIdentifier id, ContextualInstance<T> beanInstance) {
-        delegate().put(id, beanInstance);
+        Object previous = delegate().put(id, beanInstance);
+        if (previous != null && previous != beanInstance) {
+            removeIndexed(previous);
+        }
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, int index, ContextualInstance<T> beanInstance) {
+        put(id, beanInstance);
+        if (index >= 0) {
+            setIndexed(index, beanInstance);
+            if (delegate().get(id) != beanInstance) {
+                // removed or replaced in the meantime
+                compareAndSetIndexed(index, beanInstance, null);
+            }
+        }
     }
 
     @Override
@@ -79,7 +143,94 @@ public abstract class AbstractMapBackedBeanStore implements BeanStore {
 
     @Override
     public Iterator<BeanIdentifier> iterator() {
-        return delegate().keySet().iterator();
+        final Iterator<Map.Entry<BeanIdentifier, Object>> iterator = delegate().entrySet().iterator();
+        return new Iterator<BeanIdentifier>() {
+
+            private Object current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public BeanIdentifier next() {
+                Map.Entry<BeanIdentifier, Object> entry = iterator.next();
+                current = entry.getValue();
+                return entry.getKey();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                removeIndexed(current);
+            }
+        };
+    }
+
+    private void setIndexed(int index, Object instance) {
+        for (;;) {
+            AtomicReferenceArray<Object> instances = indexedInstances.get();
+            if (instances == null || index >= instances.length()) {
+                grow(index + 1);
+                continue;
+            }
+            Object current = instances.get(index);
+            if (current != MOVED && instances.compareAndSet(index, current, instance)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the slot held the expected instance, <code>false</code> otherwise
+     */
+    private boolean compareAndSetIndexed(int index, Object expected, Object instance) {
+        for (;;) {
+            AtomicReferenceArray<Object> instances = indexedInstances.get();
+            if (instances == null || index >= instances.length()) {
+                return false;
+            }
+            Object current = instances.get(index);
+            if (current == MOVED) {
+                // being copied to a larger array
+                continue;
+            }
+            if (current != expected) {
+                return false;
+            }
+            if (instances.compareAndSet(index, expected, instance)) {
+                return true;
+            }
+        }
+    }
+
+    private void removeIndexed(Object instance) {
+        AtomicReferenceArray<Object> instances = indexedInstances.get();
+        if (instances != null) {
+            for (int i = 0; i < instances.length(); i++) {
+                if (instances.get(i) == instance || instances.get(i) == MOVED) {
+                    compareAndSetIndexed(i, instance, null);
+                }
+            }
+        }
+    }
+
+    private void grow(int minLength) {
+        synchronized (resizeLock) {
+            AtomicReferenceArray<Object> instances = indexedInstances.get();
+            if (instances != null && instances.length() >= minLength) {
+                return;
+            }
+            AtomicReferenceArray<Object> newInstances = new AtomicReferenceArray<>(instances == null ? minLength : Math.max(minLength, instances.length() * 2));
+            if (instances != null) {
+                for (int i = 0; i < instances.length(); i++) {
+                    newInstances.set(i, instances.getAndSet(i, MOVED));
+                }
+            }
+            indexedInstances.set(newInstances);
+        }
     }
 
 }
@@ -133,11 +133,16 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
 
     @Override
     public <T> ContextualInstance<T> get(BeanIdentifier id) {
-        ContextualInstance<T> instance = beanStore.get(id);
+        return get(id, BeanStoreIndex.NO_INDEX);
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id, int index) {
+        ContextualInstance<T> instance = beanStore.get(id, index);
         if(instance == null && isAttached() && isAttributeLazyFetchingEnabled()) {
             instance = cast(getAttribute(namingScheme.prefix(id)));
             if(instance != null) {
-                beanStore.put(id, instance);
+                beanStore.put(id, index, instance);
             }
         }
         ContextLogger.LOG.contextualInstanceFound(id, instance, this);
@@ -146,7 +151,12 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
 
     @Override
     public <T> void put(BeanIdentifier id, ContextualInstance<T> instance) {
-        beanStore.put(id, instance); // moved due to WELD-892
+        put(id, BeanStoreIndex.NO_INDEX, instance);
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, int index, ContextualInstance<T> instance) {
+        beanStore.put(id, index, instance); // moved due to WELD-892
         if (isAttached()) {
             setAttribute(namingScheme.prefix(id), instance);
         }
@@ -155,7 +165,12 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
 
     @Override
     public <T> ContextualInstance<T> remove(BeanIdentifier id) {
-        ContextualInstance<T> instance = beanStore.remove(id);
+        return remove(id, BeanStoreIndex.NO_INDEX);
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id, int index) {
+        ContextualInstance<T> instance = beanStore.remove(id, index);
         String prefixedId = namingScheme.prefix(id);
         if (instance == null && isAttached() && isAttributeLazyFetchingEnabled()) {
             // If no instance is found and the bean store is attached then attempt to get the attribute from the backing store
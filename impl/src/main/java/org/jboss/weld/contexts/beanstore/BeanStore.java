@@ -19,6 +19,7 @@ package org.jboss.weld.contexts.beanstore;
 
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
@@ -74,4 +75,70 @@ public interface BeanStore extends Iterable<BeanIdentifier> {
      * @return the removed bean instance of null if there was no bean instance before
      */
     <T> ContextualInstance<T> remove(BeanIdentifier id);
+
+    /**
+     * Gets an instance of a contextual from the store. A bean store may use the index assigned by {@link BeanStoreIndex} to find the instance without a
+     * map lookup.
+     *
+     * @param id The id of the contextual to return
+     * @param index The index of the contextual or {@link BeanStoreIndex#NO_INDEX}
+     * @return The instance or null if not found
+     */
+    default <T> ContextualInstance<T> get(BeanIdentifier id, int index) {
+        return get(id);
+    }
+
+    /**
+     * Adds a bean instance to the storage.
+     *
+     * @param id The id of the contextual
+     * @param index The index of the contextual or {@link BeanStoreIndex#NO_INDEX}
+     * @param contextualInstance the contextual instance
+     * @see #get(BeanIdentifier, int)
+     */
+    default <T> void put(BeanIdentifier id, int index, ContextualInstance<T> contextualInstance) {
+        put(id, contextualInstance);
+    }
+
+    /**
+     * Removes a bean instance identified by the given id.
+     *
+     * @param id The bean id
+     * @param index The index of the contextual or {@link BeanStoreIndex#NO_INDEX}
+     * @return the removed bean instance of null if there was no bean instance before
+     * @see #get(BeanIdentifier, int)
+     */
+    default <T> ContextualInstance<T> remove(BeanIdentifier id, int index) {
+        return remove(id);
+    }
+
+    /**
+     * Returns the instance of a contextual stored under the given id. If there is no such instance, a new one is obtained from the given factory and
+     * stored, unless the factory returns <code>null</code>. The factory is invoked while holding the creation lock for the given id (see
+     * {@link #lock(BeanIdentifier)}), i.e. concurrent calls for the same id are serialized. Bean stores may use a more efficient approach as long as a
+     * thread which is already creating an instance for the given id is not blocked when it calls this method again (reentrant creation).
+     *
+     * @param id The id of the contextual
+     * @param index The index of the contextual or {@link BeanStoreIndex#NO_INDEX}
+     * @param factory Creates a new contextual instance
+     * @return the existing instance, the newly created instance or <code>null</code> if the factory returned <code>null</code>
+     * @see #get(BeanIdentifier, int)
+     */
+    default <T> ContextualInstance<T> getOrCreate(BeanIdentifier id, int index, Supplier<ContextualInstance<T>> factory) {
+        LockedBean lock = lock(id);
+        try {
+            ContextualInstance<T> instance = get(id, index);
+            if (instance == null) {
+                instance = factory.get();
+                if (instance != null) {
+                    put(id, index, instance);
+                }
+            }
+            return instance;
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
 }
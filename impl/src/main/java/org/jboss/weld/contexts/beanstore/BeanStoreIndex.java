@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.spi.Contextual;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Assigns dense integer indexes to beans so that a bean store is able to find a contextual instance with a simple array read (see
+ * {@link BeanStore#get(org.jboss.weld.serialization.spi.BeanIdentifier, int)}).
+ *
+ * <p>
+ * An index is assigned lazily, i.e. when an instance of the bean is looked up in a context for the first time. Indexes are assigned per scope so that
+ * e.g. a request bean store only needs an array as big as the number of request scoped beans actually used. Unlike {@link BeanIdentifierIndexNamingScheme}
+ * the index is never used outside the running container and so it does not need to be stable across deployments.
+ * </p>
+ *
+ * <p>
+ * Only instances of {@link CommonBean} are indexed. For any other {@link Contextual}, {@link #NO_INDEX} is returned.
+ * </p>
+ */
+public class BeanStoreIndex implements Service {
+
+    /**
+     * Represents a contextual without an index.
+     */
+    public static final int NO_INDEX = -1;
+
+    private final Map<Class<? extends Annotation>, Integer> sizes;
+
+    public BeanStoreIndex() {
+        this.sizes = new HashMap<>();
+    }
+
+    /**
+     *
+     * @param contextual
+     * @return the index of the given contextual or {@link #NO_INDEX}
+     */
+    public int getIndex(Contextual<?> contextual) {
+        if (contextual instanceof CommonBean<?>) {
+            CommonBean<?> bean = (CommonBean<?>) contextual;
+            int index = bean.getBeanStoreIndex();
+            return index != NO_INDEX ? index : assignIndex(bean);
+        }
+        return NO_INDEX;
+    }
+
+    private synchronized int assignIndex(CommonBean<?> bean) {
+        int index = bean.getBeanStoreIndex();
+        if (index == NO_INDEX) {
+            Integer size = sizes.get(bean.getScope());
+            index = size != null ? size : 0;
+            sizes.put(bean.getScope(), index + 1);
+            bean.setBeanStoreIndex(index);
+        }
+        return index;
+    }
+
+    @Override
+    public synchronized void cleanup() {
+        sizes.clear();
+    }
+
+}
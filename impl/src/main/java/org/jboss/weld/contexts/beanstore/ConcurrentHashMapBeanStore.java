@@ -17,10 +17,16 @@
 
 package org.jboss.weld.contexts.beanstore;
 
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
+import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
 /**
@@ -35,6 +41,8 @@ public class ConcurrentHashMapBeanStore extends AbstractMapBackedBeanStore imple
     // The backing map
     protected Map<BeanIdentifier, Object> delegate;
     private transient volatile LockStore lockStore;
+    // creations in progress, see getOrCreate()
+    private transient volatile ConcurrentMap<BeanIdentifier, Creation> creations;
 
     /**
      * Constructor
@@ -70,4 +78,79 @@ public class ConcurrentHashMapBeanStore extends AbstractMapBackedBeanStore imple
         }
         return lockStore.lock(id);
     }
+
+    /**
+     * Unlike the default implementation this method does not use the {@link LockStore}. Instead, the first thread which attempts to create an instance
+     * registers a {@link Creation} for the given id and other threads wait for its completion. Therefore, creations of unrelated beans never contend.
+     * If the creating thread fails to create an instance, a waiting thread attempts to create the instance itself.
+     */
+    @Override
+    public <T> ContextualInstance<T> getOrCreate(BeanIdentifier id, int index, Supplier<ContextualInstance<T>> factory) {
+        ContextualInstance<T> instance = get(id, index);
+        if (instance != null) {
+            return instance;
+        }
+        ConcurrentMap<BeanIdentifier, Creation> creations = getCreations();
+        Creation creation = new Creation();
+        for (;;) {
+            Creation existing = creations.putIfAbsent(id, creation);
+            if (existing == null) {
+                try {
+                    // the instance might have been created since the last check
+                    instance = get(id, index);
+                    if (instance == null) {
+                        instance = create(id, index, factory);
+                    }
+                    creation.complete(instance);
+                    return instance;
+                } finally {
+                    creations.remove(id, creation);
+                    // make sure the waiting threads are released even if the creation failed
+                    creation.complete(null);
+                }
+            }
+            if (existing.owner == Thread.currentThread()) {
+                // reentrant creation
+                return create(id, index, factory);
+            }
+            instance = cast(existing.join());
+            if (instance == null) {
+                instance = get(id, index);
+            }
+            if (instance != null) {
+                return instance;
+            }
+        }
+    }
+
+    private <T> ContextualInstance<T> create(BeanIdentifier id, int index, Supplier<ContextualInstance<T>> factory) {
+        ContextualInstance<T> instance = factory.get();
+        if (instance != null) {
+            put(id, index, instance);
+        }
+        return instance;
+    }
+
+    private ConcurrentMap<BeanIdentifier, Creation> getCreations() {
+        ConcurrentMap<BeanIdentifier, Creation> creations = this.creations;
+        if (creations == null) {
+            synchronized (this) {
+                creations = this.creations;
+                if (creations == null) {
+                    this.creations = creations = new ConcurrentHashMap<BeanIdentifier, Creation>();
+                }
+            }
+        }
+        return creations;
+    }
+
+    /**
+     * A creation of a contextual instance which is in progress. The future is completed with the created instance, or with <code>null</code> if no
+     * instance was created.
+     */
+    private static final class Creation extends CompletableFuture<ContextualInstance<?>> {
+
+        private final Thread owner = Thread.currentThread();
+
+    }
 }
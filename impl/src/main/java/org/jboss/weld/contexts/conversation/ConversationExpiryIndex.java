@@ -0,0 +1,192 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.conversation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jboss.weld.context.ManagedConversation;
+
+/**
+ * An index of the long-running conversations of a session, so that expired and ended conversations can be found without iterating over all the
+ * conversations of the session.
+ *
+ * <p>
+ * Expiry deadlines are kept in a priority queue. Since the deadline of a conversation is moved whenever the conversation is touched, the queue is only
+ * updated lazily: once a deadline is reached, the conversation is checked again and rescheduled if it is not expired yet.
+ * </p>
+ *
+ * <p>
+ * Ended conversations are kept in a separate queue which is drained when the conversation map is cleaned up at the end of the next request. A
+ * {@link ConversationImpl} reports its end directly to the index of the conversation map it is stored in, so that the end is recorded even if the
+ * conversation was not ended within a request associated with its session.
+ * </p>
+ *
+ * <p>
+ * The index is bound to a specific conversation map. All the state is transient and the index is rebuilt from the conversation map if needed, e.g. after
+ * the session was replicated or passivated. All the methods except for {@link #ended(String)} must be called while holding the monitor of the
+ * conversation map.
+ * </p>
+ */
+public class ConversationExpiryIndex implements Serializable {
+
+    private static final long serialVersionUID = -2837318233950411532L;
+
+    private transient Map<String, ManagedConversation> conversations;
+
+    private transient PriorityQueue<Deadline> deadlines;
+
+    // conversation id -> the deadline which is currently scheduled
+    private transient Map<String, Long> scheduled;
+
+    private transient volatile Queue<String> ended;
+
+    /**
+     * Rebuilds the index if it was not built for the given conversation map.
+     *
+     * @param conversations
+     */
+    public void ensureIndexed(Map<String, ManagedConversation> conversations) {
+        if (this.conversations == conversations) {
+            return;
+        }
+        this.conversations = conversations;
+        this.deadlines = new PriorityQueue<>(Comparator.comparingLong((Deadline d) -> d.deadline));
+        this.scheduled = new HashMap<>();
+        this.ended = new ConcurrentLinkedQueue<>();
+        for (Map.Entry<String, ManagedConversation> entry : conversations.entrySet()) {
+            if (entry.getValue().isTransient()) {
+                ended.add(entry.getKey());
+            } else {
+                schedule(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * A long-running conversation was added to the conversation map or it was used.
+     *
+     * @param id
+     * @param conversation
+     */
+    public void schedule(String id, ManagedConversation conversation) {
+        if (conversation instanceof ConversationImpl) {
+            ((ConversationImpl) conversation).setExpiryIndex(this);
+        }
+        long deadline = getDeadline(conversation);
+        Long current = scheduled.get(id);
+        // a later deadline is handled once the current one is reached
+        if (current == null || deadline < current) {
+            scheduled.put(id, deadline);
+            deadlines.add(new Deadline(id, deadline));
+        }
+    }
+
+    /**
+     * A long-running conversation was ended. This method may be called from any thread.
+     *
+     * @param id
+     */
+    public void ended(String id) {
+        Queue<String> queue = ended;
+        if (queue != null) {
+            queue.add(id);
+        }
+    }
+
+    /**
+     *
+     * @param now
+     * @return the identifiers of long-running conversations which are expired
+     */
+    public List<String> pollExpired(long now) {
+        List<String> expired = null;
+        Deadline next;
+        while ((next = deadlines.peek()) != null && now > next.deadline) {
+            deadlines.poll();
+            Long current = scheduled.get(next.id);
+            if (current == null || current != next.deadline) {
+                // stale entry
+                continue;
+            }
+            scheduled.remove(next.id);
+            ManagedConversation conversation = conversations.get(next.id);
+            if (conversation == null) {
+                continue;
+            }
+            if (conversation.isTransient()) {
+                // ended without being recorded, e.g. before the conversation was indexed
+                ended.add(next.id);
+                continue;
+            }
+            if (now > getDeadline(conversation)) {
+                if (expired == null) {
+                    expired = new ArrayList<>();
+                }
+                expired.add(next.id);
+            } else {
+                // touched in the meantime
+                schedule(next.id, conversation);
+            }
+        }
+        return expired != null ? expired : Collections.<String> emptyList();
+    }
+
+    /**
+     *
+     * @return the identifiers of conversations ended since the last invocation of this method
+     */
+    public Set<String> drainEnded() {
+        String id = ended.poll();
+        if (id == null) {
+            return Collections.emptySet();
+        }
+        Set<String> drained = new HashSet<>();
+        do {
+            drained.add(id);
+        } while ((id = ended.poll()) != null);
+        return drained;
+    }
+
+    private static long getDeadline(ManagedConversation conversation) {
+        return conversation.getLastUsed() + conversation.getTimeout();
+    }
+
+    private static final class Deadline {
+
+        private final String id;
+
+        private final long deadline;
+
+        private Deadline(String id, long deadline) {
+            this.id = id;
+            this.deadline = deadline;
+        }
+
+    }
+
+}
@@ -51,6 +51,9 @@ public class ConversationImpl implements ManagedConversation, Serializable {
 
     private BeanManagerImpl manager;
 
+    // the index of the conversation map this conversation is stored in
+    private transient volatile ConversationExpiryIndex expiryIndex;
+
     @Inject
     public ConversationImpl(BeanManagerImpl manager) {
         this.manager = manager;
@@ -107,6 +110,11 @@ public class ConversationImpl implements ManagedConversation, Serializable {
         }
         ConversationLogger.LOG.demotedLongRunningConversation(id);
         _transient = true;
+        ConversationExpiryIndex index = expiryIndex;
+        if (index != null) {
+            // The conversation is destroyed when its conversation map is cleaned up, no matter which request is currently associated
+            index.ended(id);
+        }
     }
 
     @Override
@@ -205,6 +213,10 @@ public class ConversationImpl implements ManagedConversation, Serializable {
         return (ConversationContext) manager.getUnwrappedContext(ConversationScoped.class);
     }
 
+    void setExpiryIndex(ConversationExpiryIndex expiryIndex) {
+        this.expiryIndex = expiryIndex;
+    }
+
     private Object readResolve() throws ObjectStreamException {
         this.concurrencyLock = new ReentrantLock();
         return this;
@@ -27,6 +27,7 @@ import jakarta.enterprise.inject.spi.Interceptor;
 
 import org.jboss.weld.bean.AbstractProducerBean;
 import org.jboss.weld.bean.ManagedBean;
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.context.DependentContext;
 import org.jboss.weld.contexts.SerializableContextualInstanceImpl;
@@ -73,38 +74,53 @@ public class DependentContextImpl implements DependentContext {
 
     protected <T> void addDependentInstance(T instance, Contextual<T> contextual, WeldCreationalContext<T> creationalContext) {
         // by this we are making sure that the dependent instance has no transitive dependency with @PreDestroy / disposal method
-        if (creationalContext.getDependentInstances().isEmpty()) {
-            if (contextual instanceof ManagedBean<?> && !isInterceptorOrDecorator(contextual)) {
-                ManagedBean<?> managedBean = (ManagedBean<?>) contextual;
-                if (managedBean.getProducer() instanceof BasicInjectionTarget<?>) {
-                    BasicInjectionTarget<?> injectionTarget = (BasicInjectionTarget<?>) managedBean.getProducer();
-                    if (!injectionTarget.getLifecycleCallbackInvoker().hasPreDestroyMethods() && !injectionTarget.hasInterceptors()) {
-                        // there is no @PreDestroy callback to call when destroying this dependent instance
-                        // therefore, we do not need to keep the reference
-                        return;
-                    }
-                }
+        if (!creationalContext.hasDependentInstances() && !isDependentInstanceTrackingRequired(contextual)) {
+            return;
+        }
+        // Only add the dependent instance if none of the conditions above is met
+        ContextualInstance<T> beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, contextualStore);
+        creationalContext.addDependentInstance(beanInstance);
+    }
+
+    private boolean isDependentInstanceTrackingRequired(Contextual<?> contextual) {
+        if (contextual instanceof RIBean<?>) {
+            // the result is computed once per bean
+            RIBean<?> bean = (RIBean<?>) contextual;
+            Boolean required = bean.getDependentInstanceTrackingRequired();
+            if (required == null) {
+                required = computeDependentInstanceTrackingRequired(contextual);
+                bean.setDependentInstanceTrackingRequired(required);
             }
-            if (contextual instanceof AbstractProducerBean<?, ?, ?>) {
-                AbstractProducerBean<?, ?, ?> producerBean = (AbstractProducerBean<?, ?, ?>) contextual;
-                if (producerBean.getProducer() instanceof AbstractMemberProducer<?, ?>) {
-                    AbstractMemberProducer<?, ?> producer = (AbstractMemberProducer<?, ?>) producerBean.getProducer();
-                    if (producer.getDisposalMethod() == null) {
-                        // there is no disposal method to call when destroying this dependent instance
-                        // therefore, we do not need to keep the reference
-                        return;
-                    }
+            return required;
+        }
+        return computeDependentInstanceTrackingRequired(contextual);
+    }
+
+    private boolean computeDependentInstanceTrackingRequired(Contextual<?> contextual) {
+        if (contextual instanceof ManagedBean<?> && !isInterceptorOrDecorator(contextual)) {
+            ManagedBean<?> managedBean = (ManagedBean<?>) contextual;
+            if (managedBean.getProducer() instanceof BasicInjectionTarget<?>) {
+                BasicInjectionTarget<?> injectionTarget = (BasicInjectionTarget<?>) managedBean.getProducer();
+                if (!injectionTarget.getLifecycleCallbackInvoker().hasPreDestroyMethods() && !injectionTarget.hasInterceptors()) {
+                    // there is no @PreDestroy callback to call when destroying this dependent instance
+                    // therefore, we do not need to keep the reference
+                    return false;
                 }
             }
-            if (isOptimizableBuiltInBean(contextual)) {
-                // Most built-in dependent beans do not have to be stored
-                return;
+        }
+        if (contextual instanceof AbstractProducerBean<?, ?, ?>) {
+            AbstractProducerBean<?, ?, ?> producerBean = (AbstractProducerBean<?, ?, ?>) contextual;
+            if (producerBean.getProducer() instanceof AbstractMemberProducer<?, ?>) {
+                AbstractMemberProducer<?, ?> producer = (AbstractMemberProducer<?, ?>) producerBean.getProducer();
+                if (producer.getDisposalMethod() == null) {
+                    // there is no disposal method to call when destroying this dependent instance
+                    // therefore, we do not need to keep the reference
+                    return false;
+                }
             }
         }
-
-        // Only add the dependent instance if none of the conditions above is met
-        ContextualInstance<T> beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, contextualStore);
-        creationalContext.addDependentInstance(beanInstance);
+        // Most built-in dependent beans do not have to be stored
+        return !isOptimizableBuiltInBean(contextual);
     }
 
     private boolean isInterceptorOrDecorator(Contextual<?> contextual) {
@@ -5,6 +5,7 @@ import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
 
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.Contextual;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
@@ -55,7 +56,8 @@ public class RequestContextImpl extends AbstractUnboundContext implements Reques
         // this might be needed for propagation on the thread where there are existing contexts
         RequestScopedCache.invalidate();
         for (ContextualInstance<?> contextualInstance : setOfInstances) {
-            getBeanStore().put(getId(contextualInstance.getContextual()), contextualInstance);
+            Contextual<?> contextual = contextualInstance.getContextual();
+            getBeanStore().put(getId(contextual), getIndex(contextual), contextualInstance);
         }
     }
 }
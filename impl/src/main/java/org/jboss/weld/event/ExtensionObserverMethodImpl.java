@@ -34,6 +34,7 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.builtin.ExtensionBean;
+import org.jboss.weld.bootstrap.StartupProfiler;
 import org.jboss.weld.bootstrap.events.NotificationListener;
 import org.jboss.weld.injection.InjectionPointFactory;
 import org.jboss.weld.injection.MethodInjectionPoint;
@@ -54,6 +55,7 @@ import org.jboss.weld.util.reflection.Reflections;
 public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X> implements ContainerLifecycleEventObserverMethod<T> {
 
     private final Container containerLifecycleEventDeliveryLock;
+    private final StartupProfiler profiler;
     private final Set<Class<? extends Annotation>> requiredTypeAnnotations;
     private volatile Set<Class<? extends Annotation>> requiredScopeTypeAnnotations;
 
@@ -61,6 +63,7 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
         super(observer, declaringBean, manager, isAsync);
         this.containerLifecycleEventDeliveryLock = Container.instance(manager);
         this.requiredTypeAnnotations = initRequiredTypeAnnotations(observer);
+        this.profiler = manager.getServices().get(StartupProfiler.class);
     }
 
     protected Set<Class<? extends Annotation>> initRequiredTypeAnnotations(EnhancedAnnotatedMethod<T, ? super X> observer) {
@@ -120,7 +123,16 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
     @Override
     protected void sendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
         synchronized (containerLifecycleEventDeliveryLock) {
-            super.sendEvent(event, receiver, creationalContext);
+            if (profiler != null && profiler.isActive()) {
+                StartupProfiler.Sample start = profiler.sample();
+                try {
+                    super.sendEvent(event, receiver, creationalContext);
+                } finally {
+                    profiler.observerNotified(this, start);
+                }
+            } else {
+                super.sendEvent(event, receiver, creationalContext);
+            }
         }
     }
 
@@ -28,6 +28,7 @@ import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.module.ObserverNotifierFactory;
+import org.jboss.weld.resolution.AssignabilityCache;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
 import org.jboss.weld.util.collections.Iterators;
 
@@ -48,7 +49,7 @@ public class GlobalObserverNotifierService implements BootstrapService {
     public GlobalObserverNotifierService(ServiceRegistry services, String contextId) {
         this.beanManagers = new CopyOnWriteArraySet<BeanManagerImpl>();
         TypeSafeObserverResolver resolver = new TypeSafeObserverResolver(services.get(MetaAnnotationStore.class),
-                createGlobalObserverMethodIterable(beanManagers), services.get(WeldConfiguration.class));
+                createGlobalObserverMethodIterable(beanManagers), services.get(WeldConfiguration.class), services.get(AssignabilityCache.class));
         final ObserverNotifierFactory factory = services.get(ObserverNotifierFactory.class);
         this.globalLenientObserverNotifier = factory.create(contextId, resolver, services, false);
         this.globalStrictObserverNotifier = factory.create(contextId, resolver, services, true);
@@ -18,6 +18,7 @@ package org.jboss.weld.injection;
 
 import static org.jboss.weld.injection.Exceptions.rethrowException;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.security.AccessController;
@@ -33,6 +34,7 @@ import jakarta.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.annotated.enhanced.ConstructorSignature;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedConstructor;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.construction.api.AroundConstructCallback;
 import org.jboss.weld.construction.api.ConstructionHandle;
 import org.jboss.weld.contexts.CreationalContextImpl;
@@ -58,12 +60,19 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
     private final AnnotatedConstructor<T> constructor;
     private final ConstructorSignature signature;
     private final Constructor<T> accessibleConstructor;
+    // null if the constructor should be invoked reflectively
+    private final MethodHandle constructorInvoker;
 
     protected ConstructorInjectionPoint(EnhancedAnnotatedConstructor<T> constructor, Bean<T> declaringBean, Class<?> declaringComponentClass, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(constructor, declaringBean, declaringComponentClass, false, factory, manager);
         this.constructor = constructor.slim();
         this.signature = constructor.getSignature();
         this.accessibleConstructor = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Constructor<T>>(constructor.getJavaMember()));
+        if (ConstructorInvocationStrategy.METHOD_HANDLE == manager.getServices().get(WeldConfiguration.class).getConstructorInvocationStrategy()) {
+            this.constructorInvoker = InjectionHandles.constructor(accessibleConstructor);
+        } else {
+            this.constructorInvoker = null;
+        }
     }
 
     public T newInstance(BeanManagerImpl manager, CreationalContext<?> ctx) {
@@ -115,6 +124,14 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
     }
 
     protected T newInstance(Object[] parameterValues) {
+        if (constructorInvoker != null) {
+            try {
+                return Reflections.cast((Object) constructorInvoker.invokeExact(parameterValues));
+            } catch (Throwable e) {
+                rethrowException(e);
+            }
+            return null;
+        }
         try {
             return accessibleConstructor.newInstance(parameterValues);
         } catch (IllegalArgumentException e) {
@@ -0,0 +1,57 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * The way a {@link ConstructorInjectionPoint} invokes the bean constructor.
+ *
+ * @see ConfigurationKey#CONSTRUCTOR_INVOCATION
+ */
+public enum ConstructorInvocationStrategy {
+
+    /**
+     * The constructor is invoked through {@link java.lang.reflect.Constructor#newInstance(Object...)}.
+     */
+    REFLECTION,
+    /**
+     * The constructor is invoked through a direct {@link java.lang.invoke.MethodHandle} created once per constructor. If such a handle cannot be created,
+     * reflection is used instead.
+     */
+    METHOD_HANDLE;
+
+    /**
+     *
+     * @param configuration
+     * @return the strategy selected by {@link ConfigurationKey#CONSTRUCTOR_INVOCATION}
+     * @throws org.jboss.weld.exceptions.DeploymentException If the value does not match any strategy
+     * @see WeldConfiguration#getConstructorInvocationStrategy()
+     */
+    public static ConstructorInvocationStrategy of(WeldConfiguration configuration) {
+        String value = configuration.getStringProperty(ConfigurationKey.CONSTRUCTOR_INVOCATION);
+        for (ConstructorInvocationStrategy strategy : values()) {
+            if (strategy.name().equals(value)) {
+                return strategy;
+            }
+        }
+        throw BootstrapLogger.LOG.invalidPropertyValue(ConfigurationKey.CONSTRUCTOR_INVOCATION.get(), value);
+    }
+
+}
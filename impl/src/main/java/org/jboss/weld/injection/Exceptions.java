@@ -30,7 +30,14 @@ class Exceptions {
     private Exceptions() {
     }
 
-    private static void rethrowException(Throwable t, Class<? extends RuntimeException> exceptionToThrow) {
+    /**
+     * Rethrows a throwable thrown by an invoked member, e.g. by a {@link java.lang.invoke.MethodHandle} invocation. A {@link RuntimeException} is rethrown
+     * as is, any other throwable is wrapped in a new instance of the given exception type.
+     *
+     * @param t
+     * @param exceptionToThrow
+     */
+    public static void rethrowException(Throwable t, Class<? extends RuntimeException> exceptionToThrow) {
         if (t instanceof RuntimeException) {
             throw (RuntimeException) t;
         } else {
@@ -46,7 +53,7 @@ class Exceptions {
         }
     }
 
-    private static void rethrowException(Throwable t) {
+    public static void rethrowException(Throwable t) {
         rethrowException(t, CreationException.class);
     }
 
@@ -20,6 +20,7 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.security.AccessController;
 
@@ -55,14 +56,14 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
 
     private final boolean cacheable;
     private transient Bean<?> cachedBean;
-    private final transient Field accessibleField;
+    private final transient MethodHandle setter;
 
     private final FieldInjectionPointAttributes<T, X> attributes;
 
     protected FieldInjectionPoint(FieldInjectionPointAttributes<T, X> attributes) {
         this.attributes = attributes;
         this.cacheable = isCacheableInjectionPoint(attributes);
-        this.accessibleField = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Field>(attributes.getMember()));
+        this.setter = InjectionHandles.setter(AccessController.doPrivileged(new GetAccessibleCopyOfMember<Field>(attributes.getMember())));
     }
 
     protected static boolean isCacheableInjectionPoint(WeldInjectionPointAttributes<?, ?> attributes) {
@@ -74,27 +75,25 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
     }
 
     public void inject(Object declaringInstance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
-        try {
-            Object instanceToInject = declaringInstance;
-            if (!(instanceToInject instanceof DecoratorProxy)) {
-                // if declaringInstance is a proxy, unwrap it
-                if (declaringInstance instanceof TargetInstanceProxy) {
-                    instanceToInject = Reflections.<TargetInstanceProxy<T>> cast(declaringInstance).weld_getTargetInstance();
-                }
+        Object instanceToInject = declaringInstance;
+        if (!(instanceToInject instanceof DecoratorProxy)) {
+            // if declaringInstance is a proxy, unwrap it
+            if (declaringInstance instanceof TargetInstanceProxy) {
+                instanceToInject = Reflections.<TargetInstanceProxy<T>> cast(declaringInstance).weld_getTargetInstance();
             }
-            Object objectToInject;
-            if (!cacheable) {
-                objectToInject = manager.getInjectableReference(this, creationalContext);
-            } else {
-                if (cachedBean == null) {
-                    cachedBean = manager.resolve(manager.getBeans(this));
-                }
-                objectToInject = manager.getInjectableReference(this, cachedBean, creationalContext);
+        }
+        Object objectToInject;
+        if (!cacheable) {
+            objectToInject = manager.getInjectableReference(this, creationalContext);
+        } else {
+            if (cachedBean == null) {
+                cachedBean = manager.resolve(manager.getBeans(this));
             }
-            accessibleField.set(instanceToInject, objectToInject);
-        } catch (IllegalArgumentException e) {
-            rethrowException(e);
-        } catch (IllegalAccessException e) {
+            objectToInject = manager.getInjectableReference(this, cachedBean, creationalContext);
+        }
+        try {
+            setter.invokeExact(instanceToInject, objectToInject);
+        } catch (Throwable e) {
             rethrowException(e);
         }
     }
@@ -0,0 +1,156 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.jboss.weld.exceptions.WeldException;
+
+/**
+ * Creates {@link MethodHandle}s used to set injected fields, to invoke bean constructors and to invoke initializer, producer, disposer and observer
+ * methods. Unlike {@link Field#set(Object, Object)}, {@link Constructor#newInstance(Object...)} and {@link Method#invoke(Object, Object...)} an invocation
+ * of a direct method handle does not perform access checks and does not need to go through the reflective accessor, which makes the creation of
+ * short-lived bean instances noticeably cheaper.
+ *
+ * <p>
+ * The members passed to this class must be already accessible (see {@link SecurityActions#ensureAccessible(java.lang.reflect.AccessibleObject)}). If a
+ * direct method handle for a field or a method cannot be created, a handle delegating to the reflection API is used instead.
+ * </p>
+ */
+final class InjectionHandles {
+
+    /**
+     * (Object instance, Object value)void
+     */
+    static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Methods with at most this number of parameters are invoked without a parameter array, see {@link #invoker(Method)}.
+     */
+    static final int MAX_DIRECT_PARAMETERS = 2;
+
+    /**
+     * (Object receiver, Object[] parameters)Object
+     */
+    static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     * (Object[] parameters)Object
+     */
+    static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final MethodHandle REFLECTIVE_SET;
+
+    private static final MethodHandle REFLECTIVE_INVOKE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            REFLECTIVE_SET = lookup.findStatic(InjectionHandles.class, "reflectiveSet", MethodType.methodType(void.class, Field.class, Object.class, Object.class));
+            REFLECTIVE_INVOKE = lookup.findStatic(InjectionHandles.class, "reflectiveInvoke",
+                    MethodType.methodType(Object.class, Method.class, Object.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new WeldException(e);
+        }
+    }
+
+    private InjectionHandles() {
+    }
+
+    /**
+     *
+     * @param accessibleField
+     * @return a method handle of type {@link #SETTER_TYPE} which sets the value of the given field
+     */
+    static MethodHandle setter(Field accessibleField) {
+        try {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(accessibleField);
+            if (Modifier.isStatic(accessibleField.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            return REFLECTIVE_SET.bindTo(accessibleField);
+        }
+    }
+
+    /**
+     * The type of the returned method handle depends on the number of parameters of the method. If the method has at most
+     * {@value #MAX_DIRECT_PARAMETERS} parameters, the parameters are passed directly, e.g. <code>(Object receiver, Object parameter)Object</code> for a
+     * method with a single parameter, so that no parameter array needs to be allocated for an invocation. Otherwise, the method handle is of type
+     * {@link #INVOKER_TYPE}.
+     *
+     * @param accessibleMethod
+     * @return a method handle which invokes the given method
+     */
+    static MethodHandle invoker(Method accessibleMethod) {
+        int parameterCount = accessibleMethod.getParameterCount();
+        MethodHandle invoker;
+        try {
+            invoker = MethodHandles.lookup().unreflect(accessibleMethod).asFixedArity();
+            if (Modifier.isStatic(accessibleMethod.getModifiers())) {
+                invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+            }
+            invoker = invoker.asType(MethodType.genericMethodType(parameterCount + 1));
+            if (parameterCount > MAX_DIRECT_PARAMETERS) {
+                invoker = invoker.asSpreader(Object[].class, parameterCount).asType(INVOKER_TYPE);
+            }
+        } catch (IllegalAccessException | SecurityException e) {
+            invoker = REFLECTIVE_INVOKE.bindTo(accessibleMethod);
+            if (parameterCount <= MAX_DIRECT_PARAMETERS) {
+                invoker = invoker.asCollector(Object[].class, parameterCount);
+            }
+        }
+        return invoker;
+    }
+
+    /**
+     *
+     * @param accessibleConstructor
+     * @return a method handle of type {@link #CONSTRUCTOR_TYPE} which creates a new instance using the given constructor, or <code>null</code> if a direct
+     *         method handle cannot be created
+     */
+    static MethodHandle constructor(Constructor<?> accessibleConstructor) {
+        try {
+            MethodHandle constructor = MethodHandles.lookup().unreflectConstructor(accessibleConstructor).asFixedArity();
+            int parameterCount = accessibleConstructor.getParameterCount();
+            return constructor.asType(MethodType.genericMethodType(parameterCount)).asSpreader(Object[].class, parameterCount).asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static void reflectiveSet(Field field, Object instance, Object value) throws IllegalAccessException {
+        field.set(instance, value);
+    }
+
+    private static Object reflectiveInvoke(Method method, Object receiver, Object[] parameters) throws Throwable {
+        try {
+            return method.invoke(receiver, parameters);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+}
@@ -57,6 +57,11 @@ public abstract class MethodInjectionPoint<T, X> extends AbstractCallableInjecti
 
     abstract T invoke(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow);
 
+    /**
+     * Invokes a method with exactly two parameters without allocating a parameter array.
+     */
+    abstract T invoke(Object receiver, Object firstParameter, Object secondParameter, Class<? extends RuntimeException> exceptionTypeToThrow);
+
     @Override
     public abstract AnnotatedMethod<X> getAnnotated();
 
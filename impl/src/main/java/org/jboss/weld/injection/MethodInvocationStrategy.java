@@ -184,7 +184,7 @@ public abstract class MethodInvocationStrategy {
         @Override
         public <T> void invoke(Object receiver, MethodInjectionPoint<?, ?> method, T instance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
             boolean interceptionContextStarted = startInterceptionContextIfNeeded(receiver, method);
-            method.invoke(receiver, new Object[] { instance, new BeanManagerProxy(manager) }, exceptionTypeToThrow);
+            method.invoke(receiver, instance, new BeanManagerProxy(manager), exceptionTypeToThrow);
             if (interceptionContextStarted) {
                 endInterceptionContext();
             }
@@ -205,7 +205,7 @@ public abstract class MethodInvocationStrategy {
         @Override
         public <T> void invoke(Object receiver, MethodInjectionPoint<?, ?> method, T instance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
             boolean interceptionContextStarted = startInterceptionContextIfNeeded(receiver, method);
-            method.invoke(receiver, new Object[] { instance, metadata.peek() }, ObserverException.class);
+            method.invoke(receiver, instance, metadata.peek(), ObserverException.class);
             if (interceptionContextStarted) {
                 endInterceptionContext();
             }
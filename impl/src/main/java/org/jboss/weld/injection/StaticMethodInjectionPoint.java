@@ -20,7 +20,7 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
@@ -49,11 +49,15 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     private final int specialInjectionPointIndex;
     private final AnnotatedMethod<X> annotatedMethod;
     final Method accessibleMethod;
+    final MethodHandle accessibleMethodInvoker;
+    private final int parameterCount;
 
     StaticMethodInjectionPoint(MethodInjectionPointType methodInjectionPointType, EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean, Class<?> declaringComponentClass,
             Set<Class<? extends Annotation>> specialParameterMarkers, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(methodInjectionPointType, enhancedMethod, declaringBean, declaringComponentClass, factory, manager);
         this.accessibleMethod = SecurityActions.getAccessibleCopyOfMethod(enhancedMethod.getJavaMember());
+        this.accessibleMethodInvoker = InjectionHandles.invoker(accessibleMethod);
+        this.parameterCount = accessibleMethod.getParameterCount();
         this.annotatedMethod = enhancedMethod.slim();
         this.specialInjectionPointIndex = initSpecialInjectionPointIndex(enhancedMethod, specialParameterMarkers);
     }
@@ -77,6 +81,10 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
 
     public T invoke(Object receiver, Object specialValue, BeanManagerImpl manager, CreationalContext<?> ctx,
             Class<? extends RuntimeException> exceptionTypeToThrow) {
+        if (parameterCount == 1 && specialInjectionPointIndex == 0) {
+            // the special parameter is the only parameter, e.g. void onEvent(@Observes Foo foo)
+            return invoke(receiver, specialValue, exceptionTypeToThrow);
+        }
         CreationalContext<?> transientReferenceContext = null;
         if (hasTransientReferenceParameter) {
             transientReferenceContext = manager.createCreationalContext(null);
@@ -91,20 +99,55 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     }
 
     public T invoke(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        MethodHandle invoker = getInvoker(receiver, exceptionTypeToThrow);
         try {
-            return cast(getMethod(receiver).invoke(receiver, parameters));
-        } catch (IllegalArgumentException e) {
-            rethrowException(e, exceptionTypeToThrow);
-        } catch (SecurityException e) {
+            switch (parameterCount) {
+                case 0:
+                    return cast((Object) invoker.invokeExact(receiver));
+                case 1:
+                    return cast((Object) invoker.invokeExact(receiver, parameters[0]));
+                case 2:
+                    return cast((Object) invoker.invokeExact(receiver, parameters[0], parameters[1]));
+                default:
+                    return cast((Object) invoker.invokeExact(receiver, parameters));
+            }
+        } catch (Throwable e) {
             rethrowException(e, exceptionTypeToThrow);
-        } catch (IllegalAccessException e) {
+        }
+        return null;
+    }
+
+    @Override
+    T invoke(Object receiver, Object firstParameter, Object secondParameter, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        if (parameterCount != 2) {
+            return invoke(receiver, new Object[] { firstParameter, secondParameter }, exceptionTypeToThrow);
+        }
+        MethodHandle invoker = getInvoker(receiver, exceptionTypeToThrow);
+        try {
+            return cast((Object) invoker.invokeExact(receiver, firstParameter, secondParameter));
+        } catch (Throwable e) {
             rethrowException(e, exceptionTypeToThrow);
-        } catch (InvocationTargetException e) {
+        }
+        return null;
+    }
+
+    private T invoke(Object receiver, Object parameter, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        MethodHandle invoker = getInvoker(receiver, exceptionTypeToThrow);
+        try {
+            return cast((Object) invoker.invokeExact(receiver, parameter));
+        } catch (Throwable e) {
             rethrowException(e, exceptionTypeToThrow);
+        }
+        return null;
+    }
+
+    private MethodHandle getInvoker(Object receiver, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        try {
+            return getInvoker(receiver);
         } catch (NoSuchMethodException e) {
             rethrowException(e, exceptionTypeToThrow);
+            return null;
         }
-        return null;
     }
 
     /**
@@ -137,8 +180,14 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         return parameterValues;
     }
 
-    protected Method getMethod(Object receiver) throws NoSuchMethodException {
-        return accessibleMethod;
+    /**
+     *
+     * @param receiver
+     * @return the method handle used to invoke the method on the given receiver, see {@link InjectionHandles#invoker(Method)}
+     * @throws NoSuchMethodException
+     */
+    protected MethodHandle getInvoker(Object receiver) throws NoSuchMethodException {
+        return accessibleMethodInvoker;
     }
 
     @Override
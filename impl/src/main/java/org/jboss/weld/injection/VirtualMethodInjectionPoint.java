@@ -20,6 +20,7 @@ import static org.jboss.weld.util.reflection.Reflections.isPackagePrivate;
 import static org.jboss.weld.util.reflection.Reflections.isPrivate;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Map;
@@ -44,23 +45,24 @@ import org.jboss.weld.util.collections.ImmutableMap;
  */
 class VirtualMethodInjectionPoint<T, X> extends StaticMethodInjectionPoint<T, X> {
 
-    private volatile Map<Class<?>, Method> methods;
+    private volatile Map<Class<?>, MethodHandle> invokers;
 
     VirtualMethodInjectionPoint(MethodInjectionPointType methodInjectionPointType, EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean,
             Class<?> declaringComponentClass, Set<Class<? extends Annotation>> specialParameterMarkers, InjectionPointFactory factory,
             BeanManagerImpl manager) {
         super(methodInjectionPointType, enhancedMethod, declaringBean, declaringComponentClass, specialParameterMarkers, factory, manager);
-        this.methods = Collections.<Class<?>, Method> singletonMap(getAnnotated().getJavaMember().getDeclaringClass(), accessibleMethod);
+        this.invokers = Collections.<Class<?>, MethodHandle> singletonMap(getAnnotated().getJavaMember().getDeclaringClass(), accessibleMethodInvoker);
     }
 
     @Override
-    protected Method getMethod(Object receiver) throws NoSuchMethodException {
-        final Map<Class<?>, Method> methods = this.methods;
-        Method method = this.methods.get(receiver.getClass());
-        if (method == null) {
+    protected MethodHandle getInvoker(Object receiver) throws NoSuchMethodException {
+        final Map<Class<?>, MethodHandle> invokers = this.invokers;
+        MethodHandle invoker = invokers.get(receiver.getClass());
+        if (invoker == null) {
             // the same method may be written to the map twice, but that is ok
             // lookupMethod is very slow
             Method delegate = getAnnotated().getJavaMember();
+            Method method;
             if ((hasDecorators() || MethodInjectionPointType.INITIALIZER.equals(type)) && (isPrivate(delegate) || isPackagePrivate(delegate.getModifiers())
                     && !Objects.equals(delegate.getDeclaringClass().getPackage(), receiver.getClass().getPackage()))) {
                 // Initializer methods and decorated beans - overriding does not apply to private methods and package-private methods where the subclass is in a different package
@@ -69,10 +71,11 @@ class VirtualMethodInjectionPoint<T, X> extends StaticMethodInjectionPoint<T, X>
                 method = SecurityActions.lookupMethod(receiver.getClass(), delegate.getName(), delegate.getParameterTypes());
                 SecurityActions.ensureAccessible(method);
             }
-            final Map<Class<?>, Method> newMethods = ImmutableMap.<Class<?>, Method>builder().putAll(methods).put(receiver.getClass(), method).build();
-            this.methods = newMethods;
+            invoker = method.equals(accessibleMethod) ? accessibleMethodInvoker : InjectionHandles.invoker(method);
+            final Map<Class<?>, MethodHandle> newInvokers = ImmutableMap.<Class<?>, MethodHandle>builder().putAll(invokers).put(receiver.getClass(), invoker).build();
+            this.invokers = newInvokers;
         }
-        return method;
+        return invoker;
     }
 
     private boolean hasDecorators() {
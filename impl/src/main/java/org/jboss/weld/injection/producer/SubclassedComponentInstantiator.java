@@ -83,7 +83,9 @@ public class SubclassedComponentInstantiator<T> extends AbstractInstantiator<T>
 
     protected EnhancedAnnotatedConstructor<T> initEnhancedSubclass(BeanManagerImpl manager, EnhancedAnnotatedType<T> type, Bean<?> bean, ConstructorInjectionPoint<T> originalConstructorInjectionPoint) {
         ClassTransformer transformer = manager.getServices().get(ClassTransformer.class);
-        EnhancedAnnotatedType<T> enhancedSubclass = transformer.getEnhancedAnnotatedType(createEnhancedSubclass(type, bean, manager), type.slim().getIdentifier().getBdaId());
+        // only the constructors of the subclass are needed
+        EnhancedAnnotatedType<T> enhancedSubclass = transformer.getEnhancedAnnotatedType(
+                transformer.getBackedAnnotatedTypeWithLazyMembers(createEnhancedSubclass(type, bean, manager), type.slim().getIdentifier().getBdaId()));
         return findMatchingConstructor(originalConstructorInjectionPoint.getSignature(), enhancedSubclass);
     }
 
@@ -167,6 +167,7 @@ public interface BootstrapLogger extends WeldLogger {
     @Message(id = 140, value = "Calling Bootstrap method after container has already been initialized. For correct order, see CDI11Bootstrap's documentation.")
     IllegalStateException callingBootstrapMethodAfterContainerHasBeenInitialized();
 
+    // not used anymore, observers whose observed type cannot be evaluated are checked once the class is loaded
     @SuppressWarnings({ "weldlog:method-sig" })
     @LogMessage(level = Logger.Level.INFO)
     @Message(id = 141, value = "Falling back to the default observer method resolver due to {0}", format = Format.MESSAGE_FORMAT)
@@ -339,4 +340,21 @@ public interface BootstrapLogger extends WeldLogger {
     @Message(id = 181, value = "org.jboss.weld.executor.threadPoolType=COMMON detected but ForkJoinPool.commonPool() does not work with SecurityManager enabled, switching to {0} thread pool", format = Format.MESSAGE_FORMAT)
     void commonThreadPoolWithSecurityManagerEnabled(Object threadPoolType);
 
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 182, value = "Startup report written to: {0}", format = Format.MESSAGE_FORMAT)
+    void startupReportWritten(Object path);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 183, value = "Unable to write the startup report to: {0}", format = Format.MESSAGE_FORMAT)
+    void unableToWriteStartupReport(Object path, @Cause Throwable cause);
+
+    @SuppressWarnings({ "weldlog:method-sig" })
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 184, value = "The observed type of {0} cannot be fully evaluated by the fast ProcessAnnotatedType resolver, the type is checked once the class is loaded", format = Format.MESSAGE_FORMAT)
+    void fastResolverTypeCheckRequired(ObserverMethod<?> observer);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 185, value = "Removed {0} unused beans out of {1} beans", format = Format.MESSAGE_FORMAT)
+    void unusedBeansRemoved(Object removed, Object total);
+
 }
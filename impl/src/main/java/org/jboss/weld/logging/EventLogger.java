@@ -113,4 +113,8 @@ public interface EventLogger extends WeldLogger {
 
     @Message(id = 422, value = "WeldEvent.select(Type subtype, Annotation... qualifiers) can be invoked only on an instance of WeldEvent<Object>.", format = Format.MESSAGE_FORMAT)
     IllegalStateException selectByTypeOnlyWorksOnObject();
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 423, value = "TransactionSynchronizationRegistry not available at {0} - a transaction synchronization is registered for each transactional event", format = Format.MESSAGE_FORMAT)
+    void transactionSynchronizationRegistryNotAvailable(Object name);
 }
@@ -155,6 +155,7 @@ import org.jboss.weld.metadata.cache.StereotypeModel;
 import org.jboss.weld.module.EjbSupport;
 import org.jboss.weld.module.ExpressionLanguageSupport;
 import org.jboss.weld.module.ObserverNotifierFactory;
+import org.jboss.weld.resolution.AssignabilityCache;
 import org.jboss.weld.resolution.BeanTypeAssignabilityRules;
 import org.jboss.weld.resolution.DecoratorResolvableBuilder;
 import org.jboss.weld.resolution.InterceptorResolvable;
@@ -364,7 +365,8 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.weldELResolver = services.getOptional(ExpressionLanguageSupport.class).map(el -> el.createElResolver(this)).orElse(null);
 
         TypeSafeObserverResolver accessibleObserverResolver = new TypeSafeObserverResolver(getServices().get(MetaAnnotationStore.class),
-                createDynamicAccessibleIterable(BeanManagerImpl::getObservers), getServices().get(WeldConfiguration.class));
+                createDynamicAccessibleIterable(BeanManagerImpl::getObservers), getServices().get(WeldConfiguration.class),
+                getServices().get(AssignabilityCache.class));
         this.accessibleLenientObserverNotifier = getServices().get(ObserverNotifierFactory.class).create(contextId, accessibleObserverResolver, getServices(),
                 false);
         GlobalObserverNotifierService globalObserverNotifierService = services.get(GlobalObserverNotifierService.class);
@@ -1668,6 +1670,18 @@ public class BeanManagerImpl implements WeldManager, Serializable {
                 cleanupBeansAfterBoot(removable);
                 ((ContextualStoreImpl) getServices().get(ContextualStore.class)).removeAll(removable);
                 getServices().get(ClassTransformer.class).removeAll(removable);
+                clientProxyProvider.removeAll(removable);
+                removeInterceptionModels(removable);
+            }
+        }
+    }
+
+    private void removeInterceptionModels(Iterable<Bean<?>> beans) {
+        // The registry is keyed by annotated types and would otherwise retain the metadata of removed class beans
+        for (Bean<?> bean : beans) {
+            if (bean instanceof AbstractClassBean) {
+                AbstractClassBean<?> classBean = (AbstractClassBean<?>) bean;
+                classBean.getBeanManager().getInterceptorModelRegistry().remove(classBean.getAnnotated());
             }
         }
     }
@@ -157,6 +157,17 @@ public class MetaAnnotationStore implements Service {
         interceptorBindings.invalidate(annotationClass);
     }
 
+    /**
+     * removes all the annotation models and cached qualifier instances. The data are recomputed lazily when needed.
+     */
+    public void clearAnnotationData() {
+        stereotypes.clear();
+        scopes.clear();
+        qualifiers.clear();
+        interceptorBindings.clear();
+        qualifierInstanceCache.clear();
+    }
+
     /**
      * Gets a stereotype model
      * <p/>
@@ -272,11 +283,7 @@ public class MetaAnnotationStore implements Service {
 
     @Override
     public void cleanup() {
-        this.qualifiers.clear();
-        this.scopes.clear();
-        this.stereotypes.clear();
-        this.interceptorBindings.clear();
-        this.qualifierInstanceCache.clear();
+        clearAnnotationData();
     }
 
 
@@ -61,6 +61,8 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     private final BeanManagerImpl beanManager;
     private final ComputingCache<Set<Bean<?>>, Set<Bean<?>>> disambiguatedBeans;
     private final MetaAnnotationStore store;
+    private final AssignabilityRules beanTypeRules;
+    private final AssignabilityRules delegateRules;
 
     private final LazyValueHolder<Map<Type, ArrayList<T>>> beansByType;
 
@@ -134,6 +136,9 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         this.beanManager = beanManager;
         this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
         this.store = beanManager.getServices().get(MetaAnnotationStore.class);
+        AssignabilityCache assignabilityCache = beanManager.getServices().get(AssignabilityCache.class);
+        this.beanTypeRules = assignabilityCache.wrap(BeanTypeAssignabilityRules.instance());
+        this.delegateRules = assignabilityCache.wrap(DelegateInjectionPointAssignabilityRules.instance());
         // beansByType stores a map of a type to all beans that are assignable to
         // that type. This means that it most cases we do not need to loop through
         // every bean in the system when performing resolution
@@ -195,9 +200,9 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     protected boolean matches(Resolvable resolvable, T bean) {
         AssignabilityRules rules = null;
         if (resolvable.isDelegate()) {
-            rules = DelegateInjectionPointAssignabilityRules.instance();
+            rules = delegateRules;
         } else {
-            rules = BeanTypeAssignabilityRules.instance();
+            rules = beanTypeRules;
         }
         return rules.matches(resolvable.getTypes(), bean.getTypes())
                 && Beans.containsAllQualifiers(resolvable.getQualifiers(), QualifierInstance.of(bean, store));
@@ -0,0 +1,137 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+
+/**
+ * A bounded memo of pairwise assignability results shared by all the {@link AssignabilityRules} implementations used by the type safe resolvers of a
+ * container.
+ *
+ * <p>
+ * Comparing generic types structurally is expensive and the same pairs of a required type and a bean type (or an observed type and an event type) are
+ * evaluated over and over again - on every resolver cache miss and for every bean during validation. Pairs of raw types are cheap to compare and are never
+ * memoized.
+ * </p>
+ *
+ * <p>
+ * Results are keyed by the rules and the pair of types. The types are compared using {@link Object#equals(Object)}, i.e. Weld's implementations of
+ * {@link java.lang.reflect.ParameterizedType}, {@link java.lang.reflect.WildcardType} and {@link java.lang.reflect.GenericArrayType} are interchangeable
+ * with the JDK ones.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#RESOLUTION_ASSIGNABILITY_CACHE_SIZE
+ */
+public class AssignabilityCache implements Service {
+
+    private final ComputingCache<TypePair, Boolean> results;
+
+    /**
+     *
+     * @param maxSize the maximum number of memoized results, {@code 0} disables the memo
+     */
+    public AssignabilityCache(long maxSize) {
+        this.results = maxSize > 0 ? ComputingCacheBuilder.newBuilder().setMaxSize(maxSize).build(TypePair::matches) : null;
+    }
+
+    /**
+     *
+     * @param rules
+     * @return the rules backed by this memo
+     */
+    public AssignabilityRules wrap(AssignabilityRules rules) {
+        if (results == null || rules instanceof MemoizingAssignabilityRules) {
+            return rules;
+        }
+        return new MemoizingAssignabilityRules(rules);
+    }
+
+    long size() {
+        return results != null ? results.size() : 0;
+    }
+
+    @Override
+    public void cleanup() {
+        if (results != null) {
+            results.clear();
+        }
+    }
+
+    private class MemoizingAssignabilityRules extends AbstractAssignabilityRules {
+
+        private final AssignabilityRules delegate;
+
+        private MemoizingAssignabilityRules(AssignabilityRules delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean matches(Type requiredType, Type beanType) {
+            if (requiredType instanceof Class<?> && beanType instanceof Class<?>) {
+                return delegate.matches(requiredType, beanType);
+            }
+            return results.getValue(new TypePair(delegate, requiredType, beanType));
+        }
+
+    }
+
+    private static final class TypePair {
+
+        private final AssignabilityRules rules;
+
+        private final Type requiredType;
+
+        private final Type beanType;
+
+        private final int hashCode;
+
+        private TypePair(AssignabilityRules rules, Type requiredType, Type beanType) {
+            this.rules = rules;
+            this.requiredType = requiredType;
+            this.beanType = beanType;
+            this.hashCode = Objects.hash(rules, requiredType, beanType);
+        }
+
+        private Boolean matches() {
+            return rules.matches(requiredType, beanType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof TypePair) {
+                TypePair that = (TypePair) obj;
+                return hashCode == that.hashCode && rules == that.rules && requiredType.equals(that.requiredType) && beanType.equals(that.beanType);
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -29,9 +29,9 @@ public class TypeSafeDisposerResolver extends TypeSafeResolver<Resolvable, Dispo
 
     private final AssignabilityRules rules;
 
-    public TypeSafeDisposerResolver(Iterable<DisposalMethod<?, ?>> disposers, WeldConfiguration configuration) {
+    public TypeSafeDisposerResolver(Iterable<DisposalMethod<?, ?>> disposers, WeldConfiguration configuration, AssignabilityCache assignabilityCache) {
         super(disposers, configuration);
-        this.rules = BeanTypeAssignabilityRules.instance();
+        this.rules = assignabilityCache.wrap(BeanTypeAssignabilityRules.instance());
     }
 
     @Override
@@ -59,10 +59,11 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
     private final MetaAnnotationStore metaAnnotationStore;
     private final AssignabilityRules rules;
 
-    public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers, WeldConfiguration configuration) {
+    public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers, WeldConfiguration configuration,
+            AssignabilityCache assignabilityCache) {
         super(observers, configuration);
         this.metaAnnotationStore = metaAnnotationStore;
-        this.rules = EventTypeAssignabilityRules.instance();
+        this.rules = assignabilityCache.wrap(EventTypeAssignabilityRules.instance());
     }
 
     @Override
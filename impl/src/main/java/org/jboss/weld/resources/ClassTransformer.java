@@ -82,7 +82,7 @@ public class ClassTransformer implements BootstrapService {
             // make sure declaring class (if any) is loadable before loading this class
             Reflections.checkDeclaringClassLoadable(typeHolder.getRawType());
             BackedAnnotatedType<?> type = BackedAnnotatedType.of(typeHolder.getRawType(), typeHolder.getBaseType(), cache,
-                    reflectionCache, contextId, typeHolder.getBdaId(), typeHolder.getSuffix());
+                    reflectionCache, contextId, typeHolder.getBdaId(), typeHolder.getSuffix(), typeHolder.isEagerMembers());
             return updateLookupTable(type);
         }
     }
@@ -100,12 +100,15 @@ public class ClassTransformer implements BootstrapService {
         private final Class<T> rawType;
         private final Type baseType;
         private final String suffix;
+        // not part of the identity as there is a single type per identifier, only used when the type is created
+        private final boolean eagerMembers;
 
-        private TypeHolder(Class<T> rawType, Type baseType, String bdaId, String suffix) {
+        private TypeHolder(Class<T> rawType, Type baseType, String bdaId, String suffix, boolean eagerMembers) {
             this.rawType = rawType;
             this.baseType = baseType;
             this.bdaId = bdaId;
             this.suffix = suffix;
+            this.eagerMembers = eagerMembers;
         }
 
         Type getBaseType() {
@@ -124,6 +127,10 @@ public class ClassTransformer implements BootstrapService {
             return suffix;
         }
 
+        boolean isEagerMembers() {
+            return eagerMembers;
+        }
+
         @Override
         public boolean equals(Object obj) {
             if (obj instanceof TypeHolder<?>) {
@@ -172,9 +179,29 @@ public class ClassTransformer implements BootstrapService {
 
     // Slim AnnotatedTypes
 
+    /**
+     * Fields and methods of the returned type are read eagerly. If the type was already created with lazily read members, these are read now.
+     *
+     * @param rawType
+     * @param baseType
+     * @param bdaId
+     * @param suffix
+     * @return the backed annotated type
+     */
     public <T> BackedAnnotatedType<T> getBackedAnnotatedType(final Class<T> rawType, final Type baseType, final String bdaId, final String suffix) {
+        return getBackedAnnotatedType(rawType, baseType, bdaId, suffix, true);
+    }
+
+    private <T> BackedAnnotatedType<T> getBackedAnnotatedType(final Class<T> rawType, final Type baseType, final String bdaId, final String suffix,
+            boolean eagerMembers) {
         try {
-            return backedAnnotatedTypes.getCastValue(new TypeHolder<T>(rawType, baseType, bdaId, suffix));
+            BackedAnnotatedType<T> type = backedAnnotatedTypes.getCastValue(new TypeHolder<T>(rawType, baseType, bdaId, suffix, eagerMembers));
+            if (eagerMembers) {
+                // the type may have been created with lazily read members before
+                type.getFields();
+                type.getMethods();
+            }
+            return type;
         } catch (RuntimeException e) {
             if (e instanceof TypeNotPresentException || e instanceof ResourceLoadingException) {
                 BootstrapLogger.LOG.exceptionWhileLoadingClass(rawType.getName(), e);
@@ -198,6 +225,20 @@ public class ClassTransformer implements BootstrapService {
         return getBackedAnnotatedType(rawType, rawType, bdaId, suffix);
     }
 
+    /**
+     * Fields and methods of the returned type are only read once they are actually needed. If the type was already created before, the same instance
+     * is returned. A subsequent request for the same type through {@link #getBackedAnnotatedType(Class, Type, String, String)} reads the members, so
+     * that a missing dependency is detected just like for a type created with eagerly read members.
+     *
+     * @param rawType
+     * @param bdaId
+     * @return the backed annotated type
+     * @see BackedAnnotatedType#of(Class, Type, SharedObjectCache, ReflectionCache, String, String, String, boolean)
+     */
+    public <T> BackedAnnotatedType<T> getBackedAnnotatedTypeWithLazyMembers(Class<T> rawType, String bdaId) {
+        return getBackedAnnotatedType(rawType, rawType, bdaId, null, false);
+    }
+
     public <T> SlimAnnotatedType<T> getSlimAnnotatedTypeById(AnnotatedTypeIdentifier id) {
         return cast(slimAnnotatedTypesById.get(id));
     }
@@ -282,7 +323,7 @@ public class ClassTransformer implements BootstrapService {
     }
 
     public <T> void disposeBackedAnnotatedType(Class<T> rawType, String bdaId, String suffix) {
-        TypeHolder<T> typeHolder = new TypeHolder<>(rawType, rawType, bdaId, suffix);
+        TypeHolder<T> typeHolder = new TypeHolder<>(rawType, rawType, bdaId, suffix, true);
         BackedAnnotatedType<T> annotatedType = cast(this.backedAnnotatedTypes.getValueIfPresent(typeHolder));
         if (annotatedType != null) {
             this.backedAnnotatedTypes.invalidate(typeHolder);
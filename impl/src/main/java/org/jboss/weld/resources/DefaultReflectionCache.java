@@ -134,11 +134,22 @@ public class DefaultReflectionCache extends AbstractBootstrapService implements
     private class AnnotationClassFunction implements Function<Class<? extends Annotation>, AnnotationClass<?>> {
         @Override
         public AnnotationClass<?> apply(Class<? extends Annotation> input) {
-            boolean scope = input.isAnnotationPresent(NormalScope.class) || input.isAnnotationPresent(Scope.class) || store.isExtraScope(input);
-            Method repeatableAnnotationAccessor = Annotations.getRepeatableAnnotationAccessor(input);
+            // read the meta-annotations once, an annotation type does not inherit annotations
             Set<Annotation> metaAnnotations = ImmutableSet.of(internalGetAnnotations(input));
+            boolean scope = isScope(metaAnnotations) || store.isExtraScope(input);
+            Method repeatableAnnotationAccessor = Annotations.getRepeatableAnnotationAccessor(input);
             return new AnnotationClassImpl<>(scope, repeatableAnnotationAccessor, metaAnnotations);
         }
+
+        private boolean isScope(Set<Annotation> metaAnnotations) {
+            for (Annotation metaAnnotation : metaAnnotations) {
+                Class<? extends Annotation> metaAnnotationType = metaAnnotation.annotationType();
+                if (NormalScope.class.equals(metaAnnotationType) || Scope.class.equals(metaAnnotationType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     private static class AnnotationClassImpl<T extends Annotation> implements AnnotationClass<T> {
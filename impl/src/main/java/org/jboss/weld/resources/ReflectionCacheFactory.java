@@ -17,20 +17,22 @@
 package org.jboss.weld.resources;
 
 import org.jboss.weld.metadata.TypeStore;
-import org.jboss.weld.util.reflection.Reflections;
 
+/**
+ * Creates {@link ReflectionCache} instances.
+ *
+ * <p>
+ * Reading annotations of annotation types used to be serialized on a global lock in order to work around HotSpot deadlocks (see WELD-1169, JDK-7122142
+ * and JDK-6588239). The underlying JDK bugs are fixed as of JDK 8, i.e. the lowest Java version supported, and so concurrent bootstrap threads read
+ * annotations without any locking.
+ * </p>
+ */
 public class ReflectionCacheFactory {
 
-    private static final String HOTSPOT_MARKER = "sun.reflect.annotation.AnnotationType";
-
     private ReflectionCacheFactory() {
     }
 
     public static ReflectionCache newInstance(TypeStore store) {
-        if (Reflections.isClassLoadable(HOTSPOT_MARKER, WeldClassLoaderResourceLoader.INSTANCE)) {
-            return new HotspotReflectionCache(store);
-        } else {
-            return new DefaultReflectionCache(store);
-        }
+        return new DefaultReflectionCache(store);
     }
 }
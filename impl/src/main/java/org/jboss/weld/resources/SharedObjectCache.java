@@ -57,6 +57,8 @@ public class SharedObjectCache implements BootstrapService {
         }
     });
 
+    private final ComputingCache<Set<Type>, Set<Type>> typeClosures = ComputingCacheBuilder.newBuilder().build(ImmutableSet::compactCopyOf);
+
     private final ComputingCache<Type, LazyValueHolder<Set<Type>>> typeClosureHolders = ComputingCacheBuilder.newBuilder().build(
             new Function<Type, LazyValueHolder<Set<Type>>>() {
         @Override
@@ -73,6 +75,16 @@ public class SharedObjectCache implements BootstrapService {
         return sharedMaps.getCastValue(map);
     }
 
+    /**
+     * Returns an interned, compact immutable copy of the given type closure. Equal type closures (e.g. bean types of multiple beans) share a single instance.
+     *
+     * @param typeClosure the type closure
+     * @return the shared type closure
+     */
+    public Set<Type> getSharedTypeClosure(Set<Type> typeClosure) {
+        return typeClosures.getValue(typeClosure);
+    }
+
     public LazyValueHolder<Set<Type>> getTypeClosureHolder(Type type) {
         return typeClosureHolders.getCastValue(type);
     }
@@ -81,6 +93,7 @@ public class SharedObjectCache implements BootstrapService {
     public void cleanupAfterBoot() {
         sharedSets.clear();
         sharedMaps.clear();
+        typeClosures.clear();
         typeClosureHolders.clear();
     }
 
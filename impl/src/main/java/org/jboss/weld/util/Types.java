@@ -154,6 +154,12 @@ public class Types {
         return type;
     }
 
+    /**
+     * The bounds of wildcards are also inspected, e.g. <code>Collection&lt;? extends Callable&lt;T&gt;&gt;</code> contains a type variable.
+     *
+     * @param type
+     * @return <code>true</code> if the given type contains a type variable, <code>false</code> otherwise
+     */
     public static boolean containsTypeVariable(Type type) {
         type = Types.getCanonicalType(type);
         if (type instanceof TypeVariable<?>) {
@@ -171,6 +177,19 @@ public class Types {
             GenericArrayType genericArrayType = (GenericArrayType) type;
             return containsTypeVariable(genericArrayType.getGenericComponentType());
         }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            for (Type bound : wildcardType.getUpperBounds()) {
+                if (containsTypeVariable(bound)) {
+                    return true;
+                }
+            }
+            for (Type bound : wildcardType.getLowerBounds()) {
+                if (containsTypeVariable(bound)) {
+                    return true;
+                }
+            }
+        }
         return false;
     }
 
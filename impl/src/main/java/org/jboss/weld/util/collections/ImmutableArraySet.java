@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.collections;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.jboss.weld.util.Preconditions;
+
+/**
+ * Compact immutable {@link Set} implementation backed by an array of exactly the size of the set. Unlike {@link ImmutableHashSet} it does not use hashing
+ * and thus {@link Set#contains(Object)} is o(n). On the other hand, it does not waste any slots which makes it a good fit for small sets retained for the
+ * whole lifetime of the application, such as type closures. The hash code is computed eagerly.
+ *
+ * @param <T> the element type
+ * @see ImmutableSet#compactCopyOf(java.util.Collection)
+ */
+final class ImmutableArraySet<T> extends ImmutableSet<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] elements;
+    private final int hashCode;
+
+    ImmutableArraySet(Set<T> data) {
+        Preconditions.checkNotNull(data);
+        Preconditions.checkArgument(!data.isEmpty(), data);
+        this.elements = data.toArray();
+        int hashCode = 0;
+        for (Object element : elements) {
+            hashCode += element.hashCode();
+        }
+        this.hashCode = hashCode;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (Object element : elements) {
+            if (o.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof ImmutableArraySet<?> || obj instanceof ImmutableHashSet<?>) {
+            // both implementations have precomputed hashcode
+            AbstractImmutableSet<?> that = (AbstractImmutableSet<?>) obj;
+            if (hashCode() != that.hashCode()) {
+                return false;
+            }
+            return equalsSet(that);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterators.IndexIterator<T>(elements.length) {
+            @SuppressWarnings("unchecked")
+            @Override
+            T getElement(int position) {
+                return (T) elements[position];
+            }
+        };
+    }
+}
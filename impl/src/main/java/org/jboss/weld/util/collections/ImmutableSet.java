@@ -37,6 +37,7 @@ import org.jboss.weld.util.Preconditions;
  * <li>A single shared {@link Set} implementation instance representing an empty list</li>
  * <li>An optimized implementation for holding one, two or three references.</li>
  * <li>An immutable {@link Set} implementation based on hashing</li>
+ * <li>A compact immutable {@link Set} implementation backed by an array, see {@link #compactCopyOf(Collection)}</li>
  * </ul>
  * <p/>
  *
@@ -47,6 +48,8 @@ import org.jboss.weld.util.Preconditions;
  */
 public abstract class ImmutableSet<T> extends AbstractImmutableSet<T> {
 
+    private static final int COMPACT_MAX_SIZE = 16;
+
     ImmutableSet() {
     }
 
@@ -72,6 +75,31 @@ public abstract class ImmutableSet<T> extends AbstractImmutableSet<T> {
         return ImmutableSet.<T> builder().addAll(collection).build();
     }
 
+    /**
+     * Creates a new immutable set that consists of the elements in the given collection. Unlike {@link #copyOf(Collection)}, the returned set does not use
+     * hashing unless the number of elements exceeds {@value #COMPACT_MAX_SIZE}. This saves memory at the cost of o(n) {@link Set#contains(Object)} and
+     * should only be used for small sets retained for a long time, such as type closures. If the given collection is already a compact instance, the instance is
+     * re-used.
+     *
+     * @param collection the given collection
+     * @return a new compact immutable set that consists of the elements in the given collection
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Set<T> compactCopyOf(Collection<? extends T> collection) {
+        Preconditions.checkNotNull(collection);
+        if (collection instanceof ImmutableArraySet<?> || collection instanceof ImmutableTinySet<?>) {
+            return (Set<T>) collection;
+        }
+        if (collection.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<T> set = collection instanceof Set ? (Set<T>) collection : new LinkedHashSet<>(collection);
+        if (set.size() > 3 && set.size() <= COMPACT_MAX_SIZE) {
+            return new ImmutableArraySet<>(set);
+        }
+        return collection instanceof AbstractImmutableSet<?> ? set : from(set);
+    }
+
     /**
      * Creates a new immutable set that consists of given elements.
      *
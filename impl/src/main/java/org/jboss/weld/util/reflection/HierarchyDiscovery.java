@@ -92,7 +92,7 @@ public class HierarchyDiscovery {
         this.resolver = resolver;
         this.resolvedTypeVariables = resolver.getResolvedTypeVariables();
         discoverTypes(type, false);
-        this.typeClosure = ImmutableSet.copyOf(types.values());
+        this.typeClosure = ImmutableSet.compactCopyOf(types.values());
     }
 
     public Set<Type> getTypeClosure() {
@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.annotated.slim.backed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
+import org.jboss.weld.annotated.slim.AnnotatedTypeIdentifier;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.jboss.weld.resources.spi.ResourceLoadingException;
+import org.jboss.weld.util.reflection.Formats;
+import org.junit.Test;
+
+public class BackedAnnotatedTypeTest {
+
+    @Test
+    public void testLazyMembers() {
+        ClassTransformer transformer = newClassTransformer();
+        BackedAnnotatedType<Holder> type = transformer.getBackedAnnotatedTypeWithLazyMembers(Holder.class, AnnotatedTypeIdentifier.NULL_BDA_ID);
+        assertEquals(1, type.getConstructors().size());
+        assertEquals(1, type.getFields().size());
+        assertEquals(1, type.getMethods().size());
+        // there is a single type per identifier
+        assertSame(type, transformer.getBackedAnnotatedType(Holder.class, AnnotatedTypeIdentifier.NULL_BDA_ID));
+    }
+
+    @Test
+    public void testMissingDependency() throws Exception {
+        Class<?> holderClass = new HidingClassLoader().loadClass(Holder.class.getName());
+        try {
+            newClassTransformer().getBackedAnnotatedType(holderClass, AnnotatedTypeIdentifier.NULL_BDA_ID);
+            fail();
+        } catch (ResourceLoadingException expected) {
+        }
+        // fields and methods are not read
+        BackedAnnotatedType<?> type = newClassTransformer().getBackedAnnotatedTypeWithLazyMembers(holderClass, AnnotatedTypeIdentifier.NULL_BDA_ID);
+        assertEquals(1, type.getConstructors().size());
+        assertNull(type.getMemberLoadingFailure());
+        try {
+            type.getMethods();
+            fail();
+        } catch (ResourceLoadingException expected) {
+            // recorded so that the type is handled as a type with a missing dependency
+            assertSame(expected, type.getMemberLoadingFailure());
+            assertEquals(MissingDependency.class.getName(), Formats.getNameOfMissingClassLoaderDependency(expected));
+        }
+    }
+
+    @Test
+    public void testEagerRequestLoadsLazyMembers() throws Exception {
+        Class<?> holderClass = new HidingClassLoader().loadClass(Holder.class.getName());
+        ClassTransformer transformer = newClassTransformer();
+        BackedAnnotatedType<?> type = transformer.getBackedAnnotatedTypeWithLazyMembers(holderClass, AnnotatedTypeIdentifier.NULL_BDA_ID);
+        assertNull(type.getMemberLoadingFailure());
+        try {
+            // the cached type is used but the members are read
+            transformer.getBackedAnnotatedType(holderClass, AnnotatedTypeIdentifier.NULL_BDA_ID);
+            fail();
+        } catch (ResourceLoadingException expected) {
+            assertNotNull(type.getMemberLoadingFailure());
+        }
+    }
+
+    @Test
+    public void testEnhancedAnnotatedTypeMembersProcessedOnDemand() throws Exception {
+        Class<?> holderClass = new HidingClassLoader().loadClass(Holder.class.getName());
+        ClassTransformer transformer = newClassTransformer();
+        EnhancedAnnotatedType<?> type = transformer.getEnhancedAnnotatedType(transformer.getBackedAnnotatedTypeWithLazyMembers(holderClass,
+                AnnotatedTypeIdentifier.NULL_BDA_ID));
+        assertNotNull(type.getNoArgsEnhancedConstructor());
+        try {
+            type.getEnhancedFields();
+            fail();
+        } catch (ResourceLoadingException expected) {
+        }
+    }
+
+    private static ClassTransformer newClassTransformer() {
+        TypeStore typeStore = new TypeStore();
+        return new ClassTransformer(typeStore, new SharedObjectCache(), ReflectionCacheFactory.newInstance(typeStore), RegistrySingletonProvider.STATIC_INSTANCE);
+    }
+
+    /**
+     * Defines {@link Holder} and hides {@link MissingDependency}.
+     */
+    private static class HidingClassLoader extends ClassLoader {
+
+        HidingClassLoader() {
+            super(BackedAnnotatedTypeTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(MissingDependency.class.getName())) {
+                throw new ClassNotFoundException(name);
+            }
+            if (name.equals(Holder.class.getName())) {
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> clazz = findLoadedClass(name);
+                    if (clazz == null) {
+                        byte[] bytes = readClass(name);
+                        clazz = defineClass(name, bytes, 0, bytes.length);
+                    }
+                    return clazz;
+                }
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+
+    }
+
+}
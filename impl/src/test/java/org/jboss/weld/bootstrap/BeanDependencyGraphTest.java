@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.bootstrap.BeanDependencyGraph.Edge;
+import org.junit.Test;
+
+public class BeanDependencyGraphTest {
+
+    @Test
+    public void testEdges() {
+        Bean<?> foo = bean();
+        Bean<?> bar = bean();
+        Bean<?> baz = bean();
+        BeanDependencyGraph graph = new BeanDependencyGraph(true);
+        graph.add(foo, null, bar);
+        graph.add(baz, null, bar);
+        // injection point of a non-contextual instance
+        graph.add(null, null, foo);
+
+        assertTrue(graph.isResolved(foo));
+        assertTrue(graph.isResolved(bar));
+        assertFalse(graph.isResolved(baz));
+
+        List<Edge> dependents = graph.getDependents(bar);
+        assertEquals(2, dependents.size());
+        assertEquals(foo, dependents.get(0).getDependent());
+        assertEquals(baz, dependents.get(1).getDependent());
+        assertEquals(1, graph.getDependencies(foo).size());
+        assertEquals(bar, graph.getDependencies(foo).get(0).getDependency());
+        assertTrue(graph.getDependencies(bar).isEmpty());
+        assertNull(graph.getDependents(foo).get(0).getDependent());
+    }
+
+    @Test
+    public void testDisabled() {
+        Bean<?> foo = bean();
+        Bean<?> bar = bean();
+        BeanDependencyGraph graph = new BeanDependencyGraph(false);
+        graph.add(foo, null, bar);
+        assertFalse(graph.isResolved(bar));
+        graph.retainAfterBoot();
+        assertTrue(graph.isEnabled());
+        graph.add(foo, null, bar);
+        assertTrue(graph.isResolved(bar));
+    }
+
+    @Test
+    public void testReleaseAfterBoot() {
+        Bean<?> foo = bean();
+        Bean<?> bar = bean();
+        BeanDependencyGraph graph = new BeanDependencyGraph(true);
+        graph.add(foo, null, bar);
+        graph.validated();
+        assertTrue(graph.isComplete());
+        graph.releaseAfterBoot();
+        assertFalse(graph.isComplete());
+        assertFalse(graph.isResolved(bar));
+
+        graph.retainAfterBoot();
+        graph.add(foo, null, bar);
+        graph.validated();
+        graph.releaseAfterBoot();
+        assertTrue(graph.isComplete());
+        assertTrue(graph.isResolved(bar));
+        graph.cleanup();
+        assertFalse(graph.isResolved(bar));
+    }
+
+    private static Bean<?> bean() {
+        return (Bean<?>) Proxy.newProxyInstance(BeanDependencyGraphTest.class.getClassLoader(), new Class<?>[] { Bean.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return null;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.exceptions.DeploymentException;
+import org.jboss.weld.injection.ConstructorInvocationStrategy;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.tests.unit.bootstrap.footprint.Greeter;
+import org.jboss.weld.tests.unit.bootstrap.footprint.LoudMessageProducer;
+import org.jboss.weld.tests.unit.bootstrap.footprint.Message;
+import org.junit.After;
+import org.junit.Test;
+
+public class ConstructorInvocationTest {
+
+    private TestContainer container;
+
+    @After
+    public void shutdown() {
+        if (container != null) {
+            container.shutdown();
+        }
+    }
+
+    @Test
+    public void testDefaultStrategy() {
+        container = new TestContainer().addArchive("archive", Message.class, LoudMessageProducer.class, Greeter.class).start();
+        assertStrategy(ConstructorInvocationStrategy.METHOD_HANDLE);
+    }
+
+    @Test
+    public void testReflectionStrategy() {
+        container = new TestContainer().addArchive("archive", Message.class, LoudMessageProducer.class, Greeter.class)
+                .setProperty(ConfigurationKey.CONSTRUCTOR_INVOCATION, ConstructorInvocationStrategy.REFLECTION.name()).start();
+        assertStrategy(ConstructorInvocationStrategy.REFLECTION);
+    }
+
+    @Test
+    public void testInvalidStrategy() {
+        container = new TestContainer().addArchive("archive", Message.class, LoudMessageProducer.class, Greeter.class)
+                .setProperty(ConfigurationKey.CONSTRUCTOR_INVOCATION, "FOO");
+        try {
+            container.deploy();
+            fail("The invalid value should be rejected at boot");
+        } catch (DeploymentException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("WELD-000128"));
+            assertTrue(expected.getMessage(), expected.getMessage().contains(ConfigurationKey.CONSTRUCTOR_INVOCATION.get()));
+        }
+    }
+
+    private void assertStrategy(ConstructorInvocationStrategy expected) {
+        BeanManagerImpl beanManager = container.getBeanManager();
+        assertEquals(expected, beanManager.getServices().get(WeldConfiguration.class).getConstructorInvocationStrategy());
+        assertEquals("hello", beanManager.createInstance().select(Greeter.class).get().getMessage().getText());
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.weld.context.ManagedConversation;
+import org.jboss.weld.context.bound.BoundConversationContext;
+import org.jboss.weld.context.bound.BoundLiteral;
+import org.jboss.weld.context.bound.MutableBoundRequest;
+import org.jboss.weld.contexts.AbstractConversationContext;
+import org.jboss.weld.tests.unit.bootstrap.footprint.Message;
+import org.junit.After;
+import org.junit.Test;
+
+public class ConversationCleanupTest {
+
+    private TestContainer container;
+
+    @After
+    public void shutdown() {
+        if (container != null) {
+            container.shutdown();
+        }
+    }
+
+    @Test
+    public void testConversationEndedWithinAnotherSession() {
+        container = new TestContainer().addArchive("archive", Message.class).start();
+        BoundConversationContext context = container.getBeanManager().instance().select(BoundConversationContext.class, BoundLiteral.INSTANCE).get();
+        Map<String, Object> session = new HashMap<>();
+        Map<String, Object> otherSession = new HashMap<>();
+
+        // begin a long-running conversation
+        associate(context, session);
+        context.activate();
+        ManagedConversation conversation = context.getCurrentConversation();
+        conversation.begin();
+        String cid = conversation.getId();
+        dissociate(context, session);
+        assertTrue(getConversations(session).containsKey(cid));
+
+        // end it while processing a request of another session
+        associate(context, otherSession);
+        context.activate();
+        conversation.end();
+        dissociate(context, otherSession);
+        assertTrue(getConversations(session).containsKey(cid));
+
+        // destroyed at the end of the next request of the session, well before the conversation timeout
+        associate(context, session);
+        context.activate();
+        dissociate(context, session);
+        assertFalse(getConversations(session).containsKey(cid));
+    }
+
+    private static void associate(BoundConversationContext context, Map<String, Object> session) {
+        context.associate(new MutableBoundRequest(new HashMap<String, Object>(), session));
+    }
+
+    private static void dissociate(BoundConversationContext context, Map<String, Object> session) {
+        context.deactivate();
+        context.dissociate(new MutableBoundRequest(new HashMap<String, Object>(), session));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, ManagedConversation> getConversations(Map<String, Object> session) {
+        return (Map<String, ManagedConversation>) session.get(AbstractConversationContext.CONVERSATIONS_ATTRIBUTE_NAME);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.tests.unit.bootstrap.footprint.Greeter;
+import org.jboss.weld.tests.unit.bootstrap.footprint.Loud;
+import org.jboss.weld.tests.unit.bootstrap.footprint.LoudMessageProducer;
+import org.jboss.weld.tests.unit.bootstrap.footprint.Message;
+import org.junit.After;
+import org.junit.Test;
+
+public class ReducedFootprintTest {
+
+    private TestContainer container;
+
+    @After
+    public void shutdown() {
+        if (container != null) {
+            container.shutdown();
+        }
+    }
+
+    @Test
+    public void testResolvedInjectionPointsCleared() {
+        container = new TestContainer().addArchive("archive", Message.class, LoudMessageProducer.class, Greeter.class)
+                .setProperty(ConfigurationKey.REDUCED_FOOTPRINT, true)
+                // The resolved injection points are only recorded if unused beans may be detected
+                .setProperty(ConfigurationKey.UNUSED_BEANS_EXCLUDE_TYPE, ConfigurationKey.UnusedBeans.NONE)
+                .deploy().validate();
+        BeanManagerImpl beanManager = container.getBeanManager();
+        Validator validator = beanManager.getServices().get(Validator.class);
+        Bean<?> message = getBean(beanManager, Message.class);
+        assertTrue(validator.isResolved(message));
+        container.endInitialization();
+        assertFalse(validator.isResolved(message));
+    }
+
+    @Test
+    public void testResolutionAndInjection() {
+        container = new TestContainer().addArchive("archive", Message.class, LoudMessageProducer.class, Greeter.class)
+                .setProperty(ConfigurationKey.REDUCED_FOOTPRINT, true).start();
+        BeanManagerImpl beanManager = container.getBeanManager();
+        Greeter greeter = beanManager.createInstance().select(Greeter.class).get();
+        assertEquals("hello", greeter.getMessage().getText());
+        assertEquals("HELLO", greeter.getLoudMessage());
+        // The qualifier model is read again
+        assertEquals("HELLO", beanManager.createInstance().select(String.class, Loud.Literal.INSTANCE).get());
+        assertEquals(1, beanManager.getBeans(String.class, Loud.Literal.INSTANCE).size());
+    }
+
+    private static Bean<?> getBean(BeanManagerImpl beanManager, Class<?> beanClass) {
+        return beanManager.resolve(beanManager.getBeans(beanClass));
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+public class StartupProfilerTest {
+
+    @Test
+    public void testOperationTree() {
+        StartupProfiler profiler = new StartupProfiler("foo", System.getProperty("java.io.tmpdir"));
+        Tracker tracker = Trackers.create(profiler);
+        tracker.start(Tracker.OP_BOOTSTRAP);
+        tracker.start(Tracker.OP_CREATE_BEANS).start("archive \"1\"").end().end();
+        tracker.start(Tracker.OP_VALIDATE_BEANS);
+        tracker.close();
+
+        String json = profiler.toJson();
+        assertTrue(json, json.contains("\"contextId\": \"foo\""));
+        assertTrue(json, json.contains("{\"name\": \"bootstrap\""));
+        assertTrue(json, json.contains("{\"name\": \"createBeans\""));
+        assertTrue(json, json.contains("{\"name\": \"archive \\\"1\\\"\""));
+        assertTrue(json, json.contains("{\"name\": \"validateBeans\""));
+        assertTrue(json, json.contains("\"extensionObservers\": []"));
+        assertEquals(count(json, '{'), count(json, '}'));
+        assertEquals(count(json, '['), count(json, ']'));
+    }
+
+    @Test
+    public void testWriteReport() throws Exception {
+        Path directory = Files.createTempDirectory("weld-startup-report");
+        StartupProfiler profiler = new StartupProfiler("foo:bar", directory.toString());
+        Tracker tracker = Trackers.create(profiler);
+        tracker.start(Tracker.OP_BOOTSTRAP);
+        tracker.close();
+        assertTrue(profiler.isActive());
+        profiler.writeReport();
+        assertFalse(profiler.isActive());
+        File report = directory.resolve("weld-startup-report-foo_bar.json").toFile();
+        assertTrue(report.exists());
+        assertTrue(new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8).contains("\"name\": \"bootstrap\""));
+        report.delete();
+        directory.toFile().delete();
+    }
+
+    private static int count(String value, char c) {
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == c) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bootstrap.api.Environments;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.bootstrap.api.helpers.SimpleServiceRegistry;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.bootstrap.spi.helpers.MetadataImpl;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.configuration.spi.ExternalConfiguration;
+import org.jboss.weld.configuration.spi.helpers.ExternalConfigurationBuilder;
+import org.jboss.weld.ejb.spi.EjbDescriptor;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resources.DefaultResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoader;
+
+/**
+ * Boots a Weld SE container with the given bean classes, without any scanning. The bootstrap phases are performed one by one so that the state of the
+ * container can be inspected in between.
+ */
+class TestContainer {
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    private final Map<String, Collection<String>> archives = new LinkedHashMap<>();
+
+    private final Map<String, BeanDeploymentArchive> beanDeploymentArchives = new HashMap<>();
+
+    private final List<Metadata<Extension>> extensions = new ArrayList<>();
+
+    private final ExternalConfigurationBuilder configuration = new ExternalConfigurationBuilder();
+
+    private WeldStartup startup;
+
+    private WeldRuntime runtime;
+
+    TestContainer addArchive(String id, Class<?>... beanClasses) {
+        List<String> classNames = new ArrayList<>();
+        for (Class<?> beanClass : beanClasses) {
+            classNames.add(beanClass.getName());
+        }
+        archives.put(id, classNames);
+        return this;
+    }
+
+    TestContainer addExtension(Extension extension) {
+        extensions.add(new MetadataImpl<Extension>(extension, TestContainer.class.getName()));
+        return this;
+    }
+
+    TestContainer setProperty(ConfigurationKey key, Object value) {
+        configuration.add(key.get(), value);
+        return this;
+    }
+
+    /**
+     * Starts the container and deploys the beans.
+     */
+    TestContainer deploy() {
+        final ServiceRegistry deploymentServices = new SimpleServiceRegistry();
+        deploymentServices.add(ExternalConfiguration.class, configuration.build());
+        for (String id : archives.keySet()) {
+            beanDeploymentArchives.put(id, new TestBeanDeploymentArchive(id));
+        }
+        Deployment deployment = new Deployment() {
+
+            @Override
+            public Collection<BeanDeploymentArchive> getBeanDeploymentArchives() {
+                return beanDeploymentArchives.values();
+            }
+
+            @Override
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                for (Map.Entry<String, Collection<String>> archive : archives.entrySet()) {
+                    if (archive.getValue().contains(beanClass.getName())) {
+                        return beanDeploymentArchives.get(archive.getKey());
+                    }
+                }
+                return beanDeploymentArchives.values().iterator().next();
+            }
+
+            @Override
+            public ServiceRegistry getServices() {
+                return deploymentServices;
+            }
+
+            @Override
+            public Iterable<Metadata<Extension>> getExtensions() {
+                return extensions;
+            }
+        };
+        startup = new WeldStartup();
+        runtime = startup.startContainer(TestContainer.class.getName() + IDS.incrementAndGet(), Environments.SE, deployment);
+        startup.startInitialization();
+        startup.deployBeans();
+        return this;
+    }
+
+    TestContainer validate() {
+        startup.validateBeans();
+        return this;
+    }
+
+    TestContainer endInitialization() {
+        startup.endInitialization();
+        return this;
+    }
+
+    /**
+     * Performs all the bootstrap phases.
+     */
+    TestContainer start() {
+        return deploy().validate().endInitialization();
+    }
+
+    WeldStartup getStartup() {
+        return startup;
+    }
+
+    BeanManagerImpl getBeanManager(String archiveId) {
+        return runtime.getManager(beanDeploymentArchives.get(archiveId));
+    }
+
+    /**
+     *
+     * @return the bean manager of the first bean deployment archive
+     */
+    BeanManagerImpl getBeanManager() {
+        return getBeanManager(archives.keySet().iterator().next());
+    }
+
+    void shutdown() {
+        if (runtime != null) {
+            runtime.shutdown();
+            runtime = null;
+        }
+    }
+
+    private class TestBeanDeploymentArchive implements BeanDeploymentArchive {
+
+        private final String id;
+
+        private final ServiceRegistry services;
+
+        TestBeanDeploymentArchive(String id) {
+            this.id = id;
+            this.services = new SimpleServiceRegistry();
+            this.services.add(ResourceLoader.class, DefaultResourceLoader.INSTANCE);
+        }
+
+        @Override
+        public Collection<BeanDeploymentArchive> getBeanDeploymentArchives() {
+            // All archives are accessible from each other
+            List<BeanDeploymentArchive> accessible = new ArrayList<>(beanDeploymentArchives.values());
+            accessible.remove(this);
+            return accessible;
+        }
+
+        @Override
+        public Collection<String> getBeanClasses() {
+            return archives.get(id);
+        }
+
+        @Override
+        public BeansXml getBeansXml() {
+            return BeansXml.EMPTY_BEANS_XML;
+        }
+
+        @Override
+        public Collection<EjbDescriptor<?>> getEjbs() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public ServiceRegistry getServices() {
+            return services;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.bean.AbstractClassBean;
+import org.jboss.weld.bean.proxy.ClientProxyProvider;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.tests.unit.bootstrap.unused.Client;
+import org.jboss.weld.tests.unit.bootstrap.unused.Greeting;
+import org.jboss.weld.tests.unit.bootstrap.unused.LoggedInterceptor;
+import org.jboss.weld.tests.unit.bootstrap.unused.UnproxyableGreeting;
+import org.jboss.weld.tests.unit.bootstrap.unused.UnusedService;
+import org.jboss.weld.tests.unit.bootstrap.unused.UsedService;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.junit.After;
+import org.junit.Test;
+
+public class UnusedBeansTest {
+
+    private TestContainer container;
+
+    @After
+    public void shutdown() {
+        if (container != null) {
+            container.shutdown();
+        }
+    }
+
+    @Test
+    public void testBeanRegisteredInSeveralManagersCountedOnce() {
+        container = new TestContainer().addArchive("a", UsedService.class).addArchive("b", UnusedService.class).deploy();
+        WeldStartup startup = container.getStartup();
+        int count = startup.countBeans();
+        Bean<?> bean = getBean(container.getBeanManager("a"), UsedService.class);
+        container.getBeanManager("b").addBean(bean);
+        assertTrue(container.getBeanManager("b").getBeans().contains(bean));
+        assertEquals(count, startup.countBeans());
+    }
+
+    @Test
+    public void testInterceptionModelsOfRemovedBeansEvicted() {
+        container = newContainer().deploy().validate();
+        BeanManagerImpl beanManager = container.getBeanManager();
+        AbstractClassBean<?> used = (AbstractClassBean<?>) getBean(beanManager, UsedService.class);
+        AbstractClassBean<?> unused = (AbstractClassBean<?>) getBean(beanManager, UnusedService.class);
+        assertTrue(beanManager.getInterceptorModelRegistry().containsKey(used.getAnnotated()));
+        assertTrue(beanManager.getInterceptorModelRegistry().containsKey(unused.getAnnotated()));
+        container.endInitialization();
+        assertTrue(beanManager.getBeans(UnusedService.class).isEmpty());
+        assertFalse(beanManager.getInterceptorModelRegistry().containsKey(unused.getAnnotated()));
+        assertTrue(beanManager.getInterceptorModelRegistry().containsKey(used.getAnnotated()));
+    }
+
+    @Test
+    public void testClientProxiesOfRemovedBeansEvicted() throws Exception {
+        container = newContainer().deploy().validate();
+        BeanManagerImpl beanManager = container.getBeanManager();
+        Bean<?> unused = getBean(beanManager, UnusedService.class);
+        Bean<?> unproxyable = getBean(beanManager, UnproxyableGreeting.class);
+        Object unusedProxy = beanManager.getReference(unused, UnusedService.class, beanManager.createCreationalContext(unused));
+        // the bean type closure is not proxyable, the proxy is created for the requested type
+        Object greetingProxy = beanManager.getReference(unproxyable, Greeting.class, beanManager.createCreationalContext(unproxyable));
+        ClientProxyProvider clientProxyProvider = beanManager.getClientProxyProvider();
+        ComputingCache<Object, Object> beanTypeClosureProxies = getProxyPool(clientProxyProvider, "beanTypeClosureProxyPool");
+        ComputingCache<Object, Object> requestedTypeClosureProxies = getProxyPool(clientProxyProvider, "requestedTypeClosureProxyPool");
+        assertTrue(beanTypeClosureProxies.getValueIfPresent(unused) == unusedProxy);
+        assertNotNull(beanTypeClosureProxies.getValueIfPresent(unproxyable));
+        assertTrue(containsValue(requestedTypeClosureProxies, greetingProxy));
+
+        container.endInitialization();
+        assertTrue(beanManager.getBeans(UnusedService.class).isEmpty());
+        assertTrue(beanManager.getBeans(UnproxyableGreeting.class).isEmpty());
+        assertNull(beanTypeClosureProxies.getValueIfPresent(unused));
+        assertNull(beanTypeClosureProxies.getValueIfPresent(unproxyable));
+        assertFalse(containsValue(requestedTypeClosureProxies, greetingProxy));
+    }
+
+    private static TestContainer newContainer() {
+        return new TestContainer()
+                .addArchive("archive", LoggedInterceptor.class, UsedService.class, UnusedService.class, Client.class, UnproxyableGreeting.class)
+                .setProperty(ConfigurationKey.UNUSED_BEANS_EXCLUDE_TYPE, ConfigurationKey.UnusedBeans.NONE)
+                .setProperty(ConfigurationKey.ALLOW_OPTIMIZED_CLEANUP, true);
+    }
+
+    private static Bean<?> getBean(BeanManagerImpl beanManager, Class<?> beanClass) {
+        return beanManager.resolve(beanManager.getBeans(beanClass));
+    }
+
+    private static boolean containsValue(ComputingCache<?, ?> cache, Object value) {
+        for (Object presentValue : cache.getAllPresentValues()) {
+            if (presentValue == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ComputingCache<Object, Object> getProxyPool(ClientProxyProvider clientProxyProvider, String name) throws Exception {
+        Field field = ClientProxyProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return (ComputingCache<Object, Object>) field.get(clientProxyProvider);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.tests.unit.bootstrap.validator.Alpha;
+import org.jboss.weld.tests.unit.bootstrap.validator.AnotherFooConsumer;
+import org.jboss.weld.tests.unit.bootstrap.validator.Bravo;
+import org.jboss.weld.tests.unit.bootstrap.validator.Foo;
+import org.jboss.weld.tests.unit.bootstrap.validator.FooConsumer;
+import org.jboss.weld.tests.unit.bootstrap.validator.Leaf;
+import org.jboss.weld.tests.unit.bootstrap.validator.Ping;
+import org.jboss.weld.tests.unit.bootstrap.validator.Pong;
+import org.jboss.weld.tests.unit.bootstrap.validator.Shared;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.junit.After;
+import org.junit.Test;
+
+public class ValidatorTest {
+
+    private TestContainer container;
+
+    @After
+    public void shutdown() {
+        if (container != null) {
+            container.shutdown();
+        }
+    }
+
+    @Test
+    public void testProxyabilityCheckedOncePerType() throws Exception {
+        container = new TestContainer().addArchive("archive", Foo.class, FooConsumer.class, AnotherFooConsumer.class).deploy().validate();
+        Validator validator = container.getBeanManager().getServices().get(Validator.class);
+        // Three injection points of the same type resolved to the same normal-scoped bean
+        assertEquals(1, getProxyabilityChecks(validator).size());
+        container.endInitialization();
+        assertEquals(0, getProxyabilityChecks(validator).size());
+    }
+
+    @Test
+    public void testPseudoScopedBeansVerifiedOnce() throws Exception {
+        container = new TestContainer().addArchive("archive", Alpha.class, Bravo.class, Shared.class, Leaf.class).deploy().validate();
+        BeanManagerImpl beanManager = container.getBeanManager();
+        Set<Bean<?>> verified = getPseudoScopedBeansWithoutCycles(beanManager.getServices().get(Validator.class)).get(beanManager);
+        for (Class<?> beanClass : new Class<?>[] { Alpha.class, Bravo.class, Shared.class, Leaf.class }) {
+            assertTrue(beanClass.getName(), verified.contains(beanManager.resolve(beanManager.getBeans(beanClass))));
+        }
+    }
+
+    @Test
+    public void testVerifiedBeanSkipped() throws Exception {
+        container = new TestContainer().addArchive("archive", Leaf.class).deploy();
+        Bean<?> bean = (Bean<?>) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Bean.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    // The dependencies of a verified bean are never traversed again
+                    throw new AssertionError(method.getName());
+            }
+        });
+        Method validate = Validator.class.getDeclaredMethod("reallyValidatePseudoScopedBean", Bean.class, BeanManagerImpl.class, Set.class, Set.class);
+        validate.setAccessible(true);
+        validate.invoke(null, bean, container.getBeanManager(), new LinkedHashSet<Object>(), Collections.singleton(bean));
+    }
+
+    @Test
+    public void testPseudoScopedCycleDetected() {
+        // Alpha, Bravo and Pong share the verified Shared and Leaf beans
+        container = new TestContainer().addArchive("archive", Alpha.class, Bravo.class, Shared.class, Leaf.class, Ping.class, Pong.class).deploy();
+        try {
+            container.validate();
+            fail();
+        } catch (DeploymentException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains(Ping.class.getName()));
+        }
+    }
+
+    private static ComputingCache<?, ?> getProxyabilityChecks(Validator validator) throws Exception {
+        Field field = Validator.class.getDeclaredField("proxyableInjectionPointTypes");
+        field.setAccessible(true);
+        return (ComputingCache<?, ?>) field.get(validator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<BeanManagerImpl, Set<Bean<?>>> getPseudoScopedBeansWithoutCycles(Validator validator) throws Exception {
+        Field field = Validator.class.getDeclaredField("pseudoScopedBeansWithoutCycles");
+        field.setAccessible(true);
+        return (Map<BeanManagerImpl, Set<Bean<?>>>) field.get(validator);
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.junit.Test;
+
+public class CreationalContextImplTest {
+
+    @Test
+    public void testNoDependentInstances() {
+        CreationalContextImpl<String> creationalContext = new CreationalContextImpl<>(new Bean("root"));
+        assertFalse(creationalContext.hasDependentInstances());
+        assertTrue(creationalContext.getDependentInstances().isEmpty());
+        assertFalse(creationalContext.destroyDependentInstance("foo"));
+        creationalContext.release();
+    }
+
+    @Test
+    public void testDependentInstanceAddedToParent() {
+        Bean dependent = new Bean("dependent");
+        CreationalContextImpl<String> parent = new CreationalContextImpl<>(new Bean("root"));
+        CreationalContextImpl<String> child = parent.getCreationalContext(dependent);
+        child.addDependentInstance(new Instance(dependent, "foo", child));
+        assertFalse(child.hasDependentInstances());
+        assertTrue(parent.hasDependentInstances());
+        assertEquals(1, parent.getDependentInstances().size());
+        parent.release();
+        assertEquals(1, dependent.destroyed.size());
+        assertSame("foo", dependent.destroyed.get(0));
+    }
+
+    @Test
+    public void testDestroyDependentInstance() {
+        Bean dependent = new Bean("dependent");
+        CreationalContextImpl<String> parent = new CreationalContextImpl<>(new Bean("root"));
+        CreationalContextImpl<String> child = parent.getCreationalContext(dependent);
+        child.addDependentInstance(new Instance(dependent, "foo", child));
+        assertTrue(parent.destroyDependentInstance("foo"));
+        assertFalse(parent.hasDependentInstances());
+        assertEquals(1, dependent.destroyed.size());
+    }
+
+    private static class Bean implements Contextual<String> {
+
+        private final String name;
+
+        private final List<String> destroyed = new ArrayList<>();
+
+        Bean(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return name;
+        }
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+            destroyed.add(instance);
+        }
+
+    }
+
+    private static class Instance implements ContextualInstance<String> {
+
+        private final Bean bean;
+
+        private final String instance;
+
+        private final CreationalContext<String> creationalContext;
+
+        Instance(Bean bean, String instance, CreationalContext<String> creationalContext) {
+            this.bean = bean;
+            this.instance = instance;
+            this.creationalContext = creationalContext;
+        }
+
+        @Override
+        public String getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<String> getCreationalContext() {
+            return creationalContext;
+        }
+
+        @Override
+        public Contextual<String> getContextual() {
+            return bean;
+        }
+
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+public class ConcurrentHashMapBeanStoreTest {
+
+    private static final int THREADS = 8;
+
+    private static final BeanIdentifier ALPHA = new StringBeanIdentifier("alpha");
+
+    private static final BeanIdentifier BRAVO = new StringBeanIdentifier("bravo");
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        ConcurrentHashMapBeanStore beanStore = new ConcurrentHashMapBeanStore();
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<ContextualInstance<String>>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return beanStore.getOrCreate(ALPHA, 0, () -> {
+                        created.incrementAndGet();
+                        return new Instance("alpha");
+                    });
+                }));
+            }
+            start.countDown();
+            ContextualInstance<String> first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<ContextualInstance<String>> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, created.get());
+            assertSame(first, beanStore.get(ALPHA, 0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUnrelatedCreationNotBlocked() throws Exception {
+        ConcurrentHashMapBeanStore beanStore = new ConcurrentHashMapBeanStore();
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ContextualInstance<String>> alpha = executor.submit(() -> beanStore.getOrCreate(ALPHA, 0, () -> {
+                creating.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new Instance("alpha");
+            }));
+            creating.await();
+            // alpha is still being created
+            assertEquals("bravo", beanStore.getOrCreate(BRAVO, 1, () -> new Instance("bravo")).getInstance());
+            release.countDown();
+            assertEquals("alpha", alpha.get(10, TimeUnit.SECONDS).getInstance());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReentrantCreation() {
+        ConcurrentHashMapBeanStore beanStore = new ConcurrentHashMapBeanStore();
+        ContextualInstance<String> instance = beanStore.getOrCreate(ALPHA, 0, () -> {
+            beanStore.getOrCreate(ALPHA, 0, () -> new Instance("inner"));
+            return new Instance("outer");
+        });
+        assertEquals("outer", instance.getInstance());
+        assertSame(instance, beanStore.get(ALPHA));
+    }
+
+    @Test
+    public void testFailedCreation() throws Exception {
+        ConcurrentHashMapBeanStore beanStore = new ConcurrentHashMapBeanStore();
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> failing = executor.submit(() -> beanStore.getOrCreate(ALPHA, 0, () -> {
+                creating.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException();
+            }));
+            creating.await();
+            Future<ContextualInstance<String>> waiting = executor.submit(() -> beanStore.getOrCreate(ALPHA, 0, () -> new Instance("alpha")));
+            release.countDown();
+            try {
+                failing.get(10, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException expected) {
+            }
+            // the waiting thread creates the instance itself
+            assertNotNull(waiting.get(10, TimeUnit.SECONDS));
+            assertEquals("alpha", beanStore.<String> get(ALPHA).getInstance());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class Instance implements ContextualInstance<String> {
+
+        private final String instance;
+
+        Instance(String instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public String getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<String> getCreationalContext() {
+            return null;
+        }
+
+        @Override
+        public Contextual<String> getContextual() {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class IndexedBeanStoreTest {
+
+    private static final BeanIdentifier ALPHA = new StringBeanIdentifier("alpha");
+
+    private static final BeanIdentifier BRAVO = new StringBeanIdentifier("bravo");
+
+    @Parameters
+    public static Collection<Object[]> beanStores() {
+        return Arrays.asList(new Object[] { new HashMapBeanStore() }, new Object[] { new ConcurrentHashMapBeanStore() });
+    }
+
+    private final AbstractMapBackedBeanStore beanStore;
+
+    public IndexedBeanStoreTest(AbstractMapBackedBeanStore beanStore) {
+        this.beanStore = beanStore;
+        beanStore.clear();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        ContextualInstance<String> alpha = new Instance("alpha");
+        ContextualInstance<String> bravo = new Instance("bravo");
+        beanStore.put(ALPHA, 0, alpha);
+        // forces the array to grow
+        beanStore.put(BRAVO, 10, bravo);
+        assertSame(alpha, beanStore.get(ALPHA, 0));
+        assertSame(alpha, beanStore.get(ALPHA));
+        assertSame(bravo, beanStore.get(BRAVO, 10));
+        assertSame(bravo, beanStore.get(BRAVO, BeanStoreIndex.NO_INDEX));
+        assertTrue(beanStore.contains(BRAVO));
+    }
+
+    @Test
+    public void testPutWithoutIndexEvictsIndexedInstance() {
+        ContextualInstance<String> alpha = new Instance("alpha");
+        ContextualInstance<String> replacement = new Instance("replacement");
+        beanStore.put(ALPHA, 1, alpha);
+        beanStore.put(ALPHA, replacement);
+        assertSame(replacement, beanStore.get(ALPHA, 1));
+    }
+
+    @Test
+    public void testRemove() {
+        ContextualInstance<String> alpha = new Instance("alpha");
+        ContextualInstance<String> bravo = new Instance("bravo");
+        beanStore.put(ALPHA, 0, alpha);
+        beanStore.put(BRAVO, 1, bravo);
+        assertSame(alpha, beanStore.remove(ALPHA, 0));
+        assertNull(beanStore.get(ALPHA, 0));
+        // the index is not known
+        assertSame(bravo, beanStore.remove(BRAVO));
+        assertNull(beanStore.get(BRAVO, 1));
+        assertFalse(beanStore.contains(BRAVO));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        beanStore.put(ALPHA, 0, new Instance("alpha"));
+        for (Iterator<BeanIdentifier> iterator = beanStore.iterator(); iterator.hasNext();) {
+            iterator.next();
+            iterator.remove();
+        }
+        assertNull(beanStore.get(ALPHA, 0));
+    }
+
+    @Test
+    public void testClear() {
+        beanStore.put(ALPHA, 0, new Instance("alpha"));
+        beanStore.clear();
+        assertNull(beanStore.get(ALPHA, 0));
+        assertFalse(beanStore.iterator().hasNext());
+    }
+
+    @Test
+    public void testConcurrentWrites() throws Exception {
+        assumeTrue(beanStore instanceof ConcurrentHashMapBeanStore);
+        final int threads = 4;
+        final int beans = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    // every thread grows the array and removes every other instance
+                    for (int i = offset; i < beans; i += threads) {
+                        BeanIdentifier id = new StringBeanIdentifier("bean" + i);
+                        beanStore.put(id, i, new Instance("bean" + i));
+                        if (i % 2 == 0) {
+                            beanStore.remove(id, i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < beans; i++) {
+            BeanIdentifier id = new StringBeanIdentifier("bean" + i);
+            ContextualInstance<String> instance = beanStore.get(id, i);
+            if (i % 2 == 0) {
+                assertNull(instance);
+            } else {
+                assertSame(beanStore.get(id), instance);
+                assertEquals("bean" + i, instance.getInstance());
+            }
+        }
+    }
+
+    private static class Instance implements ContextualInstance<String> {
+
+        private final String instance;
+
+        Instance(String instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public String getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<String> getCreationalContext() {
+            return null;
+        }
+
+        @Override
+        public Contextual<String> getContextual() {
+            return null;
+        }
+
+    }
+
+}
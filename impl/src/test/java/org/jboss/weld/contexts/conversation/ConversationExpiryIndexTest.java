@@ -0,0 +1,182 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.conversation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.weld.context.ManagedConversation;
+import org.junit.Test;
+
+public class ConversationExpiryIndexTest {
+
+    private static final long TIMEOUT = 100;
+
+    @Test
+    public void testExpiry() {
+        Map<String, ManagedConversation> conversations = new HashMap<>();
+        conversations.put("a", new Conversation(0, TIMEOUT));
+        conversations.put("b", new Conversation(0, TIMEOUT * 2));
+        ConversationExpiryIndex index = new ConversationExpiryIndex();
+        index.ensureIndexed(conversations);
+        assertTrue(index.pollExpired(TIMEOUT).isEmpty());
+        assertEquals(Collections.singletonList("a"), index.pollExpired(TIMEOUT + 1));
+        // polled expired conversations are not returned again
+        assertTrue(index.pollExpired(TIMEOUT + 1).isEmpty());
+        assertEquals(Collections.singletonList("b"), index.pollExpired(TIMEOUT * 2 + 1));
+    }
+
+    @Test
+    public void testTouchedConversationRescheduled() {
+        Map<String, ManagedConversation> conversations = new HashMap<>();
+        Conversation conversation = new Conversation(0, TIMEOUT);
+        conversations.put("a", conversation);
+        ConversationExpiryIndex index = new ConversationExpiryIndex();
+        index.ensureIndexed(conversations);
+        conversation.lastUsed = TIMEOUT;
+        index.schedule("a", conversation);
+        assertTrue(index.pollExpired(TIMEOUT + 1).isEmpty());
+        assertEquals(Collections.singletonList("a"), index.pollExpired(TIMEOUT * 2 + 1));
+    }
+
+    @Test
+    public void testShortenedTimeout() {
+        Map<String, ManagedConversation> conversations = new HashMap<>();
+        Conversation conversation = new Conversation(0, TIMEOUT * 2);
+        conversations.put("a", conversation);
+        ConversationExpiryIndex index = new ConversationExpiryIndex();
+        index.ensureIndexed(conversations);
+        conversation.timeout = TIMEOUT;
+        index.schedule("a", conversation);
+        assertEquals(Collections.singletonList("a"), index.pollExpired(TIMEOUT + 1));
+        assertTrue(index.pollExpired(TIMEOUT * 2 + 1).isEmpty());
+    }
+
+    @Test
+    public void testEnded() {
+        Map<String, ManagedConversation> conversations = new HashMap<>();
+        Conversation ended = new Conversation(0, TIMEOUT);
+        ended.ended = true;
+        conversations.put("a", ended);
+        conversations.put("b", new Conversation(0, TIMEOUT));
+        ConversationExpiryIndex index = new ConversationExpiryIndex();
+        index.ensureIndexed(conversations);
+        index.ended("c");
+        assertEquals(2, index.drainEnded().size());
+        assertTrue(index.drainEnded().isEmpty());
+        // ended conversations never expire
+        assertEquals(Collections.singletonList("b"), index.pollExpired(TIMEOUT + 1));
+    }
+
+    @Test
+    public void testEndedWithoutBeingRecorded() {
+        Map<String, ManagedConversation> conversations = new HashMap<>();
+        Conversation conversation = new Conversation(0, TIMEOUT);
+        conversations.put("a", conversation);
+        ConversationExpiryIndex index = new ConversationExpiryIndex();
+        index.ensureIndexed(conversations);
+        // e.g. ended before the conversation was indexed
+        conversation.end();
+        assertTrue(index.drainEnded().isEmpty());
+        // picked up once the deadline is reached, not reported as expired
+        assertTrue(index.pollExpired(TIMEOUT + 1).isEmpty());
+        assertEquals(Collections.singleton("a"), index.drainEnded());
+    }
+
+    @Test
+    public void testRebuiltForDifferentMap() {
+        Map<String, ManagedConversation> conversations = new HashMap<>();
+        ConversationExpiryIndex index = new ConversationExpiryIndex();
+        index.ensureIndexed(conversations);
+        Map<String, ManagedConversation> replicated = new HashMap<>();
+        replicated.put("a", new Conversation(0, TIMEOUT));
+        index.ensureIndexed(replicated);
+        assertEquals(Collections.singletonList("a"), index.pollExpired(TIMEOUT + 1));
+    }
+
+    private static class Conversation implements ManagedConversation {
+
+        private long lastUsed;
+
+        private long timeout;
+
+        private boolean ended;
+
+        Conversation(long lastUsed, long timeout) {
+            this.lastUsed = lastUsed;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void begin(String id) {
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+
+        @Override
+        public String getId() {
+            return null;
+        }
+
+        @Override
+        public long getTimeout() {
+            return timeout;
+        }
+
+        @Override
+        public void setTimeout(long milliseconds) {
+            this.timeout = milliseconds;
+        }
+
+        @Override
+        public boolean isTransient() {
+            return ended;
+        }
+
+        @Override
+        public boolean unlock() {
+            return true;
+        }
+
+        @Override
+        public boolean lock(long timeout) {
+            return true;
+        }
+
+        @Override
+        public long getLastUsed() {
+            return lastUsed;
+        }
+
+        @Override
+        public void touch() {
+        }
+
+    }
+
+}
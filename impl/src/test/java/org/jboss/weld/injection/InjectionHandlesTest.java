@@ -0,0 +1,151 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+public class InjectionHandlesTest {
+
+    @Test
+    public void testSetter() throws Throwable {
+        Foo foo = new Foo();
+        setter("name").invokeExact((Object) foo, (Object) "bravo");
+        assertEquals("bravo", foo.name);
+        setter("count").invokeExact((Object) foo, (Object) 10);
+        assertEquals(10, foo.count);
+        setter("shared").invokeExact((Object) null, (Object) "charlie");
+        assertEquals("charlie", Foo.shared);
+    }
+
+    @Test
+    public void testInvoker() throws Throwable {
+        Foo foo = new Foo();
+        assertEquals("alpha:1", (Object) invoker("describe", String.class, int.class).invokeExact((Object) foo, (Object) "alpha", (Object) 1));
+        assertNull((Object) invoker("reset").invokeExact((Object) foo));
+        assertEquals(0, foo.count);
+        assertEquals("a,b", (Object) invoker("join", String[].class).invokeExact((Object) null, (Object) new String[] { "a", "b" }));
+        // more than MAX_DIRECT_PARAMETERS - the parameters are passed in an array
+        assertEquals("x-y-z", (Object) invoker("concat", String.class, String.class, String.class).invokeExact((Object) foo, new Object[] { "x", "y", "z" }));
+    }
+
+    @Test
+    public void testInvokerVirtualDispatch() throws Throwable {
+        assertEquals("bar", (Object) invoker("name").invokeExact((Object) new Bar()));
+    }
+
+    @Test
+    public void testInvokerThrowsOriginalException() throws Throwable {
+        IOException expected = new IOException();
+        try {
+            Object result = invoker("fail", IOException.class).invokeExact((Object) new Foo(), (Object) expected);
+            fail("Expected exception not thrown: " + result);
+        } catch (IOException e) {
+            assertSame(expected, e);
+        }
+    }
+
+    @Test
+    public void testConstructor() throws Throwable {
+        Constructor<Foo> constructor = Foo.class.getDeclaredConstructor(String.class, int.class);
+        SecurityActions.ensureAccessible(constructor);
+        Object foo = InjectionHandles.constructor(constructor).invokeExact(new Object[] { "delta", 5 });
+        assertEquals("delta", ((Foo) foo).name);
+        assertEquals(5, ((Foo) foo).count);
+        try {
+            Object baz = InjectionHandles.constructor(Baz.class.getDeclaredConstructor()).invokeExact(new Object[] {});
+            fail("Abstract class instantiated: " + baz);
+        } catch (InstantiationException expected) {
+        }
+    }
+
+    private static MethodHandle setter(String name) throws NoSuchFieldException {
+        Field field = Foo.class.getDeclaredField(name);
+        SecurityActions.ensureAccessible(field);
+        return InjectionHandles.setter(field);
+    }
+
+    private static MethodHandle invoker(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return InjectionHandles.invoker(SecurityActions.getAccessibleCopyOfMethod(Foo.class.getDeclaredMethod(name, parameterTypes)));
+    }
+
+    static class Foo {
+
+        private static String shared;
+
+        private String name;
+
+        private int count = 1;
+
+        Foo() {
+        }
+
+        private Foo(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        private String describe(String prefix, int number) {
+            return prefix + ":" + number;
+        }
+
+        String concat(String first, String second, String third) {
+            return first + "-" + second + "-" + third;
+        }
+
+        void reset() {
+            count = 0;
+        }
+
+        String name() {
+            return "foo";
+        }
+
+        void fail(IOException exception) throws IOException {
+            throw exception;
+        }
+
+        private static String join(String... values) {
+            return String.join(",", values);
+        }
+
+    }
+
+    abstract static class Baz {
+
+    }
+
+    static class Bar extends Foo {
+
+        @Override
+        String name() {
+            return "bar";
+        }
+
+    }
+
+}
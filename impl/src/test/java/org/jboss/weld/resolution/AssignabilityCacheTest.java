@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.util.reflection.ParameterizedTypeImpl;
+import org.jboss.weld.util.reflection.WildcardTypeImpl;
+import org.junit.Test;
+
+public class AssignabilityCacheTest {
+
+    @Test
+    public void testGenericPairsMemoized() {
+        AssignabilityCache cache = new AssignabilityCache(16);
+        AssignabilityRules rules = cache.wrap(BeanTypeAssignabilityRules.instance());
+        Type required = new TypeLiteral<List<? extends Number>>() {
+        }.getType();
+        Type beanType = new TypeLiteral<List<Integer>>() {
+        }.getType();
+        assertTrue(rules.matches(required, beanType));
+        assertEquals(1, cache.size());
+        assertTrue(rules.matches(required, beanType));
+        assertEquals(1, cache.size());
+        assertFalse(rules.matches(beanType, new TypeLiteral<List<Long>>() {
+        }.getType()));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testRawTypesNotMemoized() {
+        AssignabilityCache cache = new AssignabilityCache(16);
+        AssignabilityRules rules = cache.wrap(BeanTypeAssignabilityRules.instance());
+        assertTrue(rules.matches(Integer.class, int.class));
+        assertFalse(rules.matches(Integer.class, Long.class));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testResultsKeyedByRules() {
+        AssignabilityCache cache = new AssignabilityCache(16);
+        Type observed = new TypeLiteral<Map<String, ?>>() {
+        }.getType();
+        Type event = new TypeLiteral<Map<String, Integer>>() {
+        }.getType();
+        assertTrue(cache.wrap(EventTypeAssignabilityRules.instance()).matches(observed, event));
+        assertEquals(EventTypeAssignabilityRules.instance().matches(event, observed), cache.wrap(EventTypeAssignabilityRules.instance()).matches(event, observed));
+        assertTrue(cache.wrap(BeanTypeAssignabilityRules.instance()).matches(observed, event));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testWeldAndJdkTypesInterchangeable() {
+        AssignabilityCache cache = new AssignabilityCache(16);
+        AssignabilityRules rules = cache.wrap(BeanTypeAssignabilityRules.instance());
+        Type required = new TypeLiteral<List<? extends Number>>() {
+        }.getType();
+        Type beanType = new TypeLiteral<ArrayList<Integer>>() {
+        }.getType();
+        assertTrue(rules.matches(required, new TypeLiteral<List<Integer>>() {
+        }.getType()));
+        assertTrue(rules.matches(new ParameterizedTypeImpl(List.class, WildcardTypeImpl.withUpperBound(Number.class)), new ParameterizedTypeImpl(List.class,
+                Integer.class)));
+        assertEquals(1, cache.size());
+        assertFalse(rules.matches(required, beanType));
+        assertFalse(rules.matches(new ParameterizedTypeImpl(List.class, WildcardTypeImpl.withUpperBound(Number.class)), new ParameterizedTypeImpl(
+                ArrayList.class, Integer.class)));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        AssignabilityCache cache = new AssignabilityCache(2);
+        AssignabilityRules rules = cache.wrap(BeanTypeAssignabilityRules.instance());
+        Type[] types = { new ParameterizedTypeImpl(List.class, Integer.class), new ParameterizedTypeImpl(List.class, Long.class),
+                new ParameterizedTypeImpl(List.class, String.class) };
+        for (Type required : types) {
+            for (Type beanType : types) {
+                assertEquals(required.equals(beanType), rules.matches(required, beanType));
+                assertTrue(cache.size() <= 2);
+            }
+        }
+        cache.cleanup();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabled() {
+        AssignabilityCache cache = new AssignabilityCache(0);
+        AssignabilityRules rules = BeanTypeAssignabilityRules.instance();
+        assertSame(rules, cache.wrap(rules));
+    }
+
+}
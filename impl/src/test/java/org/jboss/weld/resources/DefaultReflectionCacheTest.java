@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resources;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import org.jboss.weld.metadata.TypeStore;
+import org.junit.Test;
+
+public class DefaultReflectionCacheTest {
+
+    @Test
+    public void testScopes() {
+        ReflectionCache cache = ReflectionCacheFactory.newInstance(new TypeStore());
+        assertTrue(cache.getAnnotationClass(RequestScoped.class).isScope());
+        assertTrue(cache.getAnnotationClass(Singleton.class).isScope());
+        assertTrue(cache.getAnnotationClass(Dependent.class).isScope());
+        assertFalse(cache.getAnnotationClass(Named.class).isScope());
+        assertFalse(cache.getAnnotationClass(Documented.class).isScope());
+    }
+
+    @Test
+    public void testConcurrentMetaAnnotationLookups() throws Exception {
+        final List<Class<? extends Annotation>> annotationTypes = new ArrayList<>();
+        annotationTypes.add(RequestScoped.class);
+        annotationTypes.add(ApplicationScoped.class);
+        annotationTypes.add(Singleton.class);
+        annotationTypes.add(Named.class);
+        annotationTypes.add(Retention.class);
+        annotationTypes.add(Documented.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 10; i++) {
+                final ReflectionCache cache = ReflectionCacheFactory.newInstance(new TypeStore());
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int j = 0; j < 8; j++) {
+                    results.add(executor.submit(new Callable<Integer>() {
+                        @Override
+                        public Integer call() {
+                            int scopes = 0;
+                            for (Class<? extends Annotation> annotationType : annotationTypes) {
+                                cache.getAnnotationClass(annotationType).getMetaAnnotations();
+                                if (cache.getAnnotationClass(annotationType).isScope()) {
+                                    scopes++;
+                                }
+                            }
+                            return scopes;
+                        }
+                    }));
+                }
+                for (Future<Integer> result : results) {
+                    assertEquals(Integer.valueOf(3), result.get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRetentionMetaAnnotation() {
+        ReflectionCache cache = ReflectionCacheFactory.newInstance(new TypeStore());
+        boolean found = false;
+        for (Annotation metaAnnotation : cache.getAnnotationClass(RequestScoped.class).getMetaAnnotations()) {
+            if (metaAnnotation instanceof Retention) {
+                assertEquals(RetentionPolicy.RUNTIME, ((Retention) metaAnnotation).value());
+                found = true;
+            }
+        }
+        assertTrue(found);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.Default;
+
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.metadata.cache.ScopeModel;
+import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetaAnnotationStoreTest {
+
+    private MetaAnnotationStore store;
+
+    @Before
+    public void init() {
+        TypeStore typeStore = new TypeStore();
+        ClassTransformer transformer = new ClassTransformer(typeStore, new SharedObjectCache(), ReflectionCacheFactory.newInstance(typeStore),
+                RegistrySingletonProvider.STATIC_INSTANCE);
+        store = new MetaAnnotationStore(transformer);
+    }
+
+    @Test
+    public void testClearAnnotationData() {
+        ScopeModel<RequestScoped> scopeModel = store.getScopeModel(RequestScoped.class);
+        QualifierInstance qualifier = store.getQualifierInstance(Default.Literal.INSTANCE);
+        assertSame(scopeModel, store.getScopeModel(RequestScoped.class));
+
+        store.clearAnnotationData();
+
+        // the data are recomputed lazily
+        ScopeModel<RequestScoped> recomputedScopeModel = store.getScopeModel(RequestScoped.class);
+        assertNotSame(scopeModel, recomputedScopeModel);
+        assertTrue(recomputedScopeModel.isValid());
+        assertTrue(recomputedScopeModel.isNormal());
+        assertEquals(qualifier, store.getQualifierInstance(Default.Literal.INSTANCE));
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.jboss.weld.util.Types;
+import org.junit.Test;
+
+public class TypesTest {
+
+    @Test
+    public void testContainsTypeVariable() throws NoSuchFieldException {
+        assertTrue(Types.containsTypeVariable(getFieldType("variable")));
+        assertTrue(Types.containsTypeVariable(getFieldType("argument")));
+        assertTrue(Types.containsTypeVariable(getFieldType("array")));
+        assertTrue(Types.containsTypeVariable(List.class));
+        assertFalse(Types.containsTypeVariable(getFieldType("actual")));
+        assertFalse(Types.containsTypeVariable(String.class));
+    }
+
+    @Test
+    public void testContainsTypeVariableInWildcardBounds() throws NoSuchFieldException {
+        assertTrue(Types.containsTypeVariable(getFieldType("upperBound")));
+        assertTrue(Types.containsTypeVariable(getFieldType("lowerBound")));
+        assertTrue(Types.containsTypeVariable(getFieldType("nestedBound")));
+        assertFalse(Types.containsTypeVariable(getFieldType("actualBound")));
+        assertFalse(Types.containsTypeVariable(getFieldType("unbounded")));
+    }
+
+    private static Type getFieldType(String name) throws NoSuchFieldException {
+        return Holder.class.getDeclaredField(name).getGenericType();
+    }
+
+    @SuppressWarnings("unused")
+    private static class Holder<T> {
+
+        T variable;
+
+        List<T> argument;
+
+        List<T>[] array;
+
+        List<String> actual;
+
+        List<? extends T> upperBound;
+
+        List<? super T> lowerBound;
+
+        Collection<? extends Callable<T>> nestedBound;
+
+        Collection<? extends Callable<String>> actualBound;
+
+        List<?> unbounded;
+
+    }
+
+}
@@ -64,4 +64,16 @@ public class ReentrantComputingCacheTest {
         Assert.assertTrue(values.contains("bar"));
         Assert.assertTrue(values.contains("baz"));
     }
+
+    @Test
+    public void testInvalidateIf() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().build(x -> x);
+        cache.getValue("foo");
+        cache.getValue("bar");
+        cache.getValue("baz");
+        cache.invalidateIf(key -> key.startsWith("b"));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals("foo", cache.getValueIfPresent("foo"));
+        Assert.assertNull(cache.getValueIfPresent("bar"));
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.collections;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the compact {@link Set} implementation returned by {@link ImmutableSet#compactCopyOf(java.util.Collection)}.
+ */
+public class ImmutableArraySetTest extends AbstractImmutableSetTest {
+
+    private static final String[] DATA = new String[] { "alpha", "bravo", "charlie", "delta", "echo" };
+
+    @Override
+    protected String[] getData() {
+        return DATA;
+    }
+
+    @Override
+    protected Set<String> getCollection() {
+        return ImmutableSet.compactCopyOf(getDefaultCollection());
+    }
+
+    @Test
+    public void testCompactCopyOfReusesInstance() {
+        Set<String> set = getCollection();
+        Assert.assertSame(set, ImmutableSet.compactCopyOf(set));
+    }
+
+    @Test
+    public void testEqualsHashSet() {
+        Set<String> hashSet = ImmutableSet.of(getData());
+        Set<String> arraySet = getCollection();
+        Assert.assertEquals(hashSet, arraySet);
+        Assert.assertEquals(arraySet, hashSet);
+        Assert.assertEquals(hashSet.hashCode(), arraySet.hashCode());
+        Assert.assertNotEquals(arraySet, ImmutableSet.of(Arrays.copyOf(getData(), 4)));
+    }
+
+    @Test
+    public void testLargeSetNotCompacted() {
+        String[] data = new String[20];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = "item" + i;
+        }
+        Set<String> set = ImmutableSet.compactCopyOf(Arrays.asList(data));
+        Assert.assertEquals(data.length, set.size());
+        for (String item : data) {
+            Assert.assertTrue(set.contains(item));
+        }
+    }
+}
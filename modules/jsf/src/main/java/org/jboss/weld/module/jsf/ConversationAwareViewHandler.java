@@ -18,6 +18,7 @@ package org.jboss.weld.module.jsf;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import jakarta.faces.application.ViewHandler;
 import jakarta.faces.application.ViewHandlerWrapper;
@@ -26,6 +27,7 @@ import jakarta.faces.context.FacesContext;
 import org.jboss.weld.Container;
 import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
 import org.jboss.weld.context.ConversationContext;
+import org.jboss.weld.context.ManagedConversation;
 import org.jboss.weld.context.http.HttpConversationContext;
 
 /**
@@ -60,6 +62,8 @@ public class ConversationAwareViewHandler extends ViewHandlerWrapper {
 
     }
 
+    private static final String ENCODED_ACTION_URL_KEY = ConversationAwareViewHandler.class.getName() + ".encodedActionUrl";
+
     private final ViewHandler delegate;
     private volatile ConversationContext conversationContext;
     private static final ThreadLocal<Source> source = new ThreadLocal<Source>();
@@ -111,21 +115,32 @@ public class ConversationAwareViewHandler extends ViewHandlerWrapper {
         }
         String actionUrl = super.getActionURL(facesContext, viewId);
         final ConversationContext ctx = getConversationContext(contextId);
-        if (ctx!= null && ctx.isActive() && !getSource().equals(Source.BOOKMARKABLE) && !ctx.getCurrentConversation().isTransient()) {
-            return new FacesUrlTransformer(actionUrl, facesContext)
-                .appendConversationIdIfNecessary(getConversationContext(contextId).getParameterName(), ctx.getCurrentConversation().getId())
-                .getUrl();
-        } else {
-            return actionUrl;
+        if (ctx != null && ctx.isActive() && getSource() != Source.BOOKMARKABLE) {
+            ManagedConversation conversation = ctx.getCurrentConversation();
+            if (!conversation.isTransient()) {
+                return appendConversationId(facesContext.getAttributes(), actionUrl, ctx.getParameterName(), conversation.getId());
+            }
         }
+        return actionUrl;
     }
 
-    private Source getSource() {
-        if (source.get() == null) {
-            return Source.ACTION;
-        } else {
-            return source.get();
+    /*
+     * A view usually encodes the same action URL for each of its forms, so the last transformed URL is remembered in the attributes of the current
+     * request.
+     */
+    static String appendConversationId(Map<Object, Object> attributes, String actionUrl, String parameterName, String cid) {
+        EncodedActionUrl last = (EncodedActionUrl) attributes.get(ENCODED_ACTION_URL_KEY);
+        if (last != null && last.matches(actionUrl, parameterName, cid)) {
+            return last.encodedUrl;
         }
+        String encodedUrl = new FacesUrlTransformer(actionUrl, null).appendConversationIdIfNecessary(parameterName, cid).getUrl();
+        attributes.put(ENCODED_ACTION_URL_KEY, new EncodedActionUrl(actionUrl, parameterName, cid, encodedUrl));
+        return encodedUrl;
+    }
+
+    private Source getSource() {
+        Source current = source.get();
+        return current != null ? current : Source.ACTION;
     }
 
     @Override
@@ -163,4 +178,24 @@ public class ConversationAwareViewHandler extends ViewHandlerWrapper {
         return delegate;
     }
 
+    private static final class EncodedActionUrl {
+
+        private final String actionUrl;
+        private final String parameterName;
+        private final String cid;
+        private final String encodedUrl;
+
+        private EncodedActionUrl(String actionUrl, String parameterName, String cid, String encodedUrl) {
+            this.actionUrl = actionUrl;
+            this.parameterName = parameterName;
+            this.cid = cid;
+            this.encodedUrl = encodedUrl;
+        }
+
+        private boolean matches(String actionUrl, String parameterName, String cid) {
+            return this.actionUrl.equals(actionUrl) && this.parameterName.equals(parameterName) && Objects.equals(this.cid, cid);
+        }
+
+    }
+
 }
@@ -30,9 +30,11 @@ public class FacesUrlTransformer {
     private static final String HTTPS_PROTOCOL_URL_PREFIX = "https://";
     private static final String QUERY_STRING_DELIMITER = "?";
     private static final String PARAMETER_PAIR_DELIMITER = "&";
+    private static final char QUERY_STRING_DELIMITER_CHAR = '?';
+    private static final char PARAMETER_PAIR_DELIMITER_CHAR = '&';
     // in rare cases, semicolon will the delimiter; e.g. when you need to encode "&" as "&amp;"
-    private static final String PARAMETER_PAIR_DELIMITER_ENCODED = ";";
-    private static final String PARAMETER_ASSIGNMENT_OPERATOR = "=";
+    private static final char PARAMETER_PAIR_DELIMITER_ENCODED_CHAR = ';';
+    private static final char PARAMETER_ASSIGNMENT_OPERATOR_CHAR = '=';
 
     private String url;
     private final FacesContext context;
@@ -48,17 +50,18 @@ public class FacesUrlTransformer {
     }
 
     private static String appendParameterIfNeeded(String url, String parameterName, String parameterValue) {
-        int queryStringIndex = url.indexOf(QUERY_STRING_DELIMITER);
+        int queryStringIndex = url.indexOf(QUERY_STRING_DELIMITER_CHAR);
         // if there is no query string or there is a query string but the param is
         // absent, then append it
         if (queryStringIndex < 0 || isCidParamAbsent(url, parameterName, queryStringIndex)) {
-            StringBuilder builder = new StringBuilder(url);
+            int length = url.length() + parameterName.length() + 2 + (parameterValue != null ? parameterValue.length() : 0);
+            StringBuilder builder = new StringBuilder(length).append(url);
             if (queryStringIndex < 0) {
-                builder.append(QUERY_STRING_DELIMITER);
+                builder.append(QUERY_STRING_DELIMITER_CHAR);
             } else {
-                builder.append(PARAMETER_PAIR_DELIMITER);
+                builder.append(PARAMETER_PAIR_DELIMITER_CHAR);
             }
-            builder.append(parameterName).append(PARAMETER_ASSIGNMENT_OPERATOR);
+            builder.append(parameterName).append(PARAMETER_ASSIGNMENT_OPERATOR_CHAR);
             if (parameterValue != null) {
                 builder.append(parameterValue);
             }
@@ -68,10 +71,21 @@ public class FacesUrlTransformer {
         }
     }
 
+    /*
+     * Checks every parameter of the query string in a single pass, without creating any search string.
+     */
     private static boolean isCidParamAbsent(String url, String parameterName, int queryStringIndex) {
-        return url.indexOf(QUERY_STRING_DELIMITER + parameterName + PARAMETER_ASSIGNMENT_OPERATOR, queryStringIndex) < 0
-            && url.indexOf(PARAMETER_PAIR_DELIMITER + parameterName + PARAMETER_ASSIGNMENT_OPERATOR, queryStringIndex) < 0
-            && url.indexOf(PARAMETER_PAIR_DELIMITER_ENCODED + parameterName + PARAMETER_ASSIGNMENT_OPERATOR, queryStringIndex) < 0;
+        int nameLength = parameterName.length();
+        int last = url.length() - nameLength - 1;
+        for (int i = queryStringIndex; i < last; i++) {
+            char c = url.charAt(i);
+            if ((c == QUERY_STRING_DELIMITER_CHAR || c == PARAMETER_PAIR_DELIMITER_CHAR || c == PARAMETER_PAIR_DELIMITER_ENCODED_CHAR)
+                    && url.charAt(i + nameLength + 1) == PARAMETER_ASSIGNMENT_OPERATOR_CHAR
+                    && url.regionMatches(i + 1, parameterName, 0, nameLength)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public String getUrl() {
@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jsf;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ConversationAwareViewHandlerTest {
+
+    private static final String ACTION_URL = "/app/view.xhtml";
+
+    @Test
+    public void testEncodedActionUrlReused() {
+        Map<Object, Object> attributes = new HashMap<Object, Object>();
+        String encodedUrl = ConversationAwareViewHandler.appendConversationId(attributes, ACTION_URL, "cid", "1");
+        Assert.assertEquals(encodedUrl, ACTION_URL + "?cid=1");
+        // equal but not the same arguments
+        Assert.assertSame(ConversationAwareViewHandler.appendConversationId(attributes, new String(ACTION_URL), new String("cid"), new String("1")),
+            encodedUrl);
+        Assert.assertEquals(attributes.size(), 1);
+    }
+
+    @Test
+    public void testDifferentCid() {
+        Map<Object, Object> attributes = new HashMap<Object, Object>();
+        String encodedUrl = ConversationAwareViewHandler.appendConversationId(attributes, ACTION_URL, "cid", "1");
+        Assert.assertEquals(ConversationAwareViewHandler.appendConversationId(attributes, ACTION_URL, "cid", "2"), ACTION_URL + "?cid=2");
+        // only the last URL is remembered
+        String reencodedUrl = ConversationAwareViewHandler.appendConversationId(attributes, ACTION_URL, "cid", "1");
+        Assert.assertEquals(reencodedUrl, encodedUrl);
+        Assert.assertNotSame(reencodedUrl, encodedUrl);
+    }
+
+    @Test
+    public void testDifferentParameterName() {
+        Map<Object, Object> attributes = new HashMap<Object, Object>();
+        String encodedUrl = ConversationAwareViewHandler.appendConversationId(attributes, ACTION_URL, "cid", "1");
+        Assert.assertEquals(ConversationAwareViewHandler.appendConversationId(attributes, ACTION_URL, "conversationId", "1"),
+            ACTION_URL + "?conversationId=1");
+        String reencodedUrl = ConversationAwareViewHandler.appendConversationId(attributes, ACTION_URL, "cid", "1");
+        Assert.assertEquals(reencodedUrl, encodedUrl);
+        Assert.assertNotSame(reencodedUrl, encodedUrl);
+    }
+
+}
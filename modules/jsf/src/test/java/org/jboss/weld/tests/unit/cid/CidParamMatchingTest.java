@@ -50,6 +50,27 @@ public class CidParamMatchingTest {
             .appendConversationIdIfNecessary(cidParamName, cidValue).getUrl().contains(appendedString));
     }
 
+    @Test
+    public void testAppendedUrl() {
+        assertAppended("localhost:8080?cid=1", "localhost:8080");
+        assertAppended("localhost:8080?myparam=foo&cid=1", "localhost:8080?myparam=foo");
+        assertAppended("localhost:8080?cidx=5&cid=1", "localhost:8080?cidx=5");
+        assertAppended("localhost:8080?cid&cid=1", "localhost:8080?cid");
+        assertAppended("localhost:8080?myparam=cid=5&cid=1", "localhost:8080?myparam=cid=5");
+        assertAppended("localhost:8080?myparam=foo&cid=", "localhost:8080?myparam=foo&cid=");
+        assertAppended("localhost:8080?cid=2", "localhost:8080?cid=2");
+        assertAppended("localhost:8080?cid=", "localhost:8080", null);
+    }
+
+    private void assertAppended(String expected, String url) {
+        assertAppended(expected, url, "1");
+    }
+
+    private void assertAppended(String expected, String url, String cid) {
+        // TestNG expects the actual value first
+        Assert.assertEquals(createTransformer(url).appendConversationIdIfNecessary("cid", cid).getUrl(), expected, url);
+    }
+
     private FacesUrlTransformer createTransformer(String url) {
         return new FacesUrlTransformer(url, null);
     }
@@ -87,6 +87,18 @@ class DeferredEventNotification<T> implements Runnable {
         }
     }
 
+    T getEvent() {
+        return event;
+    }
+
+    EventMetadata getMetadata() {
+        return metadata;
+    }
+
+    ObserverMethod<? super T> getObserver() {
+        return observer;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -16,25 +16,111 @@
  */
 package org.jboss.weld.module.jta;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.transaction.spi.TransactionServices;
 
 /**
  * A JTA transaction synchronization which wraps all defferred transactional event notifications.
  *
+ * <p>
+ * If a {@link TransactionSynchronizationRegistry} is available, a single synchronization is registered per transaction and the notifications of all the
+ * events fired within the transaction are accumulated in it, see {@link #register(List, TransactionServices, TransactionSynchronizationRegistry, Object, boolean)}. Each container uses its own transaction resource key, see
+ * {@link #resourceKey(String)}, so that the events of different containers are never merged.
+ * </p>
+ *
  * @author David Allen
  */
 class TransactionNotificationSynchronization implements Synchronization {
 
+    private static final String RESOURCE_KEY_PREFIX = TransactionNotificationSynchronization.class.getName() + ".";
+
     private final List<DeferredEventNotification<?>> notifications;
 
+    // null if duplicate notifications are not coalesced
+    private final Set<List<Object>> notificationKeys;
+
+    // true if no more notifications can be added; guarded by this
+    private boolean closed;
+
     /**
      *
      * @param notifications The ordered list of notifications
      */
     public TransactionNotificationSynchronization(List<DeferredEventNotification<?>> notifications) {
         this.notifications = notifications;
+        this.notificationKeys = null;
+    }
+
+    /**
+     * Creates an empty synchronization, notifications are added later on.
+     *
+     * @param coalesce if set to true, a notification of an observer is not added if there is already a notification of the same observer for an equal
+     *        event with the same qualifiers
+     */
+    TransactionNotificationSynchronization(boolean coalesce) {
+        this.notifications = new ArrayList<>();
+        this.notificationKeys = coalesce ? new HashSet<>() : null;
+    }
+
+    /**
+     * Adds the given notifications to the synchronization of the current transaction. A new synchronization is registered if there is no such
+     * synchronization yet or if it does not accept any more notifications, e.g. because the before completion notifications were already delivered. If
+     * the registry is not available, a new synchronization is registered for the given notifications.
+     *
+     * @param notifications
+     * @param transactionServices
+     * @param registry may be null
+     * @param resourceKey the key of the transaction resource holding the synchronization of the current transaction
+     * @param coalesce
+     */
+    static void register(List<DeferredEventNotification<?>> notifications, TransactionServices transactionServices, TransactionSynchronizationRegistry registry,
+            Object resourceKey, boolean coalesce) {
+        if (registry == null) {
+            transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
+            return;
+        }
+        Object resource = registry.getResource(resourceKey);
+        if (resource instanceof TransactionNotificationSynchronization && ((TransactionNotificationSynchronization) resource).addAll(notifications)) {
+            return;
+        }
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(coalesce);
+        synchronization.addAll(notifications);
+        transactionServices.registerSynchronization(synchronization);
+        registry.putResource(resourceKey, synchronization);
+    }
+
+    /**
+     *
+     * @param contextId
+     * @return the key of the transaction resource holding the synchronization of the given container
+     */
+    static Object resourceKey(String contextId) {
+        return RESOURCE_KEY_PREFIX + contextId;
+    }
+
+    /**
+     *
+     * @param notifications
+     * @return <code>false</code> if the synchronization does not accept any more notifications, <code>true</code> otherwise
+     */
+    synchronized boolean addAll(List<DeferredEventNotification<?>> notifications) {
+        if (closed) {
+            return false;
+        }
+        for (DeferredEventNotification<?> notification : notifications) {
+            if (notificationKeys == null || notificationKeys.add(getKey(notification))) {
+                this.notifications.add(notification);
+            }
+        }
+        return true;
     }
 
     /*
@@ -43,7 +129,7 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see jakarta.transaction.Synchronization#afterCompletion(int)
      */
     public void afterCompletion(int status) {
-        for (DeferredEventNotification<?> notification : notifications) {
+        for (DeferredEventNotification<?> notification : close()) {
             if (!notification.isBefore() && notification.getStatus().matches(status)) {
                 notification.run();
             }
@@ -56,10 +142,30 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see jakarta.transaction.Synchronization#beforeCompletion()
      */
     public void beforeCompletion() {
-        for (DeferredEventNotification<?> notification : notifications) {
+        // an observer may fire another event within the same transaction, i.e. the list may grow
+        for (int i = 0;; i++) {
+            DeferredEventNotification<?> notification;
+            synchronized (this) {
+                if (i >= notifications.size()) {
+                    // later notifications would not be delivered before completion
+                    closed = true;
+                    return;
+                }
+                notification = notifications.get(i);
+            }
             if (notification.isBefore()) {
                 notification.run();
             }
         }
     }
+
+    private synchronized List<DeferredEventNotification<?>> close() {
+        closed = true;
+        return new ArrayList<>(notifications);
+    }
+
+    private static List<Object> getKey(DeferredEventNotification<?> notification) {
+        return Arrays.asList(notification.getObserver(), notification.getEvent(),
+                notification.getMetadata() != null ? notification.getMetadata().getQualifiers() : null);
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.EventLogger;
+import org.jboss.weld.transaction.spi.TransactionServices;
+import org.jboss.weld.util.LazyValueHolder;
+
+/**
+ * Provides the {@link TransactionSynchronizationRegistry} shared by all the bean managers of a container. The registry is resolved on first use, as
+ * JNDI may not be available during bootstrap, and the result is kept for the lifetime of the container - including the fact that the registry is not
+ * available.
+ */
+class TransactionSynchronizationRegistryHolder implements Service {
+
+    static final String TRANSACTION_SYNCHRONIZATION_REGISTRY_NAME = "java:comp/TransactionSynchronizationRegistry";
+
+    private final LazyValueHolder<Optional<TransactionSynchronizationRegistry>> registry;
+
+    TransactionSynchronizationRegistryHolder(TransactionServices transactionServices) {
+        this(() -> {
+            if (transactionServices instanceof TransactionSynchronizationRegistry) {
+                return (TransactionSynchronizationRegistry) transactionServices;
+            }
+            return lookupTransactionSynchronizationRegistry();
+        });
+    }
+
+    TransactionSynchronizationRegistryHolder(Supplier<TransactionSynchronizationRegistry> lookup) {
+        this.registry = LazyValueHolder.forSupplier(() -> {
+            TransactionSynchronizationRegistry value = lookup.get();
+            if (value == null) {
+                EventLogger.LOG.transactionSynchronizationRegistryNotAvailable(TRANSACTION_SYNCHRONIZATION_REGISTRY_NAME);
+            }
+            return Optional.ofNullable(value);
+        });
+    }
+
+    /**
+     *
+     * @return the registry or <code>null</code> if not available, in which case a synchronization is registered for each transactional event
+     */
+    TransactionSynchronizationRegistry get() {
+        return registry.get().orElse(null);
+    }
+
+    private static TransactionSynchronizationRegistry lookupTransactionSynchronizationRegistry() {
+        try {
+            Object registry = new InitialContext().lookup(TRANSACTION_SYNCHRONIZATION_REGISTRY_NAME);
+            if (registry instanceof TransactionSynchronizationRegistry) {
+                return (TransactionSynchronizationRegistry) registry;
+            }
+        } catch (NamingException | RuntimeException e) {
+            EventLogger.LOG.catchingDebug(e);
+        }
+        return null;
+    }
+
+    @Override
+    public void cleanup() {
+        registry.clear();
+    }
+
+}
@@ -26,6 +26,8 @@ import jakarta.enterprise.inject.spi.ObserverMethod;
 import jakarta.transaction.RollbackException;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.ObserverNotifier;
 import org.jboss.weld.module.ObserverNotifierFactory;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
@@ -47,11 +49,17 @@ class TransactionalObserverNotifier extends ObserverNotifier {
 
     private final TransactionServices transactionServices;
     private final String contextId;
+    private final TransactionSynchronizationRegistryHolder transactionSynchronizationRegistry;
+    private final Object synchronizationResourceKey;
+    private final boolean coalesceEvents;
 
     TransactionalObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         super(contextId, resolver, services, strict);
         this.contextId = contextId;
         this.transactionServices = services.get(TransactionServices.class);
+        this.transactionSynchronizationRegistry = services.get(TransactionSynchronizationRegistryHolder.class);
+        this.synchronizationResourceKey = TransactionNotificationSynchronization.resourceKey(contextId);
+        this.coalesceEvents = services.get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.TRANSACTIONAL_OBSERVERS_COALESCE_EVENTS);
     }
 
     /**
@@ -78,12 +86,13 @@ class TransactionalObserverNotifier extends ObserverNotifier {
             // Transaction is not active - no deferred notifications
             notifySyncObservers(observers, event, metadata, handler);
         } else {
-            List<DeferredEventNotification<?>> notifications = new ArrayList<DeferredEventNotification<?>>();
+            List<DeferredEventNotification<?>> notifications = new ArrayList<DeferredEventNotification<?>>(observers.size());
             for (ObserverMethod<? super T> observer : observers) {
                 deferNotification(event, metadata, observer, notifications);
             }
             try {
-                transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
+                TransactionNotificationSynchronization.register(notifications, transactionServices, transactionSynchronizationRegistry.get(),
+                        synchronizationResourceKey, coalesceEvents);
             } catch (Exception e) {
                 if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
                     List<ObserverMethod<? super T>> filteredObservers = observers.stream()
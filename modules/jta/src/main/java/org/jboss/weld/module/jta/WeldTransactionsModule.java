@@ -36,6 +36,8 @@ public class WeldTransactionsModule implements WeldModule {
     @Override
     public void postServiceRegistration(PostServiceRegistrationContext ctx) {
         if (ctx.getServices().contains(TransactionServices.class)) {
+            ctx.getServices().add(TransactionSynchronizationRegistryHolder.class,
+                    new TransactionSynchronizationRegistryHolder(ctx.getServices().get(TransactionServices.class)));
             ctx.getServices().add(ObserverNotifierFactory.class, TransactionalObserverNotifier.FACTORY);
         }
     }
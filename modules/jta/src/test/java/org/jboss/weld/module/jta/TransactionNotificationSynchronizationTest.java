@@ -0,0 +1,231 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.transaction.UserTransaction;
+
+import org.jboss.weld.transaction.spi.TransactionServices;
+import org.junit.Test;
+
+public class TransactionNotificationSynchronizationTest {
+
+    private static final Object KEY = TransactionNotificationSynchronization.resourceKey("foo");
+
+    private final Transactions transactions = new Transactions();
+
+    private final List<String> delivered = new ArrayList<>();
+
+    @Test
+    public void testSingleSynchronizationPerTransaction() {
+        for (int i = 0; i < 10; i++) {
+            register(false, new Notification("event" + i, false));
+        }
+        assertEquals(1, transactions.synchronizations.size());
+        transactions.complete();
+        assertEquals(10, delivered.size());
+        assertEquals("event0", delivered.get(0));
+        assertEquals("event9", delivered.get(9));
+        // the next transaction gets a new synchronization
+        transactions.key = new Object();
+        register(false, new Notification("next", false));
+        assertEquals(1, transactions.synchronizations.size());
+    }
+
+    @Test
+    public void testCoalesce() {
+        register(true, new Notification("foo", false));
+        register(true, new Notification("foo", false));
+        register(true, new Notification("bar", false));
+        transactions.complete();
+        assertEquals(2, delivered.size());
+    }
+
+    @Test
+    public void testNotCoalescedByDefault() {
+        register(false, new Notification("foo", false));
+        register(false, new Notification("foo", false));
+        transactions.complete();
+        assertEquals(2, delivered.size());
+    }
+
+    @Test
+    public void testRegistryNotAvailable() {
+        TransactionNotificationSynchronization.register(Collections.singletonList(new Notification("foo", false)), transactions, null, KEY, false);
+        TransactionNotificationSynchronization.register(Collections.singletonList(new Notification("bar", false)), transactions, null, KEY, false);
+        assertEquals(2, transactions.synchronizations.size());
+        transactions.complete();
+        assertEquals(2, delivered.size());
+    }
+
+    @Test
+    public void testMissingRegistryLookedUpOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        TransactionSynchronizationRegistryHolder holder = new TransactionSynchronizationRegistryHolder(() -> {
+            lookups.incrementAndGet();
+            return null;
+        });
+        for (String event : new String[] { "foo", "bar", "baz" }) {
+            TransactionNotificationSynchronization.register(Collections.singletonList(new Notification(event, false)), transactions, holder.get(), KEY,
+                    false);
+        }
+        assertEquals(1, lookups.get());
+        // a synchronization is registered for each event
+        assertEquals(3, transactions.synchronizations.size());
+        transactions.complete();
+        assertEquals(3, delivered.size());
+    }
+
+    @Test
+    public void testRegistryProvidedByTransactionServices() {
+        assertSame(transactions, new TransactionSynchronizationRegistryHolder(transactions).get());
+    }
+
+    @Test
+    public void testSynchronizationPerContainer() {
+        Object otherKey = TransactionNotificationSynchronization.resourceKey("bar");
+        register(false, new Notification("foo", false));
+        TransactionNotificationSynchronization.register(Collections.singletonList(new Notification("bar", false)), transactions, transactions, otherKey,
+                false);
+        register(false, new Notification("baz", false));
+        assertEquals(2, transactions.synchronizations.size());
+        assertEquals(KEY, TransactionNotificationSynchronization.resourceKey("foo"));
+        transactions.complete();
+        assertEquals(3, delivered.size());
+    }
+
+    @Test
+    public void testEventFiredBeforeCompletion() {
+        register(false, new Notification("foo", true) {
+            @Override
+            public void run() {
+                super.run();
+                register(false, new Notification("nested", true));
+            }
+        });
+        Synchronization synchronization = transactions.synchronizations.get(0);
+        synchronization.beforeCompletion();
+        assertEquals(2, delivered.size());
+        assertEquals("nested", delivered.get(1));
+        // the synchronization was already processed
+        register(false, new Notification("late", false));
+        assertEquals(2, transactions.synchronizations.size());
+    }
+
+    private void register(boolean coalesce, DeferredEventNotification<?> notification) {
+        TransactionNotificationSynchronization.register(Collections.singletonList(notification), transactions, transactions, KEY, coalesce);
+    }
+
+    private class Notification extends DeferredEventNotification<String> {
+
+        Notification(String event, boolean before) {
+            super(null, event, null, null, null, Status.ALL, before);
+        }
+
+        @Override
+        public void run() {
+            delivered.add(getEvent());
+        }
+
+    }
+
+    private static class Transactions implements TransactionServices, TransactionSynchronizationRegistry {
+
+        private final List<Synchronization> synchronizations = new ArrayList<>();
+
+        private final Map<Object, Map<Object, Object>> resources = new HashMap<>();
+
+        private Object key = new Object();
+
+        void complete() {
+            for (Synchronization synchronization : synchronizations) {
+                synchronization.beforeCompletion();
+            }
+            for (Synchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(jakarta.transaction.Status.STATUS_COMMITTED);
+            }
+            synchronizations.clear();
+        }
+
+        @Override
+        public void registerSynchronization(Synchronization synchronizedObserver) {
+            synchronizations.add(synchronizedObserver);
+        }
+
+        @Override
+        public boolean isTransactionActive() {
+            return true;
+        }
+
+        @Override
+        public UserTransaction getUserTransaction() {
+            return null;
+        }
+
+        @Override
+        public void cleanup() {
+        }
+
+        @Override
+        public Object getTransactionKey() {
+            return key;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            resources.computeIfAbsent(this.key, k -> new HashMap<>()).put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            Map<Object, Object> map = resources.get(this.key);
+            return map != null ? map.get(key) : null;
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sync) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return jakarta.transaction.Status.STATUS_ACTIVE;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
+
+    }
+
+}
@@ -60,8 +60,8 @@ public abstract class AbstractWeldELResolver extends ELResolver {
             ElLogger.LOG.propertyLookup(propertyString);
             Namespace namespace = null;
             if (base == null) {
-                if (getRootNamespace().contains(propertyString)) {
-                    Object value = getRootNamespace().get(propertyString);
+                Namespace value = getRootNamespace().get(propertyString);
+                if (value != null) {
                     context.setPropertyResolved(true);
                     ElLogger.LOG.propertyResolved(propertyString, value);
                     return value;
@@ -70,9 +70,9 @@ public abstract class AbstractWeldELResolver extends ELResolver {
                 namespace = (Namespace) base;
                 // We're definitely the responsible party
                 context.setPropertyResolved(true);
-                if (namespace.contains(propertyString)) {
+                Namespace value = namespace.get(propertyString);
+                if (value != null) {
                     // There is a child namespace
-                    Object value = namespace.get(propertyString);
                     ElLogger.LOG.propertyResolved(propertyString, value);
                     return value;
                 }
@@ -97,20 +97,31 @@ public abstract class AbstractWeldELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     *
+     * @param beanManager
+     * @param name
+     * @return the bean with the given name or <code>null</code> if no such bean exists
+     */
+    protected Bean<?> resolve(BeanManagerImpl beanManager, String name) {
+        return beanManager.resolve(beanManager.getBeans(name));
+    }
+
     private Object lookup(BeanManagerImpl beanManager, ELContext context, String name) {
-        final Bean<?> bean = beanManager.resolve(beanManager.getBeans(name));
+        final Bean<?> bean = resolve(beanManager, name);
         if (bean == null) {
             return null;
         }
         Class<? extends Annotation> scope = bean.getScope();
         if (!scope.equals(Dependent.class)) {
-            return beanManager.getReference(bean, null, beanManager.createCreationalContext(bean), true);
+            // A creational context is only created if there is no contextual instance yet
+            return beanManager.getReference(bean, null, null, true);
         } else {
             // Need to use a "special" creationalContext that can make sure that we do share dependent instances referenced by the EL Expression
             final ELCreationalContextStack stack = ELCreationalContextStack.getCreationalContextStore(context);
             boolean release = stack.isEmpty(); // indicates whether we should cleanup after lookup or not
             if (release) {
-                stack.push(new CreationalContextCallable());
+                stack.push();
             }
             try {
                 ELCreationalContext<?> ctx = stack.peek().get();
@@ -123,10 +134,7 @@ public abstract class AbstractWeldELResolver extends ELResolver {
                 return value;
             } finally {
                 if (release) {
-                    CreationalContextCallable callable = stack.pop();
-                    if (callable.exists()) {
-                        callable.get().release();
-                    }
+                    stack.pop();
                 }
             }
 
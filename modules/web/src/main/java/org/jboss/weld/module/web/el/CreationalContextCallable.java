@@ -11,8 +11,16 @@ class CreationalContextCallable {
         return ctx;
     }
 
-    boolean exists() {
-        return ctx != null;
+    /**
+     * Releases the creational context, if any. The frame may be reused afterwards.
+     */
+    void release() {
+        ELCreationalContext<?> ctx = this.ctx;
+        if (ctx != null) {
+            // A new evaluation may start while the dependent instances are destroyed
+            this.ctx = null;
+            ctx.release();
+        }
     }
 
 }
@@ -26,19 +26,32 @@ class ELCreationalContext<T> extends CreationalContextImpl<T> {
 
     private static final long serialVersionUID = -8337917208165841779L;
 
-    private final Map<String, Object> expressionLocalDependentInstances;
+    // Most expressions reference a single dependent bean, the map is only needed for the others
+    private String firstName;
+    private Object firstValue;
+    private Map<String, Object> expressionLocalDependentInstances;
 
     public ELCreationalContext(Contextual<T> contextual) {
         super(contextual);
-        this.expressionLocalDependentInstances = new HashMap<String, Object>();
     }
 
     public void registerDependentInstanceForExpression(String name, Object value) {
+        if (firstName == null || firstName.equals(name)) {
+            firstName = name;
+            firstValue = value;
+            return;
+        }
+        if (expressionLocalDependentInstances == null) {
+            expressionLocalDependentInstances = new HashMap<String, Object>();
+        }
         expressionLocalDependentInstances.put(name, value);
     }
 
     public Object getDependentInstanceForExpression(String name) {
-        return expressionLocalDependentInstances.get(name);
+        if (name.equals(firstName)) {
+            return firstValue;
+        }
+        return expressionLocalDependentInstances != null ? expressionLocalDependentInstances.get(name) : null;
     }
 
 }
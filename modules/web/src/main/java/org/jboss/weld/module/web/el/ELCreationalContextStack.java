@@ -16,12 +16,27 @@
  */
 package org.jboss.weld.module.web.el;
 
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
 import jakarta.el.ELContext;
-import java.util.Stack;
 
-class ELCreationalContextStack extends Stack<CreationalContextCallable> {
+/**
+ * The stack of evaluations within an {@link ELContext}. Dependent beans referenced by an expression share the creational context of the innermost
+ * evaluation which is released once the evaluation completes.
+ *
+ * <p>
+ * An {@link ELContext} is not used concurrently and the same expressions are evaluated over and over again, therefore the frames are pooled and reset
+ * once popped. A creational context is only created if a dependent bean is referenced.
+ * </p>
+ */
+class ELCreationalContextStack {
+
+    private static final int INITIAL_CAPACITY = 4;
 
-    private static final long serialVersionUID = -57142365866995726L;
+    private CreationalContextCallable[] frames = new CreationalContextCallable[INITIAL_CAPACITY];
+
+    private int size;
 
     public static ELCreationalContextStack addToContext(ELContext context) {
         ELCreationalContextStack store = new ELCreationalContextStack();
@@ -38,4 +53,41 @@ class ELCreationalContextStack extends Stack<CreationalContextCallable> {
         }
     }
 
+    /**
+     * Pushes a frame for a new evaluation.
+     */
+    void push() {
+        if (size == frames.length) {
+            frames = Arrays.copyOf(frames, size * 2);
+        }
+        if (frames[size] == null) {
+            frames[size] = new CreationalContextCallable();
+        }
+        size++;
+    }
+
+    /**
+     *
+     * @return the frame of the innermost evaluation
+     */
+    CreationalContextCallable peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return frames[size - 1];
+    }
+
+    /**
+     * Pops the frame of the innermost evaluation and releases its creational context, if any.
+     */
+    void pop() {
+        CreationalContextCallable frame = peek();
+        size--;
+        frame.release();
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
 }
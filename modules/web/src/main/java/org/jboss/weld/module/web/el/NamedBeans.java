@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.web.el;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.enterprise.inject.AmbiguousResolutionException;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.collections.ImmutableMap;
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * The named beans accessible from a bean manager, resolved once. No beans may be added once the container is initialized, so an EL name always resolves to
+ * the same bean afterwards.
+ *
+ * <p>
+ * Names which cannot be resolved (ambiguous names) are not included and are resolved by the bean manager on every lookup so that the same error is
+ * reported.
+ * </p>
+ */
+final class NamedBeans {
+
+    private final Map<String, Bean<?>> beans;
+
+    private final Set<String> unresolvable;
+
+    private NamedBeans(Map<String, Bean<?>> beans, Set<String> unresolvable) {
+        this.beans = beans;
+        this.unresolvable = unresolvable;
+    }
+
+    /**
+     *
+     * @param beans the accessible beans
+     * @param resolver resolves the bean with the given name, e.g. using {@link BeanManagerImpl#resolve(java.util.Set)}
+     * @return the snapshot of the named beans
+     */
+    static NamedBeans of(Iterable<Bean<?>> beans, Function<String, Bean<?>> resolver) {
+        Map<String, Bean<?>> named = new HashMap<>();
+        Set<String> unresolvable = new HashSet<>();
+        for (Bean<?> bean : beans) {
+            String name = bean.getName();
+            if (name == null || named.containsKey(name) || unresolvable.contains(name)) {
+                continue;
+            }
+            try {
+                Bean<?> resolved = resolver.apply(name);
+                if (resolved != null) {
+                    named.put(name, resolved);
+                }
+            } catch (AmbiguousResolutionException e) {
+                unresolvable.add(name);
+            }
+        }
+        return new NamedBeans(ImmutableMap.copyOf(named), ImmutableSet.copyOf(unresolvable));
+    }
+
+    /**
+     *
+     * @param name
+     * @param resolver the resolver the snapshot was created with
+     * @return the bean with the given name or <code>null</code> if no such bean exists
+     */
+    Bean<?> resolve(String name, Function<String, Bean<?>> resolver) {
+        Bean<?> bean = beans.get(name);
+        if (bean == null && unresolvable.contains(name)) {
+            // Let the bean manager report the problem
+            return resolver.apply(name);
+        }
+        return bean;
+    }
+
+}
@@ -16,8 +16,13 @@
  */
 package org.jboss.weld.module.web.el;
 
+import java.util.function.Function;
+
 import jakarta.el.ELContext;
+import jakarta.enterprise.inject.spi.Bean;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.LazyValueHolder;
 
@@ -29,9 +34,12 @@ public class WeldELResolver extends AbstractWeldELResolver {
 
     private final BeanManagerImpl beanManager;
     private final LazyValueHolder<Namespace> rootNamespace;
+    private final Function<String, Bean<?>> nameResolver;
+    private volatile NamedBeans namedBeans;
 
     public WeldELResolver(BeanManagerImpl manager) {
         this.beanManager = manager;
+        this.nameResolver = name -> manager.resolve(manager.getBeans(name));
         this.rootNamespace = LazyValueHolder.forSupplier(() -> new Namespace(manager.getDynamicAccessibleNamespaces()));
     }
 
@@ -40,6 +48,21 @@ public class WeldELResolver extends AbstractWeldELResolver {
         return beanManager;
     }
 
+    @Override
+    protected Bean<?> resolve(BeanManagerImpl manager, String name) {
+        NamedBeans beans = namedBeans;
+        if (beans == null) {
+            if (!ContainerState.INITIALIZED.equals(Container.instance(manager).getState())) {
+                // Beans may still be added or removed
+                return super.resolve(manager, name);
+            }
+            // Racing threads build equal snapshots
+            beans = NamedBeans.of(manager.getDynamicAccessibleBeans(), nameResolver);
+            namedBeans = beans;
+        }
+        return beans.resolve(name, nameResolver);
+    }
+
     @Override
     protected Namespace getRootNamespace() {
         return rootNamespace.get();
@@ -45,28 +45,22 @@ public class WeldMethodExpression extends ForwardingMethodExpression {
     @Override
     public Object invoke(ELContext context, Object[] params) {
         ELCreationalContextStack store = getCreationalContextStore(context);
+        store.push();
         try {
-            store.push(new CreationalContextCallable());
             return super.invoke(context, params);
         } finally {
-            CreationalContextCallable callable = store.pop();
-            if (callable.exists()) {
-                callable.get().release();
-            }
+            store.pop();
         }
     }
 
     @Override
     public MethodInfo getMethodInfo(ELContext context) {
         ELCreationalContextStack store = getCreationalContextStore(context);
+        store.push();
         try {
-            store.push(new CreationalContextCallable());
             return super.getMethodInfo(context);
         } finally {
-            CreationalContextCallable callable = store.pop();
-            if (callable.exists()) {
-                callable.get().release();
-            }
+            store.pop();
         }
     }
 
@@ -45,42 +45,33 @@ public class WeldValueExpression extends ForwardingValueExpression {
     @Override
     public Object getValue(final ELContext context) {
         ELCreationalContextStack store = getCreationalContextStore(context);
+        store.push();
         try {
-            store.push(new CreationalContextCallable());
             return delegate().getValue(context);
         } finally {
-            CreationalContextCallable callable = store.pop();
-            if (callable.exists()) {
-                callable.get().release();
-            }
+            store.pop();
         }
     }
 
     @Override
     public void setValue(ELContext context, Object value) {
         ELCreationalContextStack store = getCreationalContextStore(context);
+        store.push();
         try {
-            store.push(new CreationalContextCallable());
             delegate().setValue(context, value);
         } finally {
-            CreationalContextCallable callable = store.pop();
-            if (callable.exists()) {
-                callable.get().release();
-            }
+            store.pop();
         }
     }
 
     @Override
     public boolean isReadOnly(ELContext context) {
         ELCreationalContextStack store = getCreationalContextStore(context);
+        store.push();
         try {
-            store.push(new CreationalContextCallable());
             return delegate().isReadOnly(context);
         } finally {
-            CreationalContextCallable callable = store.pop();
-            if (callable.exists()) {
-                callable.get().release();
-            }
+            store.pop();
         }
     }
 
@@ -88,14 +79,11 @@ public class WeldValueExpression extends ForwardingValueExpression {
     @Override
     public Class getType(ELContext context) {
         ELCreationalContextStack store = getCreationalContextStore(context);
+        store.push();
         try {
-            store.push(new CreationalContextCallable());
             return delegate().getType(context);
         } finally {
-            CreationalContextCallable callable = store.pop();
-            if (callable.exists()) {
-                callable.get().release();
-            }
+            store.pop();
         }
     }
 
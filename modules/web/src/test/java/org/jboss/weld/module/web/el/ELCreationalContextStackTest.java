@@ -0,0 +1,240 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.web.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.FunctionMapper;
+import jakarta.el.VariableMapper;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.CreationalContextImpl;
+import org.junit.Test;
+
+public class ELCreationalContextStackTest {
+
+    @Test
+    public void testStoredInContext() {
+        ELContext context = new TestELContext();
+        ELCreationalContextStack stack = ELCreationalContextStack.getCreationalContextStore(context);
+        assertSame(stack, ELCreationalContextStack.getCreationalContextStore(context));
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testNestedFramesReused() {
+        ELCreationalContextStack stack = new ELCreationalContextStack();
+        stack.push();
+        CreationalContextCallable outer = stack.peek();
+        stack.push();
+        CreationalContextCallable inner = stack.peek();
+        assertNotSame(outer, inner);
+        stack.pop();
+        assertSame(outer, stack.peek());
+        stack.push();
+        assertSame(inner, stack.peek());
+        stack.pop();
+        stack.pop();
+        assertTrue(stack.isEmpty());
+        stack.push();
+        assertSame(outer, stack.peek());
+        stack.pop();
+    }
+
+    @Test
+    public void testGrowth() {
+        ELCreationalContextStack stack = new ELCreationalContextStack();
+        int depth = 10;
+        List<CreationalContextCallable> frames = new ArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            stack.push();
+            frames.add(stack.peek());
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            assertSame(frames.get(i), stack.peek());
+            stack.pop();
+        }
+        assertTrue(stack.isEmpty());
+        for (int i = 0; i < depth; i++) {
+            stack.push();
+            assertSame(frames.get(i), stack.peek());
+        }
+    }
+
+    @Test(expected = EmptyStackException.class)
+    public void testPeekEmpty() {
+        new ELCreationalContextStack().peek();
+    }
+
+    @Test
+    public void testPopReleasesDependentInstancesOnce() {
+        ELCreationalContextStack stack = new ELCreationalContextStack();
+        TestContextual contextual = new TestContextual(null);
+        stack.push();
+        ELCreationalContext<?> ctx = stack.peek().get();
+        assertSame(ctx, stack.peek().get());
+        addDependentInstance(ctx, contextual, "foo");
+        stack.pop();
+        assertEquals(1, contextual.destroyed.size());
+        // the frame is reset
+        stack.push();
+        assertNotSame(ctx, stack.peek().get());
+        stack.pop();
+        assertEquals(1, contextual.destroyed.size());
+    }
+
+    @Test
+    public void testFrameWithoutCreationalContext() {
+        ELCreationalContextStack stack = new ELCreationalContextStack();
+        stack.push();
+        stack.pop();
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testEvaluationStartedFromDestroyCallback() {
+        ELCreationalContextStack stack = new ELCreationalContextStack();
+        List<ELCreationalContext<?>> callbackContexts = new ArrayList<>();
+        TestContextual contextual = new TestContextual(instance -> {
+            // e.g. a @PreDestroy callback evaluating an expression
+            stack.push();
+            ELCreationalContext<?> ctx = stack.peek().get();
+            callbackContexts.add(ctx);
+            assertNull(ctx.getDependentInstanceForExpression("foo"));
+            assertFalse(ctx.hasDependentInstances());
+            stack.pop();
+        });
+        stack.push();
+        ELCreationalContext<?> ctx = stack.peek().get();
+        ctx.registerDependentInstanceForExpression("foo", "foo");
+        addDependentInstance(ctx, contextual, "foo");
+        stack.pop();
+        assertEquals(1, contextual.destroyed.size());
+        assertEquals(1, callbackContexts.size());
+        assertNotSame(ctx, callbackContexts.get(0));
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testSingleName() {
+        ELCreationalContext<Object> ctx = new ELCreationalContext<Object>(null);
+        assertNull(ctx.getDependentInstanceForExpression("foo"));
+        ctx.registerDependentInstanceForExpression("foo", "foo1");
+        assertEquals("foo1", ctx.getDependentInstanceForExpression("foo"));
+        assertNull(ctx.getDependentInstanceForExpression("bar"));
+    }
+
+    @Test
+    public void testRepeatedName() {
+        ELCreationalContext<Object> ctx = new ELCreationalContext<Object>(null);
+        ctx.registerDependentInstanceForExpression("foo", "foo1");
+        ctx.registerDependentInstanceForExpression("foo", "foo2");
+        assertEquals("foo2", ctx.getDependentInstanceForExpression("foo"));
+        assertNull(ctx.getDependentInstanceForExpression("bar"));
+    }
+
+    @Test
+    public void testDifferentNames() {
+        ELCreationalContext<Object> ctx = new ELCreationalContext<Object>(null);
+        ctx.registerDependentInstanceForExpression("foo", "foo1");
+        ctx.registerDependentInstanceForExpression("bar", "bar1");
+        ctx.registerDependentInstanceForExpression("bar", "bar2");
+        assertEquals("foo1", ctx.getDependentInstanceForExpression("foo"));
+        assertEquals("bar2", ctx.getDependentInstanceForExpression("bar"));
+        assertNull(ctx.getDependentInstanceForExpression("baz"));
+    }
+
+    private static void addDependentInstance(ELCreationalContext<?> ctx, TestContextual contextual, String instance) {
+        CreationalContextImpl<String> creationalContext = ctx.getCreationalContext(contextual);
+        creationalContext.addDependentInstance(new ContextualInstance<String>() {
+
+            @Override
+            public String getInstance() {
+                return instance;
+            }
+
+            @Override
+            public CreationalContext<String> getCreationalContext() {
+                return creationalContext;
+            }
+
+            @Override
+            public Contextual<String> getContextual() {
+                return contextual;
+            }
+        });
+    }
+
+    private static class TestContextual implements Contextual<String> {
+
+        private final List<String> destroyed = new ArrayList<>();
+
+        private final Consumer<String> callback;
+
+        TestContextual(Consumer<String> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+            destroyed.add(instance);
+            if (callback != null) {
+                callback.accept(instance);
+            }
+        }
+
+    }
+
+    private static class TestELContext extends ELContext {
+
+        @Override
+        public ELResolver getELResolver() {
+            return null;
+        }
+
+        @Override
+        public FunctionMapper getFunctionMapper() {
+            return null;
+        }
+
+        @Override
+        public VariableMapper getVariableMapper() {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.web.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.enterprise.inject.AmbiguousResolutionException;
+import jakarta.enterprise.inject.spi.Bean;
+
+import org.junit.Test;
+
+public class NamedBeansTest {
+
+    private final List<String> resolved = new ArrayList<>();
+
+    @Test
+    public void testResolvedOnce() {
+        Bean<?> foo = bean("foo");
+        Function<String, Bean<?>> resolver = resolver(foo);
+        NamedBeans namedBeans = NamedBeans.of(Arrays.asList(foo, bean(null)), resolver);
+        assertSame(foo, namedBeans.resolve("foo", resolver));
+        assertSame(foo, namedBeans.resolve("foo", resolver));
+        assertNull(namedBeans.resolve("bar", resolver));
+        assertEquals(Arrays.asList("foo"), resolved);
+    }
+
+    @Test
+    public void testAmbiguousNameResolvedOnEachLookup() {
+        Bean<?> dup = bean("dup");
+        Function<String, Bean<?>> resolver = resolver(dup, bean("dup"));
+        NamedBeans namedBeans = NamedBeans.of(Arrays.asList(dup, bean("dup")), resolver);
+        resolved.clear();
+        for (int i = 0; i < 2; i++) {
+            try {
+                namedBeans.resolve("dup", resolver);
+                fail();
+            } catch (AmbiguousResolutionException expected) {
+            }
+        }
+        // the resolver reports the problem every time
+        assertEquals(Arrays.asList("dup", "dup"), resolved);
+    }
+
+    private Function<String, Bean<?>> resolver(Bean<?>... beans) {
+        return name -> {
+            resolved.add(name);
+            Bean<?> result = null;
+            for (Bean<?> bean : beans) {
+                if (name.equals(bean.getName())) {
+                    if (result != null) {
+                        throw new AmbiguousResolutionException(name);
+                    }
+                    result = bean;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static Bean<?> bean(String name) {
+        return (Bean<?>) Proxy.newProxyInstance(NamedBeansTest.class.getClassLoader(), new Class<?>[] { Bean.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return name;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Bean " + name;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.web.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.FunctionMapper;
+import jakarta.el.VariableMapper;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.bootstrap.api.Environments;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.bootstrap.api.helpers.SimpleServiceRegistry;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.ejb.spi.EjbDescriptor;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.proxy.WeldClientProxy;
+import org.jboss.weld.resources.DefaultResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.tests.unit.el.ApplicationBean;
+import org.jboss.weld.tests.unit.el.DependentBean;
+import org.junit.After;
+import org.junit.Test;
+
+public class WeldELResolverTest {
+
+    private WeldBootstrap bootstrap;
+
+    private BeanManagerImpl beanManager;
+
+    @After
+    public void shutdown() {
+        if (bootstrap != null) {
+            bootstrap.shutdown();
+        }
+    }
+
+    @Test
+    public void testLookupBeforeAndAfterInitialization() throws Exception {
+        startContainer(false);
+        WeldELResolver resolver = new WeldELResolver(beanManager);
+        ELContext context = new TestELContext();
+        assertNotNull(resolver.getValue(context, null, "applicationBean"));
+        assertTrue(context.isPropertyResolved());
+        // beans may still be added or removed
+        assertNull(getNamedBeans(resolver));
+        bootstrap.validateBeans();
+        bootstrap.endInitialization();
+        context = new TestELContext();
+        assertNotNull(resolver.getValue(context, null, "applicationBean"));
+        assertTrue(context.isPropertyResolved());
+        assertNotNull(getNamedBeans(resolver));
+        context = new TestELContext();
+        assertNull(resolver.getValue(context, null, "unknownBean"));
+        assertFalse(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testNormalScopedLookup() {
+        startContainer(true);
+        WeldELResolver resolver = new WeldELResolver(beanManager);
+        ELContext context = new TestELContext();
+        ELCreationalContextStack stack = ELCreationalContextStack.getCreationalContextStore(context);
+        Object value = resolver.getValue(context, null, "applicationBean");
+        assertTrue(value instanceof ApplicationBean);
+        // the contextual instance behind the client proxy
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(ApplicationBean.class));
+        WeldClientProxy proxy = (WeldClientProxy) beanManager.getReference(bean, ApplicationBean.class, beanManager.createCreationalContext(bean));
+        assertSame(proxy.getMetadata().getContextualInstance(), value);
+        // no evaluation frame is needed
+        assertTrue(stack.isEmpty());
+        stack.push();
+        assertSame(value, resolver.getValue(context, null, "applicationBean"));
+        assertNull(stack.peek().get().getDependentInstanceForExpression("applicationBean"));
+        assertFalse(stack.peek().get().hasDependentInstances());
+        stack.pop();
+    }
+
+    @Test
+    public void testDependentLookup() {
+        startContainer(true);
+        DependentBean.DESTROYED.set(0);
+        WeldELResolver resolver = new WeldELResolver(beanManager);
+        ELContext context = new TestELContext();
+        ELCreationalContextStack stack = ELCreationalContextStack.getCreationalContextStore(context);
+        // an evaluation in progress
+        stack.push();
+        Object value = resolver.getValue(context, null, "dependentBean");
+        assertTrue(value instanceof DependentBean);
+        assertSame(value, resolver.getValue(context, null, "dependentBean"));
+        assertSame(value, stack.peek().get().getDependentInstanceForExpression("dependentBean"));
+        assertEquals(0, DependentBean.DESTROYED.get());
+        stack.pop();
+        assertEquals(1, DependentBean.DESTROYED.get());
+        // no evaluation in progress - the instance is destroyed right after the lookup
+        Object other = resolver.getValue(context, null, "dependentBean");
+        assertTrue(other instanceof DependentBean);
+        assertEquals(2, DependentBean.DESTROYED.get());
+        assertTrue(stack.isEmpty());
+    }
+
+    private void startContainer(boolean initialize) {
+        final ServiceRegistry services = new SimpleServiceRegistry();
+        services.add(ResourceLoader.class, DefaultResourceLoader.INSTANCE);
+        final BeanDeploymentArchive archive = new BeanDeploymentArchive() {
+
+            @Override
+            public Collection<BeanDeploymentArchive> getBeanDeploymentArchives() {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public Collection<String> getBeanClasses() {
+                return Arrays.asList(ApplicationBean.class.getName(), DependentBean.class.getName());
+            }
+
+            @Override
+            public BeansXml getBeansXml() {
+                return BeansXml.EMPTY_BEANS_XML;
+            }
+
+            @Override
+            public Collection<EjbDescriptor<?>> getEjbs() {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public ServiceRegistry getServices() {
+                return services;
+            }
+
+            @Override
+            public String getId() {
+                return WeldELResolverTest.class.getName();
+            }
+        };
+        Deployment deployment = new Deployment() {
+
+            private final ServiceRegistry deploymentServices = new SimpleServiceRegistry();
+
+            @Override
+            public Collection<BeanDeploymentArchive> getBeanDeploymentArchives() {
+                return Collections.singleton(archive);
+            }
+
+            @Override
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                return archive;
+            }
+
+            @Override
+            public ServiceRegistry getServices() {
+                return deploymentServices;
+            }
+
+            @Override
+            public Iterable<Metadata<Extension>> getExtensions() {
+                return Collections.emptySet();
+            }
+        };
+        bootstrap = new WeldBootstrap();
+        bootstrap.startContainer(WeldELResolverTest.class.getName(), Environments.SE, deployment);
+        bootstrap.startInitialization();
+        bootstrap.deployBeans();
+        if (initialize) {
+            bootstrap.validateBeans();
+            bootstrap.endInitialization();
+        }
+        beanManager = (BeanManagerImpl) bootstrap.getManager(archive);
+    }
+
+    private static Object getNamedBeans(WeldELResolver resolver) throws Exception {
+        Field field = WeldELResolver.class.getDeclaredField("namedBeans");
+        field.setAccessible(true);
+        return field.get(resolver);
+    }
+
+    private static class TestELContext extends ELContext {
+
+        @Override
+        public ELResolver getELResolver() {
+            return null;
+        }
+
+        @Override
+        public FunctionMapper getFunctionMapper() {
+            return null;
+        }
+
+        @Override
+        public VariableMapper getVariableMapper() {
+            return null;
+        }
+
+    }
+
+}
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +59,8 @@ import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.ExtensionBean;
 import org.jboss.weld.bean.builtin.InstanceImpl;
 import org.jboss.weld.bean.builtin.ee.EEResourceProducerField;
+import org.jboss.weld.bootstrap.BeanDependencyGraph;
+import org.jboss.weld.bootstrap.BeanDependencyGraph.Edge;
 import org.jboss.weld.ejb.spi.EjbDescriptor;
 import org.jboss.weld.exceptions.IllegalStateException;
 import org.jboss.weld.logging.BeanLogger;
@@ -167,6 +170,10 @@ final class Components {
      * @return the set of dependents
      */
     static Set<Dependency> getDependents(Bean<?> bean, Collection<Bean<?>> beans, Probe probe, boolean firstMatch) {
+        BeanDependencyGraph graph = probe.getDependencyGraph();
+        if (graph != null) {
+            return getDependents(bean, graph, probe, firstMatch);
+        }
         Set<Dependency> dependents = new HashSet<Dependency>();
         for (Bean<?> candidate : beans) {
             if (candidate.equals(bean)) {
@@ -226,6 +233,43 @@ final class Components {
         return dependents;
     }
 
+    private static Set<Dependency> getDependents(Bean<?> bean, BeanDependencyGraph graph, Probe probe, boolean firstMatch) {
+        Set<Dependency> dependents = new HashSet<Dependency>();
+        for (Edge edge : probe.getLazilyFetchedDependents(bean)) {
+            if (!edge.getDependent().equals(bean)) {
+                dependents.add(Dependency.createPotential(edge.getDependent(), edge.getInjectionPoint(), INFO_FETCHING_LAZILY));
+                if (firstMatch) {
+                    return dependents;
+                }
+            }
+        }
+        for (Bean<?> node : probe.getDependencyGraphNodes(bean)) {
+            for (Edge edge : graph.getDependents(node)) {
+                if (edge.getDependent() == null || edge.getDependent().equals(bean) || !isDependencyOf(edge, probe)) {
+                    continue;
+                }
+                dependents.add(new Dependency(edge.getDependent(), edge.getInjectionPoint()));
+                if (firstMatch) {
+                    return dependents;
+                }
+            }
+        }
+        return dependents;
+    }
+
+    /**
+     *
+     * @param edge
+     * @param probe
+     * @return <code>true</code> if the edge represents an injection point of a bean known to Probe, <code>false</code> otherwise, e.g. for an observer
+     *         method parameter
+     */
+    static boolean isDependencyOf(Edge edge, Probe probe) {
+        Bean<?> dependent = edge.getDependent();
+        // Don't process built-in beans
+        return dependent != null && probe.getBeanManager(dependent) != null && dependent.getInjectionPoints().contains(edge.getInjectionPoint());
+    }
+
     /**
      *
      * @param bean
@@ -248,11 +292,20 @@ final class Components {
         Set<Dependency> dependencies = new HashSet<Dependency>();
         Set<InjectionPoint> injectionPoints = bean.getInjectionPoints();
         if (injectionPoints != null && !injectionPoints.isEmpty()) {
+            Map<InjectionPoint, Bean<?>> resolved = getResolvedDependencies(bean, probe);
             for (InjectionPoint injectionPoint : injectionPoints) {
                 if (injectionPoint.isDelegate()) {
                     // Do not include delegate injection points
                     continue;
                 }
+                Bean<?> resolvedDependency = resolved.get(injectionPoint);
+                if (resolvedDependency != null) {
+                    if (isBuiltinBeanButNotExtension(resolvedDependency)) {
+                        resolvedDependency = probe.getBean(Components.getBuiltinBeanId((AbstractBuiltInBean<?>) resolvedDependency));
+                    }
+                    dependencies.add(new Dependency(resolvedDependency, injectionPoint));
+                    continue;
+                }
                 Set<Bean<?>> beans = beanManager.getBeans(injectionPoint.getType(),
                         injectionPoint.getQualifiers().toArray(new Annotation[injectionPoint.getQualifiers().size()]));
                 if (beans.isEmpty()) {
@@ -273,6 +326,18 @@ final class Components {
         return dependencies;
     }
 
+    private static Map<InjectionPoint, Bean<?>> getResolvedDependencies(Bean<?> bean, Probe probe) {
+        BeanDependencyGraph graph = probe.getDependencyGraph();
+        if (graph == null) {
+            return Collections.emptyMap();
+        }
+        Map<InjectionPoint, Bean<?>> resolved = new HashMap<>();
+        for (Edge edge : graph.getDependencies(bean)) {
+            resolved.put(edge.getInjectionPoint(), edge.getDependency());
+        }
+        return resolved;
+    }
+
     /**
      *
      * @return the bean if a satisfied and unambiguous dependency is found for the Instance required type and quialifiers
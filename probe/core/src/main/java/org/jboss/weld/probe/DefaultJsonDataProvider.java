@@ -36,6 +36,7 @@ import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.probe.Json.JsonObjectBuilder;
 import org.jboss.weld.probe.Queries.BeanFilters;
 import org.jboss.weld.probe.Queries.EventsFilters;
 import org.jboss.weld.probe.Queries.InvocationsFilters;
@@ -69,6 +70,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveBeans(int pageIndex, int pageSize, String filters, String representation) {
+        return receiveBeansJson(pageIndex, pageSize, filters, representation).build();
+    }
+
+    JsonObjectBuilder receiveBeansJson(int pageIndex, int pageSize, String filters, String representation) {
         return JsonObjects.createBeansJson(Queries.find(probe.getBeans(), pageIndex, pageSize, Queries.initFilters(filters, new BeanFilters(probe))), probe,
                 beanManager, Representation.from(representation));
     }
@@ -93,6 +98,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveObservers(int pageIndex, int pageSize, String filters, String representation) {
+        return receiveObserversJson(pageIndex, pageSize, filters, representation).build();
+    }
+
+    JsonObjectBuilder receiveObserversJson(int pageIndex, int pageSize, String filters, String representation) {
         return JsonObjects.createObserversJson(
                 Queries.find(probe.getObservers(), pageIndex, pageSize, Queries.initFilters(filters, new ObserverFilters(probe))), probe,
                 Representation.from(representation));
@@ -123,6 +132,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveInvocations(int pageIndex, int pageSize, String filters, String representation) {
+        return receiveInvocationsJson(pageIndex, pageSize, filters, representation).build();
+    }
+
+    JsonObjectBuilder receiveInvocationsJson(int pageIndex, int pageSize, String filters, String representation) {
         return JsonObjects.createInvocationsJson(
                 Queries.find(probe.getInvocations(), pageIndex, pageSize, Queries.initFilters(filters, new InvocationsFilters(probe))), probe,
                 Representation.from(representation));
@@ -144,6 +157,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveEvents(int pageIndex, int pageSize, String filters) {
+        return receiveEventsJson(pageIndex, pageSize, filters).build();
+    }
+
+    JsonObjectBuilder receiveEventsJson(int pageIndex, int pageSize, String filters) {
         return JsonObjects.createEventsJson(Queries.find(probe.getEvents(), pageIndex, pageSize, Queries.initFilters(filters, new EventsFilters(probe))),
                 probe);
     }
@@ -160,6 +177,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveAvailableBeans(int pageIndex, int pageSize, String filters, String representation) {
+        return receiveAvailableBeansJson(pageIndex, pageSize, filters, representation).build();
+    }
+
+    JsonObjectBuilder receiveAvailableBeansJson(int pageIndex, int pageSize, String filters, String representation) {
         Map<String, String> filterValues = Queries.Filters.parseFilters(filters);
         // First validate input
         if (!filterValues.containsKey(BDA_ID)) {
@@ -206,8 +227,8 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
                 Representation.from(representation));
     }
 
-    private String getError(String description) {
-        return Json.objectBuilder().add(ERROR, description).build();
+    private JsonObjectBuilder getError(String description) {
+        return Json.objectBuilder().add(ERROR, description);
     }
 
 }
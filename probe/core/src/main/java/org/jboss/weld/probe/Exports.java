@@ -17,14 +17,17 @@
 package org.jboss.weld.probe;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import jakarta.enterprise.inject.Vetoed;
 
+import org.jboss.weld.probe.Json.JsonBuilder;
 import org.jboss.weld.probe.Resource.Representation;
 
 /**
@@ -37,26 +40,42 @@ final class Exports {
     private Exports() {
     }
 
-    static byte[] exportJsonData(JsonDataProvider jsonDataProvider) throws IOException {
-        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
-        ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(bytes));
-        addEntry(out, "deployment", jsonDataProvider.receiveDeployment());
-        addEntry(out, "observers", jsonDataProvider.receiveObservers(0, 0, null, Representation.FULL.toString()));
-        addEntry(out, "beans", jsonDataProvider.receiveBeans(0, 0, null, Representation.FULL.toString()));
-        addEntry(out, "fired-events", jsonDataProvider.receiveEvents(0, 0, null));
-        addEntry(out, "invocation-trees", jsonDataProvider.receiveInvocations(0, 0, null, Representation.FULL.toString()));
-        addEntry(out, "contexts", jsonDataProvider.receiveContexts());
+    /**
+     * The data are written to the given output stream as they are generated, i.e. the whole archive is never held in memory. The output stream is not
+     * closed.
+     *
+     * @param jsonDataProvider
+     * @param output
+     * @throws IOException
+     */
+    static void exportJsonData(DefaultJsonDataProvider jsonDataProvider, OutputStream output) throws IOException {
+        ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(output));
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        addEntry(out, writer, "deployment", jsonDataProvider.receiveDeployment());
+        addEntry(out, writer, "observers", jsonDataProvider.receiveObserversJson(0, 0, null, Representation.FULL.toString()));
+        addEntry(out, writer, "beans", jsonDataProvider.receiveBeansJson(0, 0, null, Representation.FULL.toString()));
+        addEntry(out, writer, "fired-events", jsonDataProvider.receiveEventsJson(0, 0, null));
+        addEntry(out, writer, "invocation-trees", jsonDataProvider.receiveInvocationsJson(0, 0, null, Representation.FULL.toString()));
+        addEntry(out, writer, "contexts", jsonDataProvider.receiveContexts());
         for (String contextKey : Components.INSPECTABLE_SCOPES.keySet()) {
-            addEntry(out, "context-" + contextKey, jsonDataProvider.receiveContext(contextKey));
+            addEntry(out, writer, "context-" + contextKey, jsonDataProvider.receiveContext(contextKey));
         }
         // Intentionally do not export contextual instances
-        out.close();
-        return bytes.toByteArray();
+        out.finish();
+        out.flush();
     }
 
-    private static void addEntry(ZipOutputStream out, String baseName, String data) throws IOException {
+    private static void addEntry(ZipOutputStream out, Writer writer, String baseName, String data) throws IOException {
         out.putNextEntry(new ZipEntry(baseName + ".json"));
-        out.write(data.getBytes(StandardCharsets.UTF_8));
+        writer.write(data);
+        writer.flush();
+    }
+
+    private static void addEntry(ZipOutputStream out, Writer writer, String baseName, JsonBuilder<?> data) throws IOException {
+        out.putNextEntry(new ZipEntry(baseName + ".json"));
+        data.appendTo(writer);
+        // all the buffered data must be written before the next entry is started
+        writer.flush();
     }
 
 }
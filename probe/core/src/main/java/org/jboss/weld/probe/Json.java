@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.probe;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import jakarta.enterprise.inject.Vetoed;
 
@@ -64,6 +66,7 @@ final class Json {
     }
 
     private static final char CHAR_QUOTATION_MARK = '"';
+    private static final char CHAR_REVERSE_SOLIDUS = '\\';
 
     private Json() {
     }
@@ -103,6 +106,18 @@ final class Json {
         return new JsonObjectBuilder(ignoreEmptyBuilders);
     }
 
+    /**
+     * The elements are only converted when the array is written, one at a time. Therefore, at most one element representation is held in memory when the
+     * array is written with {@link JsonBuilder#appendTo(Appendable)}.
+     *
+     * @param elements
+     * @param converter
+     * @return the new JSON array builder backed by the given elements
+     */
+    static <T> JsonLazyArrayBuilder<T> lazyArrayBuilder(Iterable<T> elements, Function<? super T, ? extends JsonBuilder<?>> converter) {
+        return new JsonLazyArrayBuilder<T>(elements, converter);
+    }
+
     /**
      *
      * @author Martin Kouba
@@ -131,7 +146,24 @@ final class Json {
          *
          * @return a string representation
          */
-        abstract String build();
+        String build() {
+            StringBuilder builder = new StringBuilder();
+            try {
+                appendTo(builder);
+            } catch (IOException e) {
+                // StringBuilder never throws IOException
+                throw new IllegalStateException(e);
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Writes the string representation to the given output. Nested builders are written directly, i.e. no intermediate strings are created.
+         *
+         * @param out
+         * @throws IOException
+         */
+        abstract void appendTo(Appendable out) throws IOException;
 
         /**
          *
@@ -218,9 +250,8 @@ final class Json {
             return isValuesEmpty(values);
         }
 
-        String build() {
-            StringBuilder builder = new StringBuilder();
-            builder.append(ARRAY_START);
+        void appendTo(Appendable out) throws IOException {
+            out.append(ARRAY_START);
             int idx = 0;
             for (ListIterator<Object> iterator = values.listIterator(); iterator.hasNext();) {
                 Object value = iterator.next();
@@ -228,12 +259,11 @@ final class Json {
                     continue;
                 }
                 if (++idx > 1) {
-                    builder.append(ENTRY_SEPARATOR);
+                    out.append(ENTRY_SEPARATOR);
                 }
-                appendValue(builder, value);
+                appendValue(out, value);
             }
-            builder.append(ARRAY_END);
-            return builder.toString();
+            out.append(ARRAY_END);
         }
 
         @Override
@@ -272,6 +302,11 @@ final class Json {
             return this;
         }
 
+        JsonObjectBuilder add(String name, JsonLazyArrayBuilder<?> value) {
+            addInternal(name, value);
+            return this;
+        }
+
         JsonObjectBuilder add(String name, Boolean value) {
             addInternal(name, value);
             return this;
@@ -305,9 +340,8 @@ final class Json {
             return isValuesEmpty(properties.values());
         }
 
-        String build() {
-            StringBuilder builder = new StringBuilder();
-            builder.append(OBJECT_START);
+        void appendTo(Appendable out) throws IOException {
+            out.append(OBJECT_START);
             int idx = 0;
             for (Iterator<Entry<String, Object>> iterator = properties.entrySet().iterator(); iterator.hasNext();) {
                 Entry<String, Object> entry = iterator.next();
@@ -315,14 +349,13 @@ final class Json {
                     continue;
                 }
                 if (++idx > 1) {
-                    builder.append(ENTRY_SEPARATOR);
+                    out.append(ENTRY_SEPARATOR);
                 }
-                appendStringValue(builder, entry.getKey());
-                builder.append(NAME_VAL_SEPARATOR);
-                appendValue(builder, entry.getValue());
+                appendStringValue(out, entry.getKey());
+                out.append(NAME_VAL_SEPARATOR);
+                appendValue(out, entry.getValue());
             }
-            builder.append(OBJECT_END);
-            return builder.toString();
+            out.append(OBJECT_END);
         }
 
         @Override
@@ -332,24 +365,67 @@ final class Json {
 
     }
 
-    static void appendValue(StringBuilder builder, Object value) {
-        if (value instanceof JsonObjectBuilder) {
-            builder.append(((JsonObjectBuilder) value).build());
-        } else if (value instanceof JsonArrayBuilder) {
-            builder.append(((JsonArrayBuilder) value).build());
+    /**
+     * JSON array builder which converts the elements when written.
+     *
+     * @param <T> Element type
+     * @see Json#lazyArrayBuilder(Iterable, Function)
+     */
+    static class JsonLazyArrayBuilder<T> extends JsonBuilder<JsonLazyArrayBuilder<T>> {
+
+        private final Iterable<T> elements;
+
+        private final Function<? super T, ? extends JsonBuilder<?>> converter;
+
+        private JsonLazyArrayBuilder(Iterable<T> elements, Function<? super T, ? extends JsonBuilder<?>> converter) {
+            super(false);
+            this.elements = elements;
+            this.converter = converter;
+        }
+
+        boolean isEmpty() {
+            return !elements.iterator().hasNext();
+        }
+
+        void appendTo(Appendable out) throws IOException {
+            out.append(ARRAY_START);
+            int idx = 0;
+            for (T element : elements) {
+                JsonBuilder<?> value = converter.apply(element);
+                if (value == null) {
+                    continue;
+                }
+                if (++idx > 1) {
+                    out.append(ENTRY_SEPARATOR);
+                }
+                value.appendTo(out);
+            }
+            out.append(ARRAY_END);
+        }
+
+        @Override
+        protected JsonLazyArrayBuilder<T> self() {
+            return this;
+        }
+
+    }
+
+    static void appendValue(Appendable out, Object value) throws IOException {
+        if (value instanceof JsonBuilder) {
+            ((JsonBuilder<?>) value).appendTo(out);
         } else if (value instanceof String) {
-            appendStringValue(builder, value.toString());
+            appendStringValue(out, value.toString());
         } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
-            builder.append(value.toString());
+            out.append(value.toString());
         } else {
             throw new IllegalStateException("Unsupported value type: " + value);
         }
     }
 
-    static void appendStringValue(StringBuilder builder, String value) {
-        builder.append(CHAR_QUOTATION_MARK);
-        builder.append(escape(value));
-        builder.append(CHAR_QUOTATION_MARK);
+    static void appendStringValue(Appendable out, String value) throws IOException {
+        out.append(CHAR_QUOTATION_MARK);
+        appendEscaped(out, value);
+        out.append(CHAR_QUOTATION_MARK);
     }
 
     /**
@@ -360,17 +436,26 @@ final class Json {
      * @see <a href="http://www.ietf.org/rfc/rfc4627.txt">http://www.ietf.org/rfc/rfc4627.txt</a>
      */
     static String escape(String value) {
-        StringBuilder builder = new StringBuilder();
+        StringBuilder builder = new StringBuilder(value.length());
+        try {
+            appendEscaped(builder, value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    private static void appendEscaped(Appendable out, String value) throws IOException {
         for (int i = 0; i < value.length(); i++) {
             char c = value.charAt(i);
-            String replacement = REPLACEMENTS.get(c);
+            // only look up the characters which may need to be replaced
+            String replacement = (c <= CONTROL_CHAR_END || c == CHAR_QUOTATION_MARK || c == CHAR_REVERSE_SOLIDUS) ? REPLACEMENTS.get(c) : null;
             if (replacement != null) {
-                builder.append(replacement);
+                out.append(replacement);
             } else {
-                builder.append(c);
+                out.append(c);
             }
         }
-        return builder.toString();
     }
 
 }
@@ -49,6 +49,9 @@ import org.jboss.weld.Container;
 import org.jboss.weld.bean.AbstractProducerBean;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.ExtensionBean;
+import org.jboss.weld.bean.builtin.InstanceImpl;
+import org.jboss.weld.bootstrap.BeanDependencyGraph;
+import org.jboss.weld.bootstrap.BeanDependencyGraph.Edge;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.bootstrap.spi.Metadata;
@@ -97,6 +100,15 @@ class Probe {
 
     private final Set<Bean<?>> unusedBeans;
 
+    // Built-in bean id -> built-in beans of all bean deployment archives
+    private final Map<String, List<Bean<?>>> builtinIdToBeans;
+
+    // Bean -> edges of the Instance injection points which fetch the bean lazily
+    private final Map<Bean<?>, List<Edge>> lazilyFetchedDependents;
+
+    // Only set if the dependency graph built during validation is available
+    private volatile BeanDependencyGraph dependencyGraph;
+
     // Monitoring data
 
     private final ConcurrentMap<Integer, Invocation> invocations;
@@ -129,6 +141,8 @@ class Probe {
         this.observerToId = new HashMap<ObserverMethod<?>, String>();
         this.beanToDeclaredProducers = SetMultimap.newSetMultimap();
         this.unusedBeans = new HashSet<>();
+        this.builtinIdToBeans = new HashMap<>();
+        this.lazilyFetchedDependents = new HashMap<>();
         this.bdaToManager = new HashMap<BeanDeploymentArchive, BeanManagerImpl>();
         this.beanComparator = new Comparator<Bean<?>>() {
             @Override
@@ -198,6 +212,7 @@ class Probe {
                 } else if (bean instanceof AbstractBuiltInBean<?>) {
                     // Built-in beans are identified by the set of types
                     String id = Components.getBuiltinBeanId((AbstractBuiltInBean<?>) bean);
+                    builtinIdToBeans.computeIfAbsent(id, key -> new ArrayList<>()).add(bean);
                     if (!idToBean.containsKey(id)) {
                         putBean(id, bean);
                     }
@@ -239,6 +254,12 @@ class Probe {
             }
         }
 
+        BeanDependencyGraph graph = beanManager.getServices().get(BeanDependencyGraph.class);
+        if (graph != null && graph.isComplete()) {
+            initLazilyFetchedDependents(graph);
+            dependencyGraph = graph;
+        }
+
         findUnusedBeans();
 
         initTs.set(System.currentTimeMillis());
@@ -496,6 +517,54 @@ class Probe {
         return unusedBeans.contains(bean);
     }
 
+    /**
+     *
+     * @return the dependency graph built during validation or <code>null</code> if not available
+     */
+    BeanDependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the beans represented by the given bean in the dependency graph
+     */
+    Collection<Bean<?>> getDependencyGraphNodes(Bean<?> bean) {
+        if (Components.isBuiltinBeanButNotExtension(bean)) {
+            return builtinIdToBeans.getOrDefault(Components.getBuiltinBeanId((AbstractBuiltInBean<?>) bean), Collections.singletonList(bean));
+        }
+        return Collections.singletonList(bean);
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the edges of the Instance injection points which fetch the given bean lazily
+     */
+    List<Edge> getLazilyFetchedDependents(Bean<?> bean) {
+        return lazilyFetchedDependents.getOrDefault(bean, Collections.emptyList());
+    }
+
+    private void initLazilyFetchedDependents(BeanDependencyGraph graph) {
+        for (List<Bean<?>> builtinBeans : builtinIdToBeans.values()) {
+            for (Bean<?> builtinBean : builtinBeans) {
+                if (!builtinBean.getBeanClass().equals(InstanceImpl.class)) {
+                    continue;
+                }
+                for (Edge edge : graph.getDependents(builtinBean)) {
+                    if (!Components.isDependencyOf(edge, this)) {
+                        continue;
+                    }
+                    Bean<?> lazilyFetched = Components.getInstanceResolvedBean(getBeanManager(edge.getDependent()), edge.getInjectionPoint());
+                    if (lazilyFetched != null) {
+                        lazilyFetchedDependents.computeIfAbsent(lazilyFetched, key -> new ArrayList<>()).add(edge);
+                    }
+                }
+            }
+        }
+    }
+
     private void putBean(ContextualStore contextualStore, Bean<?> bean) {
         putBean(Components.getId(contextualStore.putIfAbsent(bean)), bean);
     }
@@ -18,6 +18,7 @@ package org.jboss.weld.probe;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.management.ManagementFactory;
 import java.lang.reflect.Member;
@@ -63,6 +64,7 @@ import javax.management.NotCompliantMBeanException;
 import javax.management.ObjectName;
 
 import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bootstrap.BeanDependencyGraph;
 import org.jboss.weld.bootstrap.events.AbstractContainerEvent;
 import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeEventResolvable;
 import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeImpl;
@@ -95,7 +97,7 @@ public class ProbeExtension implements Extension {
 
     private final Probe probe;
 
-    private volatile JsonDataProvider jsonDataProvider;
+    private volatile DefaultJsonDataProvider jsonDataProvider;
 
     private volatile Pattern invocationMonitorExcludePattern;
 
@@ -108,6 +110,11 @@ public class ProbeExtension implements Extension {
     public void beforeBeanDiscovery(@Observes BeforeBeanDiscovery event, BeanManager beanManager) {
         ProbeLogger.LOG.developmentModeEnabled();
         BeanManagerImpl manager = BeanManagerProxy.unwrap(beanManager);
+        // Probe queries the dependencies between beans at runtime
+        BeanDependencyGraph dependencyGraph = manager.getServices().get(BeanDependencyGraph.class);
+        if (dependencyGraph != null) {
+            dependencyGraph.retainAfterBoot();
+        }
         manager.addValidationFailureCallback((exception, environment) -> {
             // Note that eventual problems are ignored during callback invocation
             probe.init(manager);
@@ -250,7 +257,7 @@ public class ProbeExtension implements Extension {
         return probe;
     }
 
-    JsonDataProvider getJsonDataProvider() {
+    DefaultJsonDataProvider getJsonDataProvider() {
         return jsonDataProvider;
     }
 
@@ -337,8 +344,8 @@ public class ProbeExtension implements Extension {
                 ProbeLogger.LOG.invalidExportPath(exportPath);
                 return;
             }
-            try {
-                Files.write(new File(exportPath, "weld-probe-export.zip").toPath(), Exports.exportJsonData(jsonDataProvider));
+            try (OutputStream out = Files.newOutputStream(new File(exportPath, "weld-probe-export.zip").toPath())) {
+                Exports.exportJsonData(jsonDataProvider, out);
             } catch (IOException e) {
                 ProbeLogger.LOG.unableToExportData(exportPath, e.getCause() != null ? e.getCause() : e);
                 ProbeLogger.LOG.catchingTrace(e);
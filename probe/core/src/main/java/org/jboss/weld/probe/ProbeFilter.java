@@ -82,7 +82,7 @@ public class ProbeFilter implements Filter {
 
     private Probe probe;
 
-    private JsonDataProvider jsonDataProvider;
+    private DefaultJsonDataProvider jsonDataProvider;
 
     private boolean skipMonitoring;
 
@@ -39,7 +39,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -68,6 +67,9 @@ final class Queries {
     }
 
     /**
+     * The data are filtered in a single pass and only the elements of the requested page are collected. If the requested page does not exist the first
+     * page is returned.
+     *
      * @param data
      * @param page
      * @param pageSize
@@ -75,38 +77,53 @@ final class Queries {
      * @return the page of data
      */
     static <T, F extends Filters<T>> Page<T> find(List<T> data, int page, int pageSize, F filters) {
-        if (filters != null && !filters.isEmpty()) {
+        boolean filtered = filters != null && !filters.isEmpty();
+        if (filtered) {
             ProbeLogger.LOG.filtersApplied(filters);
-            for (Iterator<T> iterator = data.iterator(); iterator.hasNext();) {
-                T element = iterator.next();
-                if (!filters.test(element)) {
-                    iterator.remove();
-                }
-            }
         }
         if (pageSize == 0) {
-            return new Page<T>(page, 1, data.size(), data);
-        } else {
-            if (data.isEmpty()) {
-                return new Page<T>(0, 0, 0, Collections.emptyList());
-            }
-            if ((page <= 0) || (page > 1 && (((page - 1) * pageSize) >= data.size()))) {
-                page = 1;
-            }
-            int lastIdx = data.size() / pageSize;
-            if (data.size() % pageSize > 0) {
-                lastIdx++;
+            if (filtered) {
+                List<T> matching = new ArrayList<>();
+                for (T element : data) {
+                    if (filters.test(element)) {
+                        matching.add(element);
+                    }
+                }
+                data = matching;
             }
-            if (lastIdx == 1) {
-                return new Page<T>(1, lastIdx, data.size(), data);
+            return new Page<T>(page, 1, data.size(), data);
+        }
+        if (page <= 0) {
+            page = 1;
+        }
+        long start = (page - 1L) * pageSize;
+        long end = start + pageSize;
+        List<T> firstPage = new ArrayList<>();
+        List<T> requestedPage = page == 1 ? firstPage : new ArrayList<>();
+        int total = 0;
+        for (T element : data) {
+            if (filtered && !filters.test(element)) {
+                continue;
             }
-            int start = (page - 1) * pageSize;
-            int end = start + pageSize;
-            if (end > data.size()) {
-                end = data.size();
+            if (total < pageSize) {
+                firstPage.add(element);
+            } else if (total >= start && total < end) {
+                requestedPage.add(element);
             }
-            return new Page<T>(page, lastIdx, data.size(), data.subList(start, end));
+            total++;
+        }
+        if (total == 0) {
+            return new Page<T>(0, 0, 0, Collections.emptyList());
+        }
+        if (requestedPage.isEmpty()) {
+            page = 1;
+            requestedPage = firstPage;
+        }
+        int lastIdx = total / pageSize;
+        if (total % pageSize > 0) {
+            lastIdx++;
         }
+        return new Page<T>(page, lastIdx, total, requestedPage);
     }
 
     /**
@@ -57,10 +57,10 @@ import java.util.List;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.enterprise.inject.Vetoed;
-import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.jboss.weld.probe.Json.JsonBuilder;
 import org.jboss.weld.probe.Queries.Filters;
 
 /**
@@ -76,7 +76,7 @@ enum Resource {
      */
     DEPLOYMENT("/deployment", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             append(resp, jsonDataProvider.receiveDeployment());
         }
     }),
@@ -85,8 +85,8 @@ enum Resource {
      */
     BEANS("/beans", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveBeans(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(resp, jsonDataProvider.receiveBeansJson(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
         }
     }),
     /**
@@ -94,7 +94,7 @@ enum Resource {
      */
     BEAN("/beans/{.+}", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             appendFound(resp, jsonDataProvider.receiveBean(resourcePathParts[1], Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENCIES)),
                     Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENTS))));
         }
@@ -104,7 +104,7 @@ enum Resource {
      */
     BEAN_INSTANCE("/beans/{.+}/instance", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             appendFound(resp, jsonDataProvider.receiveBeanInstance(resourcePathParts[1]));
         }
     }),
@@ -113,8 +113,8 @@ enum Resource {
      */
     OBSERVERS("/observers", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveObservers(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(resp, jsonDataProvider.receiveObserversJson(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
         }
     }),
     /**
@@ -122,7 +122,7 @@ enum Resource {
      */
     OBSERVER("/observers/{.+}", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             appendFound(resp, jsonDataProvider.receiveObserver(resourcePathParts[1]));
         }
     }),
@@ -131,7 +131,7 @@ enum Resource {
      */
     CONTEXTS("/contexts", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             append(resp, jsonDataProvider.receiveContexts());
         }
     }),
@@ -140,7 +140,7 @@ enum Resource {
      */
     CONTEXT("/contexts/{[a-zA-Z_0]+}", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             appendFound(resp, jsonDataProvider.receiveContext(resourcePathParts[1]));
         }
     }),
@@ -149,12 +149,12 @@ enum Resource {
      */
     INVOCATIONS("/invocations", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveInvocations(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(resp, jsonDataProvider.receiveInvocationsJson(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
         }
 
         @Override
-        protected void delete(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void delete(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             append(resp, jsonDataProvider.clearInvocations());
         }
@@ -164,7 +164,7 @@ enum Resource {
      */
     INVOCATION("/invocations/{.+}", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             appendFound(resp, jsonDataProvider.receiveInvocation(resourcePathParts[1]));
         }
     }),
@@ -173,26 +173,26 @@ enum Resource {
      */
     EVENTS("/events", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveEvents(getPage(req), getPageSize(req), req.getParameter(FILTERS)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(resp, jsonDataProvider.receiveEventsJson(getPage(req), getPageSize(req), req.getParameter(FILTERS)));
         }
 
         @Override
-        protected void delete(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void delete(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             append(resp, jsonDataProvider.clearEvents());
         }
     }),
     MONITORING_STATS("/monitoring", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             append(resp, jsonDataProvider.receiveMonitoringStats());
         }
     }),
     AVAILABLE_BEANS("/availableBeans", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveAvailableBeans(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(resp, jsonDataProvider.receiveAvailableBeansJson(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
         }
     }),
     /**
@@ -200,7 +200,7 @@ enum Resource {
      */
     CLIENT_RESOURCE("/client/{[a-zA-Z_0-9-]+\\.\\w+}", new Handler() {
         @Override
-        protected void handle(HttpMethod method, JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
+        protected void handle(HttpMethod method, DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
                 HttpServletResponse resp) throws IOException {
 
             if (!HttpMethod.GET.equals(method)) {
@@ -234,7 +234,7 @@ enum Resource {
     }),
     EXPORT("/export", new Handler() {
         @Override
-        protected void handle(HttpMethod method, JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
+        protected void handle(HttpMethod method, DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
                 HttpServletResponse resp) throws IOException {
             if (!HttpMethod.GET.equals(method)) {
                 resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
@@ -242,9 +242,7 @@ enum Resource {
             }
             setHeaders(resp, "application/zip");
             resp.setHeader("Content-disposition", "attachment; filename=\"weld-probe-export.zip\"");
-            ServletOutputStream out = resp.getOutputStream();
-            out.write(Exports.exportJsonData(jsonDataProvider));
-            out.flush();
+            Exports.exportJsonData(jsonDataProvider, resp.getOutputStream());
         }
     }),
     ;
@@ -260,7 +258,7 @@ enum Resource {
         this.handler = handler;
     }
 
-    protected void handle(HttpMethod method, JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+    protected void handle(HttpMethod method, DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
             throws IOException {
         handler.handle(method, jsonDataProvider, resourcePathParts, req, resp);
     }
@@ -356,7 +354,7 @@ enum Resource {
     abstract static class Handler implements Serializable {
         private static final long serialVersionUID = 5253937931990206305L;
 
-        protected void handle(HttpMethod method, JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
+        protected void handle(HttpMethod method, DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
                 HttpServletResponse resp) throws IOException {
             setHeaders(resp, getContentType());
             switch (method) {
@@ -377,21 +375,21 @@ enum Resource {
             }
         }
 
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
         }
 
-        protected void post(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void post(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
         }
 
-        protected void delete(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void delete(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
         }
 
-        protected void options(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void options(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             setCorsHeaders(resp);
         }
@@ -400,6 +398,10 @@ enum Resource {
             resp.getWriter().append(content);
         }
 
+        protected void append(HttpServletResponse resp, JsonBuilder<?> content) throws IOException {
+            content.appendTo(resp.getWriter());
+        }
+
         protected void appendFound(HttpServletResponse resp, String content) throws IOException {
             if (content != null) {
                 resp.getWriter().append(content);
@@ -18,6 +18,12 @@ package org.jboss.weld.probe;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.jboss.weld.probe.Json.JsonArrayBuilder;
 import org.jboss.weld.probe.Json.JsonObjectBuilder;
@@ -63,4 +69,15 @@ public class JsonTest {
         assertEquals("{\"foo\":\"bar=\\\"baz\\u000a and \\u0009 F\\\"\"}", Json.objectBuilder().add("foo", "bar=\"baz\n and \t F\"").build());
     }
 
+    @Test
+    public void testLazyArrayBuilder() throws IOException {
+        JsonObjectBuilder builder = Json.objectBuilder().add("total", 2).add("data",
+                Json.lazyArrayBuilder(Arrays.asList("foo", "b\"ar"), (String value) -> Json.objectBuilder().add("name", value)));
+        StringWriter writer = new StringWriter();
+        builder.appendTo(writer);
+        assertEquals("{\"total\":2,\"data\":[{\"name\":\"foo\"},{\"name\":\"b\\\"ar\"}]}", writer.toString());
+        assertEquals(writer.toString(), builder.build());
+        assertTrue(Json.lazyArrayBuilder(Collections.emptyList(), (Object value) -> Json.objectBuilder()).isEmpty());
+    }
+
 }
@@ -19,9 +19,14 @@ package org.jboss.weld.probe;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.weld.exceptions.IllegalArgumentException;
+import org.jboss.weld.probe.Queries.Filters;
+import org.jboss.weld.probe.Queries.Page;
 import org.junit.Test;
 
 public class QueriesTest {
@@ -46,4 +51,54 @@ public class QueriesTest {
         }
     }
 
+    @Test
+    public void testFind() {
+        List<Integer> data = Arrays.asList(1, 2, 3, 4, 5, 6, 7);
+        Page<Integer> page = Queries.find(data, 2, 3, null);
+        assertEquals(2, page.getIdx());
+        assertEquals(3, page.getLastIdx());
+        assertEquals(7, page.getTotal());
+        assertEquals(Arrays.asList(4, 5, 6), page.getData());
+        page = Queries.find(data, 3, 3, null);
+        assertEquals(Arrays.asList(7), page.getData());
+        // non-existent page
+        page = Queries.find(data, 4, 3, null);
+        assertEquals(1, page.getIdx());
+        assertEquals(Arrays.asList(1, 2, 3), page.getData());
+        // filtered
+        page = Queries.find(data, 2, 2, new OddFilters());
+        assertEquals(2, page.getLastIdx());
+        assertEquals(4, page.getTotal());
+        assertEquals(Arrays.asList(5, 7), page.getData());
+        // no pagination
+        page = Queries.find(data, 0, 0, new OddFilters());
+        assertEquals(1, page.getLastIdx());
+        assertEquals(Arrays.asList(1, 3, 5, 7), page.getData());
+        page = Queries.find(Collections.<Integer> emptyList(), 1, 3, null);
+        assertEquals(0, page.getTotal());
+        assertEquals(0, page.getIdx());
+    }
+
+    private static class OddFilters extends Filters<Integer> {
+
+        OddFilters() {
+            super(null);
+        }
+
+        @Override
+        boolean test(Integer element) {
+            return element % 2 == 1;
+        }
+
+        @Override
+        void processFilter(String name, String value) {
+        }
+
+        @Override
+        boolean isEmpty() {
+            return false;
+        }
+
+    }
+
 }
@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.bootstrap.footprint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that the metadata released in the reduced footprint mode are recomputed correctly at runtime.
+ */
+@RunWith(Arquillian.class)
+public class ReducedFootprintTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ReducedFootprintTest.class))
+                .addPackage(ReducedFootprintTest.class.getPackage())
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.REDUCED_FOOTPRINT.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    BeanManager beanManager;
+
+    @Inject
+    Instance<Object> instance;
+
+    @Test
+    public void testInjection() {
+        assertEquals("pong", instance.select(Alpha.class).get().ping());
+    }
+
+    @Test
+    public void testDynamicLookup() {
+        assertTrue(instance.select(Beta.class).isUnsatisfied());
+        assertEquals("pong", instance.select(Beta.class, Green.Literal.INSTANCE).get().ping());
+    }
+
+    @Test
+    public void testAnnotationModels() {
+        assertTrue(beanManager.isNormalScope(ApplicationScoped.class));
+        assertFalse(beanManager.isNormalScope(Dependent.class));
+        assertTrue(beanManager.isQualifier(Green.class));
+        assertFalse(beanManager.isStereotype(Green.class));
+    }
+
+}
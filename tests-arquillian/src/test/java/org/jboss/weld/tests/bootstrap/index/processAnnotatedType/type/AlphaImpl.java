@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.tests.bootstrap.index.processAnnotatedType.type;
 
+@Deprecated
 public class AlphaImpl extends AlphaAbstract {
 
 }
@@ -19,6 +19,7 @@ package org.jboss.weld.tests.bootstrap.index.processAnnotatedType.type;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+import jakarta.enterprise.inject.spi.WithAnnotations;
 
 public class ProcessAnnotatedTypeObservers implements Extension {
 
@@ -88,6 +89,24 @@ public class ProcessAnnotatedTypeObservers implements Extension {
     void o205(@Observes ProcessAnnotatedType<?> event) {
     }
 
+    /*
+     * Parameterized bounds - checked once the class is loaded
+     */
+    <T extends Alpha2Interface<Number>> void o301(@Observes ProcessAnnotatedType<T> event) {
+    }
+
+    void o302(@Observes ProcessAnnotatedType<? extends Alpha2Interface<?>> event) {
+    }
+
+    <T extends ProcessAnnotatedType<? extends AlphaAbstract>> void o303(@Observes T event) {
+    }
+
+    /*
+     * Raw type with required annotations
+     */
+    void o304(@Observes @WithAnnotations(Deprecated.class) ProcessAnnotatedType event) {
+    }
+
     <T> void o401(@Observes T event) {
     }
 
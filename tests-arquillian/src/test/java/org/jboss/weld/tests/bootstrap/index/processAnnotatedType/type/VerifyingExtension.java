@@ -48,7 +48,7 @@ public class VerifyingExtension implements Extension {
     private boolean initialized;
     private ClassFileServices classFileServices;
 
-    void init(@Observes BeforeBeanDiscovery event, BeanManager manager) throws Exception {
+    void init(@Observes BeforeBeanDiscovery event, BeanManager manager) {
         ServiceRegistry services = BeanManagerProxy.unwrap(manager).getServices();
         this.classFileServices = services.get(ClassFileServices.class);
         this.resolver = new FastProcessAnnotatedTypeResolver(services.get(GlobalObserverNotifierService.class).getAllObserverMethods());
@@ -68,7 +68,8 @@ public class VerifyingExtension implements Extension {
     private void compareResult(Class<?> javaClass) {
         @SuppressWarnings({ "rawtypes", "unchecked" })
         Set<?> expected = new HashSet(resolve(javaClass));
-        Set<?> actual = resolver.resolveProcessAnnotatedTypeObservers(classFileServices, javaClass.getName());
+        Set<?> actual = resolver.checkObservedTypes(resolver.resolveProcessAnnotatedTypeObservers(classFileServices, javaClass.getName()),
+                transformer.getBackedAnnotatedType(javaClass, "foo"));
         if (!expected.equals(actual)) {
             Set<?> notResolved = new HashSet<Object>(expected);
             notResolved.removeAll(actual);
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.propagation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.weld.contexts.ContextSnapshot;
+import org.jboss.weld.manager.api.WeldManager;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test verifies that a {@link ContextSnapshot} shares the contextual instances of the request and session contexts with the stages of a
+ * {@link CompletionStage} pipeline executed on another thread.
+ */
+@RunWith(Arquillian.class)
+public class ContextSnapshotTest {
+
+    @Deployment
+    public static WebArchive getDeployment() {
+        return ShrinkWrap.create(WebArchive.class, Utils.getDeploymentNameAsHash(ContextSnapshotTest.class, Utils.ARCHIVE_TYPE.WAR))
+            .addPackage(ContextSnapshotTest.class.getPackage())
+            .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    WeldManager manager;
+
+    @Inject
+    ReqScopedBean reqScopedBean;
+
+    @Inject
+    SessionScopedBean sessionScopedBean;
+
+    @Test
+    public void testInstancesShared() throws Exception {
+        reqScopedBean.incrementCounter();
+        sessionScopedBean.incrementCounter();
+        ContextSnapshot snapshot = ContextSnapshot.capture(manager);
+        Assert.assertFalse(snapshot.isEmpty());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletionStage<Integer> stage = snapshot.propagate(CompletableFuture.supplyAsync(snapshot.wrap(() -> {
+                reqScopedBean.incrementCounter();
+                return reqScopedBean.getValue();
+            }), executor));
+            int sessionValue = stage.thenApplyAsync((value) -> {
+                Assert.assertEquals(2, value.intValue());
+                sessionScopedBean.incrementCounter();
+                return sessionScopedBean.getValue();
+            }, executor).toCompletableFuture().get();
+            Assert.assertEquals(2, sessionValue);
+            // the instances were not copied
+            Assert.assertEquals(2, reqScopedBean.getValue());
+            Assert.assertEquals(2, sessionScopedBean.getValue());
+            // the contexts are not active on the other thread once the stage is completed
+            Assert.assertFalse(executor.submit(() -> manager.isContextActive(RequestScoped.class)).get());
+            Assert.assertFalse(executor.submit(() -> manager.isContextActive(SessionScoped.class)).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2020, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap.closure;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.arquillian.container.weld.embedded.mock.BeanDeploymentArchiveImpl;
+import org.jboss.arquillian.container.weld.embedded.mock.FlatDeployment;
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.collections.ImmutableHashSet;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Guards the memory consumed by bean type closures: equal closures must be shared across beans and small closures must not use the hash-based
+ * representation.
+ */
+public class TypeClosureFootprintTest {
+
+    private TestContainer container;
+
+    private BeanManagerImpl beanManager;
+
+    @BeforeClass
+    public void init() {
+        BeanDeploymentArchive archive = new BeanDeploymentArchiveImpl(Producers.class);
+        container = new TestContainer(new FlatDeployment(archive));
+        container.startContainer();
+        beanManager = (BeanManagerImpl) container.getBeanManager(archive);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanup() {
+        container.stopContainer();
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testEqualTypeClosuresShared() {
+        Set<Bean<?>> beans = beanManager.getBeans(new TypeLiteral<ArrayList<String>>() {
+        }.getType(), Any.Literal.INSTANCE);
+        assertEquals(beans.size(), 3);
+        Set<Type> types = beans.iterator().next().getTypes();
+        for (Bean<?> bean : beans) {
+            assertSame(bean.getTypes(), types);
+        }
+    }
+
+    @Test
+    public void testTypeClosuresFootprint() {
+        Map<Set<Type>, Boolean> instances = new IdentityHashMap<>();
+        Set<Set<Type>> distinct = new HashSet<>();
+        for (Bean<?> bean : beanManager.getBeans()) {
+            if (!Producers.class.getPackage().equals(bean.getBeanClass().getPackage())) {
+                // built-in beans
+                continue;
+            }
+            Set<Type> types = bean.getTypes();
+            instances.put(types, Boolean.TRUE);
+            distinct.add(types);
+            if (types.size() <= 16) {
+                // small closures use the compact representation without any empty slots
+                assertFalse(types instanceof ImmutableHashSet, bean + " uses a hash-based type closure");
+            }
+        }
+        // every distinct type closure is retained exactly once
+        assertEquals(instances.size(), distinct.size());
+        assertEquals(distinct.size(), 2);
+    }
+
+}